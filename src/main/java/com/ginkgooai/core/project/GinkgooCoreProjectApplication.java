@@ -5,12 +5,14 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Import;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 
 import com.ginkgooai.core.project.config.security.SecurityConfig;
 
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
 @EnableFeignClients
 public class GinkgooCoreProjectApplication {
 
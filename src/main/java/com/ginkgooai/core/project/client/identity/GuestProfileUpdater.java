@@ -0,0 +1,72 @@
+package com.ginkgooai.core.project.client.identity;
+
+import com.ginkgooai.core.common.enums.Role;
+import com.ginkgooai.core.project.client.identity.dto.PatchUserRequest;
+import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Brings the names of guest users in line with the names they were shared under.
+ *
+ * <p>
+ * Runs off the request thread: sharing does not depend on the names being patched, so
+ * callers should not wait for the identity service. Registered users (with
+ * {@link Role#ROLE_USER}) manage their own names and are never patched.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuestProfileUpdater {
+
+	private final IdentityClient identityClient;
+
+	private final UserDirectory userDirectory;
+
+	/**
+	 * Patch the first and last name of each guest user whose name differs.
+	 * @param namesByUserId desired names keyed by user id
+	 */
+	@Async
+	public void updateNames(Map<String, PatchUserRequest> namesByUserId) {
+		if (namesByUserId.isEmpty()) {
+			return;
+		}
+
+		List<UserInfoResponse> users;
+		try {
+			users = identityClient.getUsersByIds(new ArrayList<>(namesByUserId.keySet())).getBody();
+		}
+		catch (Exception e) {
+			log.error("Error fetching guest users {}: {}", namesByUserId.keySet(), e.getMessage());
+			return;
+		}
+		if (users == null) {
+			return;
+		}
+
+		for (UserInfoResponse user : users) {
+			PatchUserRequest names = namesByUserId.get(user.getId());
+			if (names == null || (user.getRoles() != null && user.getRoles().contains(Role.ROLE_USER.name()))
+					|| (Objects.equals(user.getFirstName(), names.getFirstName())
+							&& Objects.equals(user.getLastName(), names.getLastName()))) {
+				continue;
+			}
+			try {
+				identityClient.patchUserInfo(user.getId(), names);
+				userDirectory.evict(user.getId());
+			}
+			catch (Exception e) {
+				log.error("Error updating name of guest user {}: {}", user.getId(), e.getMessage());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,249 @@
+package com.ginkgooai.core.project.client.identity;
+
+import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
+import com.ginkgooai.core.project.component.batch.BatchLoader;
+import com.ginkgooai.core.project.config.properties.UserDirectoryProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through directory of identity users shared by all services that render user
+ * information next to comments, notes and shares.
+ *
+ * <p>
+ * Lookups are served from a bounded in-process cache first, then from a shared Redis
+ * tier, and only the remaining ids are requested from the identity service through the
+ * shared {@link BatchLoader}, which chunks them and coalesces them with concurrent
+ * requests. Evictions are broadcast on a Redis topic, so that every instance drops the
+ * user from its in-process cache; an instance that misses the message while Redis is
+ * unavailable serves the stale user for at most {@code app.user-directory.local-ttl}.
+ */
+@Slf4j
+@Component
+public class UserDirectory {
+
+	private static final String USER_KEY_PREFIX = "identity:user:";
+
+	private static final String EVICTION_TOPIC = "identity:user:evictions";
+
+	private static final String SEPARATOR = "|";
+
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final BatchLoader<String, UserInfoResponse> userBatchLoader;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+
+	private final RedissonClient redissonClient;
+
+	private final UserDirectoryProperties properties;
+
+	private final Cache<String, UserInfoResponse> localCache;
+
+	private final Counter localHits;
+
+	private final Counter redisHits;
+
+	private final Counter misses;
+
+	private final Timer remoteLatency;
+
+	public UserDirectory(BatchLoader<String, UserInfoResponse> userBatchLoader,
+			RedisTemplate<String, Object> redisTemplate, RedissonClient redissonClient,
+			UserDirectoryProperties properties, MeterRegistry meterRegistry) {
+		this.userBatchLoader = userBatchLoader;
+		this.redisTemplate = redisTemplate;
+		this.redissonClient = redissonClient;
+		this.properties = properties;
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(properties.getLocalMaximumSize())
+			.expireAfterWrite(properties.getLocalTtl())
+			.build();
+
+		this.localHits = Counter.builder("user.directory.lookups")
+			.tag("result", "local_hit")
+			.register(meterRegistry);
+		this.redisHits = Counter.builder("user.directory.lookups")
+			.tag("result", "redis_hit")
+			.register(meterRegistry);
+		this.misses = Counter.builder("user.directory.lookups").tag("result", "miss").register(meterRegistry);
+		this.remoteLatency = Timer.builder("user.directory.remote.latency").register(meterRegistry);
+		Gauge.builder("user.directory.local.size", localCache, Cache::estimatedSize).register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		try {
+			evictionTopic().addListener(String.class, (channel, message) -> onRemoteEviction(message));
+		}
+		catch (RuntimeException e) {
+			log.warn("Could not subscribe to user evictions, in-process entries expire after {}",
+					properties.getLocalTtl(), e);
+		}
+	}
+
+	/**
+	 * Resolve the given user ids. Blank and duplicate ids are ignored, and users that
+	 * cannot be resolved are simply left out of the result.
+	 * @param userIds user ids to resolve
+	 * @return the resolved users, in no particular order
+	 */
+	public List<UserInfoResponse> getUsers(Collection<String> userIds) {
+		return new ArrayList<>(getUserMap(userIds).values());
+	}
+
+	/**
+	 * Resolve the given user ids into a map keyed by user id.
+	 * @param userIds user ids to resolve
+	 * @return map of user id to user, containing only the users that could be resolved
+	 */
+	public Map<String, UserInfoResponse> getUserMap(Collection<String> userIds) {
+		if (ObjectUtils.isEmpty(userIds)) {
+			return new HashMap<>();
+		}
+
+		Set<String> distinctUserIds = userIds.stream()
+			.filter(id -> id != null && !id.isEmpty())
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+
+		Map<String, UserInfoResponse> users = new HashMap<>(localCache.getAllPresent(distinctUserIds));
+		localHits.increment(users.size());
+
+		List<String> remaining = distinctUserIds.stream().filter(id -> !users.containsKey(id)).toList();
+		if (remaining.isEmpty()) {
+			return users;
+		}
+
+		Map<String, UserInfoResponse> redisUsers = getFromRedis(remaining);
+		redisHits.increment(redisUsers.size());
+		localCache.putAll(redisUsers);
+		users.putAll(redisUsers);
+
+		remaining = remaining.stream().filter(id -> !users.containsKey(id)).toList();
+		if (remaining.isEmpty()) {
+			return users;
+		}
+
+		misses.increment(remaining.size());
+		Map<String, UserInfoResponse> remoteUsers = getFromIdentity(remaining);
+		localCache.putAll(remoteUsers);
+		putToRedis(remoteUsers.values());
+		users.putAll(remoteUsers);
+
+		return users;
+	}
+
+	/**
+	 * Resolve a single user id.
+	 * @param userId user id to resolve
+	 * @return the user, or empty if it cannot be resolved
+	 */
+	public Optional<UserInfoResponse> getUser(String userId) {
+		return Optional.ofNullable(getUserMap(Collections.singletonList(userId)).get(userId));
+	}
+
+	/**
+	 * Drop a user from both cache tiers on every instance, typically after the user has
+	 * been patched in the identity service.
+	 * @param userId user id to evict
+	 */
+	public void evict(String userId) {
+		if (ObjectUtils.isEmpty(userId)) {
+			return;
+		}
+		localCache.invalidate(userId);
+		try {
+			redisTemplate.delete(USER_KEY_PREFIX + userId);
+		}
+		catch (DataAccessException e) {
+			log.warn("Failed to evict user {} from redis: {}", userId, e.getMessage());
+		}
+		try {
+			evictionTopic().publish(instanceId + SEPARATOR + userId);
+		}
+		catch (RuntimeException e) {
+			log.warn("Could not broadcast eviction of user {}: {}", userId, e.getMessage());
+		}
+	}
+
+	private void onRemoteEviction(String message) {
+		String[] parts = message.split("\\" + SEPARATOR, 2);
+		if (parts.length == 2 && !instanceId.equals(parts[0])) {
+			localCache.invalidate(parts[1]);
+		}
+	}
+
+	private RTopic evictionTopic() {
+		return redissonClient.getTopic(EVICTION_TOPIC, StringCodec.INSTANCE);
+	}
+
+	private Map<String, UserInfoResponse> getFromRedis(List<String> userIds) {
+		Map<String, UserInfoResponse> users = new HashMap<>();
+		try {
+			List<Object> values = redisTemplate.opsForValue()
+				.multiGet(userIds.stream().map(id -> USER_KEY_PREFIX + id).toList());
+			if (values == null) {
+				return users;
+			}
+			for (int i = 0; i < userIds.size() && i < values.size(); i++) {
+				if (values.get(i) instanceof UserInfoResponse user) {
+					users.put(userIds.get(i), user);
+				}
+			}
+		}
+		catch (DataAccessException e) {
+			log.warn("Failed to read users from redis, falling back to identity service: {}", e.getMessage());
+		}
+		return users;
+	}
+
+	private void putToRedis(Collection<UserInfoResponse> users) {
+		if (users.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+					users.forEach(user -> ops.opsForValue()
+						.set(USER_KEY_PREFIX + user.getId(), user, properties.getRedisTtl()));
+					return null;
+				}
+			});
+		}
+		catch (DataAccessException e) {
+			log.warn("Failed to write users to redis: {}", e.getMessage());
+		}
+	}
+
+	private Map<String, UserInfoResponse> getFromIdentity(List<String> userIds) {
+		Timer.Sample sample = Timer.start();
+		try {
+			return userBatchLoader.loadAll(userIds);
+		}
+		finally {
+			sample.stop(remoteLatency);
+		}
+	}
+
+}
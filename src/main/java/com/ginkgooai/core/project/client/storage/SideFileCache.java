@@ -0,0 +1,140 @@
+package com.ginkgooai.core.project.client.storage;
+
+import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
+import com.ginkgooai.core.project.component.batch.BatchLoader;
+import com.ginkgooai.core.project.component.concurrent.ContextSnapshot;
+import com.ginkgooai.core.project.config.properties.SideFileCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Metadata cache for role side files, keyed by storage file id.
+ *
+ * <p>
+ * Entries past {@link SideFileCacheProperties#getRefreshAfter()} keep being served while
+ * they are refreshed in the background. Reads of files that are not cached yet wait at
+ * most {@link SideFileCacheProperties#getColdLoadWait()} and then return the files that
+ * are available, leaving the rest to finish loading in the background. Entries are
+ * warmed when a role's sides are set and invalidated when they change.
+ */
+@Slf4j
+@Component
+public class SideFileCache {
+
+	private final SideFileCacheProperties properties;
+
+	private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final AsyncLoadingCache<String, CloudFileResponse> cache;
+
+	public SideFileCache(BatchLoader<String, CloudFileResponse> fileBatchLoader, SideFileCacheProperties properties,
+			MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.getMaximumSize())
+			.refreshAfterWrite(properties.getRefreshAfter())
+			.expireAfterWrite(properties.getExpireAfter())
+			.executor(ContextSnapshot.wrap(loadExecutor))
+			.recordStats()
+			.buildAsync(new CacheLoader<>() {
+				@Override
+				public CloudFileResponse load(String fileId) {
+					return fileBatchLoader.load(fileId);
+				}
+
+				@Override
+				public Map<String, CloudFileResponse> loadAll(Set<? extends String> fileIds) {
+					return fileBatchLoader.loadAll(new ArrayList<>(fileIds));
+				}
+			});
+		CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "role-side-files");
+	}
+
+	/**
+	 * Resolve side files by id. Files that are not cached and cannot be loaded within
+	 * the cold-load budget are left out of the result.
+	 * @param fileIds file ids to resolve
+	 * @return map of file id to file metadata
+	 */
+	public Map<String, CloudFileResponse> getAll(Collection<String> fileIds) {
+		List<String> ids = distinct(fileIds);
+		if (ids.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		CompletableFuture<Map<String, CloudFileResponse>> future = cache.getAll(ids);
+		try {
+			return new HashMap<>(future.get(properties.getColdLoadWait().toMillis(), TimeUnit.MILLISECONDS));
+		}
+		catch (TimeoutException e) {
+			log.debug("Side files {} not loaded within {}, returning cached entries", ids,
+					properties.getColdLoadWait());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			log.error("Error fetching side files: {}", e.getMessage());
+		}
+		return getPresent(ids);
+	}
+
+	/**
+	 * Start loading the given files in the background, if they are not cached yet.
+	 * @param fileIds file ids to warm
+	 */
+	public void warm(Collection<String> fileIds) {
+		List<String> ids = distinct(fileIds);
+		if (!ids.isEmpty()) {
+			cache.getAll(ids);
+		}
+	}
+
+	/**
+	 * Drop the given files from the cache.
+	 * @param fileIds file ids to invalidate
+	 */
+	public void invalidate(Collection<String> fileIds) {
+		List<String> ids = distinct(fileIds);
+		if (!ids.isEmpty()) {
+			cache.synchronous().invalidateAll(ids);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		loadExecutor.shutdownNow();
+	}
+
+	private Map<String, CloudFileResponse> getPresent(List<String> ids) {
+		Map<String, CloudFileResponse> files = new HashMap<>();
+		for (String id : ids) {
+			CompletableFuture<CloudFileResponse> file = cache.getIfPresent(id);
+			if (file != null && file.isDone() && !file.isCompletedExceptionally()) {
+				CloudFileResponse value = file.getNow(null);
+				if (value != null) {
+					files.put(id, value);
+				}
+			}
+		}
+		return files;
+	}
+
+	private static List<String> distinct(Collection<String> fileIds) {
+		if (ObjectUtils.isEmpty(fileIds)) {
+			return Collections.emptyList();
+		}
+		return fileIds.stream().filter(id -> !ObjectUtils.isEmpty(id)).distinct().toList();
+	}
+
+}
@@ -0,0 +1,256 @@
+package com.ginkgooai.core.project.component.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent key lookups against a remote batch endpoint.
+ *
+ * <p>
+ * Keys requested within the same batching window are merged into a single call of the
+ * batch function, and a key that is already in flight is single-flighted onto the
+ * pending result instead of being requested again. The first caller to open a batch
+ * acts as its leader: it waits for the window (or until the batch is full) and then
+ * executes the call on its own thread, so the caller's security context, including on
+ * threads forked with {@code ContextSnapshot}, is still available to the Feign
+ * interceptors. Since the leader's
+ * credentials authorize the whole batch, keys are only coalesced between callers of the
+ * same scope, typically the same credentials; callers of different scopes get separate
+ * batches and never share results.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+	private final String name;
+
+	private final Function<List<K>, Map<K, V>> batchFunction;
+
+	private final Duration window;
+
+	private final int maxBatchSize;
+
+	private final Duration timeout;
+
+	private final Supplier<?> scopeSupplier;
+
+	private final Object lock = new Object();
+
+	private final Map<Object, Scope<K, V>> scopes = new HashMap<>();
+
+	private final Counter requestedKeys;
+
+	private final Counter coalescedKeys;
+
+	private final Counter errors;
+
+	private final DistributionSummary batchSize;
+
+	private final Timer callLatency;
+
+	public BatchLoader(String name, Function<List<K>, Map<K, V>> batchFunction, Duration window, int maxBatchSize,
+			Duration timeout, MeterRegistry meterRegistry) {
+		this(name, batchFunction, window, maxBatchSize, timeout, () -> null, meterRegistry);
+	}
+
+	/**
+	 * @param scopeSupplier resolves the scope of the calling thread, such as its
+	 * credentials; only callers with equal scopes are coalesced, and a null scope is a
+	 * scope of its own
+	 */
+	public BatchLoader(String name, Function<List<K>, Map<K, V>> batchFunction, Duration window, int maxBatchSize,
+			Duration timeout, Supplier<?> scopeSupplier, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.batchFunction = batchFunction;
+		this.window = window;
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.timeout = timeout;
+		this.scopeSupplier = scopeSupplier;
+
+		this.requestedKeys = Counter.builder("batch.loader.keys")
+			.tag("loader", name)
+			.tag("result", "requested")
+			.register(meterRegistry);
+		this.coalescedKeys = Counter.builder("batch.loader.keys")
+			.tag("loader", name)
+			.tag("result", "coalesced")
+			.register(meterRegistry);
+		this.errors = Counter.builder("batch.loader.errors").tag("loader", name).register(meterRegistry);
+		this.batchSize = DistributionSummary.builder("batch.loader.batch.size")
+			.tag("loader", name)
+			.register(meterRegistry);
+		this.callLatency = Timer.builder("batch.loader.call.latency").tag("loader", name).register(meterRegistry);
+	}
+
+	/**
+	 * Load a single key.
+	 * @param key key to load
+	 * @return the value, or {@code null} if the batch function did not return one or the
+	 * call failed
+	 */
+	public V load(K key) {
+		return loadAll(Collections.singletonList(key)).get(key);
+	}
+
+	/**
+	 * Load the given keys, joining batches already in flight where possible. Keys whose
+	 * batch failed or timed out are left out of the result.
+	 * @param keys keys to load
+	 * @return map of key to value for every key that could be loaded
+	 */
+	public Map<K, V> loadAll(Collection<K> keys) {
+		Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+		List<Batch<K, V>> ledBatches = new ArrayList<>();
+		Object scopeKey = scopeSupplier.get();
+
+		synchronized (lock) {
+			Scope<K, V> scope = scopes.computeIfAbsent(scopeKey, Scope::new);
+			for (K key : keys) {
+				if (key == null || futures.containsKey(key)) {
+					continue;
+				}
+				requestedKeys.increment();
+
+				CompletableFuture<V> future = scope.inFlight.get(key);
+				if (future != null) {
+					coalescedKeys.increment();
+					futures.put(key, future);
+					continue;
+				}
+
+				if (scope.pending == null) {
+					scope.pending = new Batch<>(scope);
+					ledBatches.add(scope.pending);
+				}
+				future = new CompletableFuture<>();
+				scope.inFlight.put(key, future);
+				scope.pending.futures.put(key, future);
+				futures.put(key, future);
+
+				if (scope.pending.futures.size() >= maxBatchSize) {
+					scope.pending.full.countDown();
+					scope.pending = null;
+				}
+			}
+			scope.removeIfIdle(scopes);
+		}
+
+		for (Batch<K, V> batch : ledBatches) {
+			dispatch(batch);
+		}
+
+		Map<K, V> result = new HashMap<>();
+		long deadline = System.nanoTime() + timeout.toNanos();
+		futures.forEach((key, future) -> {
+			try {
+				V value = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				if (value != null) {
+					result.put(key, value);
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException | TimeoutException e) {
+				log.debug("[{}] Key {} could not be loaded: {}", name, key, e.getMessage());
+			}
+		});
+		return result;
+	}
+
+	private void dispatch(Batch<K, V> batch) {
+		try {
+			if (!window.isZero()) {
+				batch.full.await(window.toNanos(), TimeUnit.NANOSECONDS);
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			synchronized (lock) {
+				if (batch.scope.pending == batch) {
+					batch.scope.pending = null;
+				}
+			}
+		}
+
+		List<K> keys = new ArrayList<>(batch.futures.keySet());
+		batchSize.record(keys.size());
+
+		Map<K, V> values = null;
+		Exception failure = null;
+		Timer.Sample sample = Timer.start();
+		try {
+			values = batchFunction.apply(keys);
+		}
+		catch (Exception e) {
+			failure = e;
+			errors.increment();
+			log.error("[{}] Batch load of {} keys failed: {}", name, keys.size(), e.getMessage());
+		}
+		finally {
+			sample.stop(callLatency);
+		}
+
+		synchronized (lock) {
+			batch.futures.forEach(batch.scope.inFlight::remove);
+			batch.scope.removeIfIdle(scopes);
+		}
+
+		for (Map.Entry<K, CompletableFuture<V>> entry : batch.futures.entrySet()) {
+			if (failure != null) {
+				entry.getValue().completeExceptionally(failure);
+			}
+			else {
+				entry.getValue().complete(values == null ? null : values.get(entry.getKey()));
+			}
+		}
+	}
+
+	private static final class Scope<K, V> {
+
+		private final Object key;
+
+		private final Map<K, CompletableFuture<V>> inFlight = new HashMap<>();
+
+		private Batch<K, V> pending;
+
+		private Scope(Object key) {
+			this.key = key;
+		}
+
+		private void removeIfIdle(Map<Object, Scope<K, V>> scopes) {
+			if (inFlight.isEmpty() && pending == null) {
+				scopes.remove(key, this);
+			}
+		}
+
+	}
+
+	private static final class Batch<K, V> {
+
+		private final Scope<K, V> scope;
+
+		private final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+
+		private final CountDownLatch full = new CountDownLatch(1);
+
+		private Batch(Scope<K, V> scope) {
+			this.scope = scope;
+		}
+
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.ginkgooai.core.project.component.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Runs one task per item on virtual threads, with at most a fixed number of tasks in
+ * flight at a time.
+ *
+ * <p>
+ * Intended for bulk operations that call a remote service once per item, where running
+ * the calls one after another is too slow but firing all of them at once would overload
+ * the remote side. Tasks carry the caller's context (see {@link ContextSnapshot}). A
+ * failing task does not affect the others; its error is reported in its
+ * {@link Outcome}.
+ */
+@Slf4j
+public final class BoundedParallel {
+
+	private BoundedParallel() {
+	}
+
+	/**
+	 * Apply the task to every item and wait for all of them to finish.
+	 * @param items items to process
+	 * @param concurrency maximum number of tasks running at the same time
+	 * @param task task to apply to each item
+	 * @return one outcome per item, in the order of the items
+	 */
+	public static <T, R> List<Outcome<R>> map(List<T> items, int concurrency, Function<T, R> task) {
+		List<Outcome<R>> outcomes = new ArrayList<>(items.size());
+		if (items.isEmpty()) {
+			return outcomes;
+		}
+
+		Semaphore permits = new Semaphore(Math.max(1, concurrency));
+		ContextSnapshot context = ContextSnapshot.capture();
+		List<Future<R>> futures = new ArrayList<>(items.size());
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (T item : items) {
+				futures.add(executor.submit(context.wrap(() -> {
+					permits.acquire();
+					try {
+						return task.apply(item);
+					}
+					finally {
+						permits.release();
+					}
+				})));
+			}
+
+			for (Future<R> future : futures) {
+				outcomes.add(await(future));
+			}
+		}
+		return outcomes;
+	}
+
+	private static <R> Outcome<R> await(Future<R> future) {
+		try {
+			return Outcome.success(future.get());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			return Outcome.failure(e);
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			log.warn("Parallel task failed: {}", cause.getMessage());
+			return Outcome.failure(cause);
+		}
+	}
+
+	public static final class Outcome<R> {
+
+		private final R value;
+
+		private final Throwable error;
+
+		private Outcome(R value, Throwable error) {
+			this.value = value;
+			this.error = error;
+		}
+
+		static <R> Outcome<R> success(R value) {
+			return new Outcome<>(value, null);
+		}
+
+		static <R> Outcome<R> failure(Throwable error) {
+			return new Outcome<>(null, error);
+		}
+
+		public boolean isSuccess() {
+			return error == null;
+		}
+
+		public R getValue() {
+			return value;
+		}
+
+		public Throwable getError() {
+			return error;
+		}
+
+	}
+
+}
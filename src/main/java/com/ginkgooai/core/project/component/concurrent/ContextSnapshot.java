@@ -0,0 +1,105 @@
+package com.ginkgooai.core.project.component.concurrent;
+
+import com.ginkgooai.core.common.constant.ContextsConstant;
+import com.ginkgooai.core.common.utils.ContextUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable copy of the caller's workspace/user context and security context, used to
+ * run work on another thread as if it were running on the calling request thread.
+ *
+ * <p>
+ * The servlet request itself is deliberately not carried over, as background work may
+ * outlive the request. A wrapped task runs with exactly the captured context, and the
+ * thread gets back the context it had before once the task ends, so pooled threads never
+ * carry one task's context into the next.
+ */
+public final class ContextSnapshot {
+
+	private static final List<String> CONTEXT_KEYS = List.of(ContextsConstant.WORKSPACE_ID, ContextsConstant.USER_ID,
+			ContextsConstant.USER_ROLE);
+
+	private final Map<String, Object> values;
+
+	private final SecurityContext securityContext;
+
+	private ContextSnapshot(Map<String, Object> values, SecurityContext securityContext) {
+		this.values = values;
+		this.securityContext = securityContext;
+	}
+
+	/**
+	 * Capture the context of the current thread.
+	 * @return the captured snapshot
+	 */
+	public static ContextSnapshot capture() {
+		Map<String, Object> values = new HashMap<>();
+		for (String key : CONTEXT_KEYS) {
+			Object value = ContextUtils.get(key, Object.class, null);
+			if (value != null) {
+				values.put(key, value);
+			}
+		}
+		return new ContextSnapshot(values, SecurityContextHolder.getContext());
+	}
+
+	/**
+	 * Wrap an executor so that every task runs with the context of the thread that
+	 * submitted it.
+	 * @param delegate executor running the tasks
+	 * @return context propagating executor
+	 */
+	public static Executor wrap(Executor delegate) {
+		return task -> delegate.execute(capture().wrap(task));
+	}
+
+	public Runnable wrap(Runnable task) {
+		return () -> {
+			ContextSnapshot previous = capture();
+			restore();
+			try {
+				task.run();
+			}
+			finally {
+				previous.restore();
+			}
+		};
+	}
+
+	public <T> Callable<T> wrap(Callable<T> task) {
+		return () -> {
+			ContextSnapshot previous = capture();
+			restore();
+			try {
+				return task.call();
+			}
+			finally {
+				previous.restore();
+			}
+		};
+	}
+
+	/**
+	 * Make this snapshot the context of the current thread, unsetting the values it does
+	 * not hold.
+	 */
+	private void restore() {
+		for (String key : CONTEXT_KEYS) {
+			ContextUtils.set(key, values.get(key));
+		}
+		if (securityContext != null) {
+			SecurityContextHolder.setContext(securityContext);
+		}
+		else {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+}
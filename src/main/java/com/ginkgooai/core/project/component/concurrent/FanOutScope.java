@@ -0,0 +1,110 @@
+package com.ginkgooai.core.project.component.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Scope for running independent remote calls of a single request concurrently on
+ * virtual threads.
+ *
+ * <p>
+ * Subtasks are forked inside a try-with-resources block, carry the caller's context
+ * (see {@link ContextSnapshot}) and are joined against a single deadline. Subtasks
+ * still running when the deadline passes, or when the scope is closed, are cancelled
+ * and report their fallback value, so no subtask outlives the block that forked it.
+ */
+@Slf4j
+public final class FanOutScope implements AutoCloseable {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final ContextSnapshot context = ContextSnapshot.capture();
+
+	private final List<Future<?>> futures = new ArrayList<>();
+
+	private final long deadlineNanos;
+
+	private FanOutScope(Duration deadline) {
+		this.deadlineNanos = System.nanoTime() + deadline.toNanos();
+	}
+
+	/**
+	 * Open a scope whose subtasks must finish within the given deadline.
+	 * @param deadline time budget for all subtasks, measured from now
+	 * @return the opened scope
+	 */
+	public static FanOutScope open(Duration deadline) {
+		return new FanOutScope(deadline);
+	}
+
+	public <T> Subtask<T> fork(Callable<T> task) {
+		Future<T> future = executor.submit(context.wrap(task));
+		futures.add(future);
+		return new Subtask<>(future);
+	}
+
+	/**
+	 * Wait for all forked subtasks until the deadline, then cancel the ones still
+	 * running.
+	 */
+	public void join() {
+		for (Future<?> future : futures) {
+			try {
+				future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			catch (ExecutionException | TimeoutException | CancellationException e) {
+				// reported through Subtask#getOrDefault
+			}
+		}
+		futures.forEach(future -> future.cancel(true));
+	}
+
+	@Override
+	public void close() {
+		futures.forEach(future -> future.cancel(true));
+		executor.shutdownNow();
+	}
+
+	public static final class Subtask<T> {
+
+		private final Future<T> future;
+
+		private Subtask(Future<T> future) {
+			this.future = future;
+		}
+
+		/**
+		 * @param fallback value to use if the subtask failed, was cancelled or has not
+		 * finished
+		 * @return the subtask result, or the fallback
+		 */
+		public T getOrDefault(T fallback) {
+			if (!future.isDone() || future.isCancelled()) {
+				log.warn("Subtask did not complete before the deadline, using fallback");
+				return fallback;
+			}
+			try {
+				T value = future.get();
+				return value != null ? value : fallback;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return fallback;
+			}
+			catch (ExecutionException e) {
+				log.error("Subtask failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+				return fallback;
+			}
+		}
+
+	}
+
+}
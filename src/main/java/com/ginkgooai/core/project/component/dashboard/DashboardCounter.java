@@ -0,0 +1,22 @@
+package com.ginkgooai.core.project.component.dashboard;
+
+import lombok.Getter;
+
+/**
+ * The workspace dashboard figures kept in Redis, with their hash field names.
+ */
+@Getter
+public enum DashboardCounter {
+
+	ACTIVE_PROJECTS("activeProjects"),
+	ROLES_TO_FILL("rolesToFill"),
+	PENDING_REVIEWS("pendingReviews"),
+	UNVIEWED_VIDEOS("unviewedVideos");
+
+	private final String field;
+
+	DashboardCounter(String field) {
+		this.field = field;
+	}
+
+}
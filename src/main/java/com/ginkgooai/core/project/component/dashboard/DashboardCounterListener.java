@@ -0,0 +1,155 @@
+package com.ginkgooai.core.project.component.dashboard;
+
+import com.ginkgooai.core.project.domain.application.Application;
+import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.domain.application.Submission;
+import com.ginkgooai.core.project.domain.project.Project;
+import com.ginkgooai.core.project.domain.project.ProjectStatus;
+import com.ginkgooai.core.project.domain.role.ProjectRole;
+import com.ginkgooai.core.project.domain.role.RoleStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Adjusts the {@link WorkspaceDashboardCounters} once a transaction that created,
+ * deleted or changed the status of a project, role, application or submission has
+ * committed.
+ *
+ * <p>
+ * Hooking into Hibernate's post-commit events covers every status change point,
+ * including entities built with a status and cascaded or soft deletes, and nothing is
+ * counted for rolled back work. Changes made with bulk statements are not seen here;
+ * first views are counted by the view flush and anything else is left to the
+ * reconciliation job.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardCounterListener
+		implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+	private static final String STATUS = "status";
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	private final WorkspaceDashboardCounters dashboardCounters;
+
+	@PostConstruct
+	public void register() {
+		EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+			.getServiceRegistry()
+			.getService(EventListenerRegistry.class);
+		registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+		registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+		registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		Class<?> type = persister.getMappedClass();
+		return type == Project.class || type == ProjectRole.class || type == Application.class
+				|| type == Submission.class;
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		Object entity = event.getEntity();
+		if (entity instanceof Submission submission) {
+			if (isUnviewed(submission.getViewCount())) {
+				dashboardCounters.adjust(submission.getWorkspaceId(), DashboardCounter.UNVIEWED_VIDEOS, 1);
+			}
+			return;
+		}
+		adjust(entity, null, status(event.getPersister(), event.getState()));
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		if (event.getEntity() instanceof Submission || event.getOldState() == null) {
+			return;
+		}
+		adjust(event.getEntity(), status(event.getPersister(), event.getOldState()),
+				status(event.getPersister(), event.getState()));
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		Object entity = event.getEntity();
+		if (entity instanceof Submission submission) {
+			if (isUnviewed(submission.getViewCount())) {
+				dashboardCounters.adjust(submission.getWorkspaceId(), DashboardCounter.UNVIEWED_VIDEOS, -1);
+			}
+			return;
+		}
+		Object[] deletedState = event.getDeletedState();
+		adjust(entity, deletedState != null ? status(event.getPersister(), deletedState) : status(entity), null);
+	}
+
+	@Override
+	public void onPostInsertCommitFailed(PostInsertEvent event) {
+	}
+
+	@Override
+	public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+	}
+
+	@Override
+	public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+	}
+
+	/**
+	 * Move the entity's contribution from the old status to the new one; a null status
+	 * on either side stands for a missing row.
+	 */
+	private void adjust(Object entity, Object oldStatus, Object newStatus) {
+		long delta = (counts(entity, newStatus) ? 1 : 0) - (counts(entity, oldStatus) ? 1 : 0);
+		if (delta == 0) {
+			return;
+		}
+		switch (entity) {
+			case Project project ->
+				dashboardCounters.adjust(project.getWorkspaceId(), DashboardCounter.ACTIVE_PROJECTS, delta);
+			case ProjectRole role -> dashboardCounters.adjust(role.getWorkspaceId(), DashboardCounter.ROLES_TO_FILL, delta);
+			case Application application ->
+				dashboardCounters.adjust(application.getWorkspaceId(), DashboardCounter.PENDING_REVIEWS, delta);
+			default -> {
+			}
+		}
+	}
+
+	private static boolean counts(Object entity, Object status) {
+		return switch (entity) {
+			case Project ignored -> status instanceof ProjectStatus projectStatus
+					&& WorkspaceDashboardCounters.isActive(projectStatus);
+			case ProjectRole ignored -> status instanceof RoleStatus roleStatus && roleStatus != RoleStatus.CAST;
+			case Application ignored -> status == ApplicationStatus.SUBMITTED;
+			default -> false;
+		};
+	}
+
+	private static boolean isUnviewed(Long viewCount) {
+		return viewCount == null || viewCount == 0;
+	}
+
+	private static Object status(EntityPersister persister, Object[] state) {
+		int index = Arrays.asList(persister.getPropertyNames()).indexOf(STATUS);
+		return index >= 0 ? state[index] : null;
+	}
+
+	private static Object status(Object entity) {
+		return switch (entity) {
+			case Project project -> project.getStatus();
+			case ProjectRole role -> role.getStatus();
+			case Application application -> application.getStatus();
+			default -> null;
+		};
+	}
+
+}
@@ -0,0 +1,176 @@
+package com.ginkgooai.core.project.component.dashboard;
+
+import com.ginkgooai.core.project.aspect.lock.DistributedLockService;
+import com.ginkgooai.core.project.config.properties.DashboardCountersProperties;
+import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.domain.project.ProjectStatus;
+import com.ginkgooai.core.project.domain.role.RoleStatus;
+import com.ginkgooai.core.project.dto.response.ProjectStatisticsResponse;
+import com.ginkgooai.core.project.repository.ApplicationRepository;
+import com.ginkgooai.core.project.repository.ProjectRepository;
+import com.ginkgooai.core.project.repository.ProjectRoleRepository;
+import com.ginkgooai.core.project.repository.SubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Workspace dashboard counters, kept in one Redis hash per workspace.
+ *
+ * <p>
+ * A hash is counted from the database on the first read and expires after
+ * {@code app.dashboard-counters.ttl}. While it exists, committed changes adjust it
+ * with {@code HINCRBY}; adjustments to a workspace without a hash are dropped, since
+ * the next read counts it anyway. A scheduled job recounts every existing hash to
+ * correct drift from changes made outside the entity model. When Redis is unavailable
+ * the dashboard is counted from the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkspaceDashboardCounters {
+
+	private static final String KEY_PREFIX = "dashboard:counters:";
+
+	private static final String LOCK_KEY = "dashboard-counters:reconcile";
+
+	private static final String INCREMENT_IF_EXISTS = """
+			if redis.call('exists', KEYS[1]) == 1 then
+			    return redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2])
+			end
+			return nil
+			""";
+
+	private static final List<ProjectStatus> ACTIVE_PROJECT_STATUSES = List.of(ProjectStatus.DRAFTING,
+			ProjectStatus.IN_PROGRESS);
+
+	private final RedissonClient redissonClient;
+
+	private final DistributedLockService distributedLockService;
+
+	private final DashboardCountersProperties properties;
+
+	private final ProjectRepository projectRepository;
+
+	private final ProjectRoleRepository projectRoleRepository;
+
+	private final ApplicationRepository applicationRepository;
+
+	private final SubmissionRepository submissionRepository;
+
+	public ProjectStatisticsResponse get(String workspaceId) {
+		Map<DashboardCounter, Long> values;
+		try {
+			values = read(workspaceId);
+			if (values == null) {
+				values = countFromDatabase(workspaceId);
+				write(workspaceId, values);
+			}
+		}
+		catch (RuntimeException e) {
+			log.warn("Dashboard counters unavailable for workspace {}, counting from the database", workspaceId, e);
+			values = countFromDatabase(workspaceId);
+		}
+		return new ProjectStatisticsResponse(values.get(DashboardCounter.ACTIVE_PROJECTS),
+				values.get(DashboardCounter.ROLES_TO_FILL), values.get(DashboardCounter.PENDING_REVIEWS),
+				values.get(DashboardCounter.UNVIEWED_VIDEOS));
+	}
+
+	/**
+	 * Add a delta to a counter of a workspace, if its counters are cached.
+	 */
+	public void adjust(String workspaceId, DashboardCounter counter, long delta) {
+		if (workspaceId == null || delta == 0) {
+			return;
+		}
+		try {
+			redissonClient.getScript(StringCodec.INSTANCE)
+				.eval(RScript.Mode.READ_WRITE, INCREMENT_IF_EXISTS, RScript.ReturnType.INTEGER,
+						List.of(KEY_PREFIX + workspaceId), counter.getField(), String.valueOf(delta));
+		}
+		catch (RuntimeException e) {
+			log.warn("Could not adjust dashboard counter {} of workspace {} by {}", counter, workspaceId, delta, e);
+		}
+	}
+
+	/**
+	 * Recount every cached workspace from the database.
+	 */
+	@Scheduled(cron = "${app.dashboard-counters.reconcile-cron:0 */15 * * * *}")
+	public void reconcile() {
+		if (!distributedLockService.tryLock(LOCK_KEY, 0, 10, TimeUnit.MINUTES)) {
+			return;
+		}
+		try {
+			int reconciled = 0;
+			for (String key : redissonClient.getKeys().getKeysByPattern(KEY_PREFIX + "*")) {
+				String workspaceId = key.substring(KEY_PREFIX.length());
+				write(workspaceId, countFromDatabase(workspaceId));
+				reconciled++;
+			}
+			log.debug("Reconciled dashboard counters of {} workspaces", reconciled);
+		}
+		finally {
+			distributedLockService.unlock(LOCK_KEY);
+		}
+	}
+
+	private Map<DashboardCounter, Long> read(String workspaceId) {
+		Map<String, Long> stored = counters(workspaceId).readAllMap();
+		Map<DashboardCounter, Long> values = new EnumMap<>(DashboardCounter.class);
+		for (DashboardCounter counter : DashboardCounter.values()) {
+			Long value = stored.get(counter.getField());
+			if (value == null) {
+				return null;
+			}
+			values.put(counter, Math.max(value, 0));
+		}
+		return values;
+	}
+
+	private void write(String workspaceId, Map<DashboardCounter, Long> values) {
+		Map<String, Long> fields = new HashMap<>();
+		values.forEach((counter, value) -> fields.put(counter.getField(), value));
+		RMap<String, Long> counters = counters(workspaceId);
+		counters.putAll(fields);
+		counters.expire(properties.getTtl());
+	}
+
+	private Map<DashboardCounter, Long> countFromDatabase(String workspaceId) {
+		Map<DashboardCounter, Long> values = new EnumMap<>(DashboardCounter.class);
+		values.put(DashboardCounter.ACTIVE_PROJECTS,
+				projectRepository.countByWorkspaceIdAndStatusIn(workspaceId, ACTIVE_PROJECT_STATUSES));
+		values.put(DashboardCounter.ROLES_TO_FILL,
+				projectRoleRepository.countByWorkspaceIdAndStatusNot(workspaceId, RoleStatus.CAST));
+		values.put(DashboardCounter.PENDING_REVIEWS,
+				applicationRepository.countByWorkspaceIdAndStatus(workspaceId, ApplicationStatus.SUBMITTED));
+		values.put(DashboardCounter.UNVIEWED_VIDEOS, submissionRepository.countUnviewedSubmissions(workspaceId));
+		return values;
+	}
+
+	private RMap<String, Long> counters(String workspaceId) {
+		return redissonClient.getMap(KEY_PREFIX + workspaceId,
+				new CompositeCodec(StringCodec.INSTANCE, LongCodec.INSTANCE, LongCodec.INSTANCE));
+	}
+
+	/**
+	 * Whether a project in this status counts as active.
+	 */
+	static boolean isActive(ProjectStatus status) {
+		return ACTIVE_PROJECT_STATUSES.contains(status);
+	}
+
+}
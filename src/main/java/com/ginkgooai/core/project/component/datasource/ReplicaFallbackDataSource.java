@@ -0,0 +1,60 @@
+package com.ginkgooai.core.project.component.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Picks the database of each connection from the transaction it is opened in: read-only
+ * transactions get the replica while {@link ReplicaLagMonitor} reports it available, and
+ * everything else gets the primary. The choice is made for each connection, so a
+ * transaction keeps the database it started on.
+ */
+public class ReplicaFallbackDataSource extends AbstractRoutingDataSource {
+
+	private static final String PRIMARY = "primary";
+
+	private static final String REPLICA = "replica";
+
+	private final ReplicaLagMonitor lagMonitor;
+
+	private final Counter replicaReads;
+
+	private final Counter primaryReads;
+
+	public ReplicaFallbackDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+			MeterRegistry meterRegistry) {
+		this.lagMonitor = lagMonitor;
+		this.replicaReads = readCounter(meterRegistry, REPLICA);
+		this.primaryReads = readCounter(meterRegistry, PRIMARY);
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return PRIMARY;
+		}
+		if (lagMonitor.isAvailable()) {
+			replicaReads.increment();
+			return REPLICA;
+		}
+		primaryReads.increment();
+		return PRIMARY;
+	}
+
+	private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+		return Counter.builder("datasource.read.connections")
+			.description("Connections opened for read-only transactions, by the database they went to")
+			.tag("target", target)
+			.register(meterRegistry);
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.ginkgooai.core.project.component.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the read replica as {@code replica} in the health endpoint. A lagging or
+ * unreachable replica is reported as {@code DEGRADED} rather than down, since reads
+ * fall back to the primary and the service keeps working.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaHealthIndicator implements HealthIndicator {
+
+	static final Status DEGRADED = new Status("DEGRADED", "Reads are served by the primary");
+
+	private final ReplicaLagMonitor lagMonitor;
+
+	@Override
+	public Health health() {
+		Health.Builder builder = lagMonitor.isAvailable() ? Health.up() : Health.status(DEGRADED);
+		double lag = lagMonitor.getLagSeconds();
+		if (!Double.isNaN(lag)) {
+			builder.withDetail("lagSeconds", lag);
+		}
+		if (lagMonitor.getLastError() != null) {
+			builder.withDetail("error", lagMonitor.getLastError());
+		}
+		return builder.build();
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.ginkgooai.core.project.component.datasource;
+
+import com.ginkgooai.core.project.config.properties.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tracks the replication lag of the read replica.
+ *
+ * <p>
+ * The replica is queried on a fixed delay; it is available while the last check
+ * succeeded and its lag was within {@code app.datasource.replica.max-lag}. A replica
+ * that has replayed everything it received counts as up to date, even if the primary
+ * has been idle for a while. Until the first check completes the replica is not used.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+	private static final String LAG_QUERY = """
+			SELECT CASE
+			           WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+			           ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+			           END
+			""";
+
+	private final DataSource replicaDataSource;
+
+	private final ReplicaDataSourceProperties properties;
+
+	private volatile boolean available;
+
+	private volatile double lagSeconds = Double.NaN;
+
+	private volatile String lastError;
+
+	public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+			ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+		this.replicaDataSource = replicaDataSource;
+		this.properties = properties;
+		Gauge.builder("datasource.replica.lag", this, ReplicaLagMonitor::getLagSeconds)
+			.description("Replication lag of the read replica at the last check")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		Gauge.builder("datasource.replica.available", this, monitor -> monitor.isAvailable() ? 1 : 0)
+			.description("Whether read-only transactions are routed to the replica")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:5000}")
+	public void check() {
+		boolean wasAvailable = available;
+		try {
+			double lag = queryLag();
+			lagSeconds = lag;
+			lastError = null;
+			available = lag <= properties.getMaxLag().toMillis() / 1000.0;
+		}
+		catch (SQLException | RuntimeException e) {
+			lagSeconds = Double.NaN;
+			lastError = e.getMessage();
+			available = false;
+		}
+		if (wasAvailable != available) {
+			if (available) {
+				log.info("Read replica is available again, lag {}s", lagSeconds);
+			}
+			else {
+				log.warn("Read replica is unavailable, reads go to the primary; lag {}s, error: {}", lagSeconds,
+						lastError);
+			}
+		}
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	/**
+	 * Lag at the last check in seconds, or NaN if the check failed.
+	 */
+	public double getLagSeconds() {
+		return lagSeconds;
+	}
+
+	/**
+	 * Message of the error of the last check, or null if it succeeded.
+	 */
+	public String getLastError() {
+		return lastError;
+	}
+
+	private double queryLag() throws SQLException {
+		try (Connection connection = replicaDataSource.getConnection();
+				Statement statement = connection.createStatement()) {
+			statement.setQueryTimeout((int) Math.max(1, properties.getCheckTimeout().toSeconds()));
+			try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+				resultSet.next();
+				return resultSet.getDouble(1);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.ginkgooai.core.project.component.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * File formats of the streaming exports.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+	CSV("text/csv", "csv"), NDJSON("application/x-ndjson", "ndjson");
+
+	private final String contentType;
+
+	private final String extension;
+
+}
@@ -0,0 +1,116 @@
+package com.ginkgooai.core.project.component.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes rows of named columns as CSV or NDJSON, one row at a time, so that an export
+ * of any size needs only a small buffer.
+ *
+ * <p>
+ * CSV starts with a header row and quotes values as RFC 4180 requires. Text starting
+ * with {@code = + - @} is prefixed with an apostrophe, so that spreadsheet applications
+ * do not evaluate exported values as formulas. NDJSON writes one object per line with
+ * the column names as keys.
+ */
+public class TabularExportWriter {
+
+	private final ExportFormat format;
+
+	private final List<String> columns;
+
+	private final Writer writer;
+
+	private final SequenceWriter jsonWriter;
+
+	private long rows;
+
+	public TabularExportWriter(ExportFormat format, List<String> columns, OutputStream out, ObjectMapper objectMapper)
+			throws IOException {
+		this.format = format;
+		this.columns = columns;
+		this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		if (format == ExportFormat.NDJSON) {
+			this.jsonWriter = objectMapper.writer()
+				.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				.withRootValueSeparator("\n")
+				.writeValues(writer);
+		}
+		else {
+			this.jsonWriter = null;
+			writeCsvRow(columns.toArray());
+		}
+	}
+
+	/**
+	 * Write one row, with a value per column in column order.
+	 */
+	public void write(Object[] values) throws IOException {
+		rows++;
+		if (format == ExportFormat.NDJSON) {
+			Map<String, Object> object = new LinkedHashMap<>();
+			for (int i = 0; i < columns.size(); i++) {
+				object.put(columns.get(i), values[i]);
+			}
+			jsonWriter.write(object);
+		}
+		else {
+			writeCsvRow(values);
+		}
+	}
+
+	/**
+	 * End the output after the last row and flush it.
+	 */
+	public void finish() throws IOException {
+		if (jsonWriter != null) {
+			jsonWriter.flush();
+			if (rows > 0) {
+				writer.write('\n');
+			}
+		}
+		writer.flush();
+	}
+
+	private void writeCsvRow(Object[] values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writeCsvValue(values[i]);
+		}
+		writer.write("\r\n");
+	}
+
+	private void writeCsvValue(Object value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		String text = value instanceof LocalDateTime dateTime ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime)
+				: value instanceof Enum<?> constant ? constant.name() : value.toString();
+		if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+			text = "'" + text;
+		}
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			writer.write(text);
+			return;
+		}
+		writer.write('"');
+		writer.write(text.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.ginkgooai.core.project.component.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Streaming reader of RFC 4180 CSV: comma separated, fields optionally quoted with
+ * {@code "}, quotes inside quoted fields doubled, records ending in LF or CRLF. The
+ * first record names the columns; names are matched ignoring case, spaces and
+ * punctuation, and unknown columns are ignored.
+ */
+class CsvTalentRowReader implements TalentRowReader {
+
+	private static final int MAX_FIELD_LENGTH = 64 * 1024;
+
+	private static final Map<String, BiConsumer<TalentImportRow, String>> COLUMNS = Map.ofEntries(
+			Map.entry("firstname", TalentImportRow::setFirstName), Map.entry("lastname", TalentImportRow::setLastName),
+			Map.entry("namesuffix", TalentImportRow::setNameSuffix), Map.entry("suffix", TalentImportRow::setNameSuffix),
+			Map.entry("email", TalentImportRow::setEmail), Map.entry("emailaddress", TalentImportRow::setEmail),
+			Map.entry("imdbprofileurl", TalentImportRow::setImdbProfileUrl),
+			Map.entry("imdb", TalentImportRow::setImdbProfileUrl),
+			Map.entry("spotlightprofileurl", TalentImportRow::setSpotlightProfileUrl),
+			Map.entry("spotlight", TalentImportRow::setSpotlightProfileUrl),
+			Map.entry("profilephotourl", TalentImportRow::setProfilePhotoUrl),
+			Map.entry("photo", TalentImportRow::setProfilePhotoUrl));
+
+	private final BufferedReader reader;
+
+	private final List<BiConsumer<TalentImportRow, String>> setters = new ArrayList<>();
+
+	private long line;
+
+	CsvTalentRowReader(Reader reader) throws IOException {
+		this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+		List<String> header = readRecord();
+		if (header == null) {
+			throw new IllegalArgumentException("The import file is empty");
+		}
+		if (!header.isEmpty() && header.getFirst().startsWith("\uFEFF")) {
+			header.set(0, header.getFirst().substring(1));
+		}
+		for (String name : header) {
+			setters.add(COLUMNS.get(name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "")));
+		}
+		if (!setters.contains(COLUMNS.get("firstname")) && !setters.contains(COLUMNS.get("lastname"))) {
+			throw new IllegalArgumentException("The header row has neither a first name nor a last name column");
+		}
+	}
+
+	@Override
+	public TalentImportRow next() throws IOException {
+		List<String> record;
+		do {
+			record = readRecord();
+			if (record == null) {
+				return null;
+			}
+		}
+		while (record.size() == 1 && record.getFirst().isEmpty());
+
+		TalentImportRow row = new TalentImportRow();
+		for (int i = 0; i < record.size() && i < setters.size(); i++) {
+			BiConsumer<TalentImportRow, String> setter = setters.get(i);
+			if (setter != null) {
+				setter.accept(row, record.get(i));
+			}
+		}
+		return row;
+	}
+
+	@Override
+	public long line() {
+		return line;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	/**
+	 * The fields of the next record, or null at the end of the input.
+	 */
+	private List<String> readRecord() throws IOException {
+		int c = reader.read();
+		if (c == -1) {
+			return null;
+		}
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					throw new IllegalArgumentException("Unterminated quoted field at line " + (line + 1));
+				}
+				if (c == '"') {
+					reader.mark(1);
+					if (reader.read() == '"') {
+						append(field, '"');
+					}
+					else {
+						reader.reset();
+						quoted = false;
+					}
+				}
+				else {
+					if (c == '\n') {
+						line++;
+					}
+					append(field, (char) c);
+				}
+			}
+			else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			}
+			else if (c == '\r' || c == '\n' || c == -1) {
+				if (c == '\r') {
+					reader.mark(1);
+					if (reader.read() != '\n') {
+						reader.reset();
+					}
+				}
+				line++;
+				fields.add(field.toString());
+				return fields;
+			}
+			else if (c == '"' && field.isEmpty()) {
+				quoted = true;
+			}
+			else {
+				append(field, (char) c);
+			}
+			c = reader.read();
+		}
+	}
+
+	private void append(StringBuilder field, char c) {
+		if (field.length() >= MAX_FIELD_LENGTH) {
+			throw new IllegalArgumentException("Field longer than " + MAX_FIELD_LENGTH + " characters at line " + (line + 1));
+		}
+		field.append(c);
+	}
+
+}
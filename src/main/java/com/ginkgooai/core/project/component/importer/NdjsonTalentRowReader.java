@@ -0,0 +1,59 @@
+package com.ginkgooai.core.project.component.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streaming reader of newline delimited JSON: one talent object per line, using the
+ * field names of {@link TalentImportRow}. Blank lines are skipped and unknown fields
+ * ignored.
+ */
+class NdjsonTalentRowReader implements TalentRowReader {
+
+	private final BufferedReader reader;
+
+	private final ObjectReader rowReader;
+
+	private long line;
+
+	NdjsonTalentRowReader(Reader reader, ObjectMapper objectMapper) {
+		this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+		this.rowReader = objectMapper.readerFor(TalentImportRow.class);
+	}
+
+	@Override
+	public TalentImportRow next() throws IOException {
+		String text;
+		do {
+			text = reader.readLine();
+			if (text == null) {
+				return null;
+			}
+			line++;
+		}
+		while (text.isBlank());
+
+		try {
+			return rowReader.readValue(text);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Invalid JSON at line " + line + ": " + e.getOriginalMessage());
+		}
+	}
+
+	@Override
+	public long line() {
+		return line;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+}
@@ -0,0 +1,307 @@
+package com.ginkgooai.core.project.component.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ginkgooai.core.common.exception.ResourceNotFoundException;
+import com.ginkgooai.core.project.config.properties.TalentImportProperties;
+import com.ginkgooai.core.project.domain.event.TalentChangedEvent;
+import com.ginkgooai.core.project.domain.role.ProjectRole;
+import com.ginkgooai.core.project.domain.role.RoleStatus;
+import com.ginkgooai.core.project.dto.response.TalentImportResponse;
+import com.ginkgooai.core.project.repository.ProjectRoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Imports a file of talents in one transaction with set-based statements.
+ *
+ * <p>
+ * Rows are streamed from the file into a temporary staging table with {@code COPY}.
+ * Each row is then matched by email, ignoring case, to the oldest talent of the
+ * workspace with that email or to an earlier row of the file. Unmatched rows become new
+ * talents with a single {@code INSERT ... SELECT}. When a role is given, every imported
+ * talent without a live application for it gets one in {@code ADDED} status with a
+ * second statement. Imports into one workspace are serialized, so two files with the
+ * same new email cannot both create it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TalentBulkImporter {
+
+	private static final int MAX_VALUE_LENGTH = 255;
+
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	private static final String CREATE_STAGE = """
+			CREATE TEMP TABLE talent_import_stage
+			(
+			    line_no               BIGINT PRIMARY KEY,
+			    first_name            TEXT,
+			    last_name             TEXT,
+			    name_suffix           TEXT,
+			    email                 TEXT,
+			    imdb_profile_url      TEXT,
+			    spotlight_profile_url TEXT,
+			    profile_photo_url     TEXT
+			) ON COMMIT DROP;
+			CREATE TEMP TABLE talent_import_match
+			(
+			    line_no   BIGINT PRIMARY KEY,
+			    talent_id VARCHAR(36) NOT NULL,
+			    created   BOOLEAN     NOT NULL
+			) ON COMMIT DROP
+			""";
+
+	private static final String COPY_STAGE = """
+			COPY talent_import_stage (line_no, first_name, last_name, name_suffix, email, imdb_profile_url,
+			                          spotlight_profile_url, profile_photo_url) FROM STDIN
+			""";
+
+	private static final String LOCK_WORKSPACE = "SELECT pg_advisory_xact_lock(hashtext('talent-import:' || ?))";
+
+	private static final String MATCH_TALENTS = """
+			INSERT INTO talent_import_match (line_no, talent_id, created)
+			SELECT s.line_no, COALESCE(t.id, gen_random_uuid()::text), t.id IS NULL
+			FROM (SELECT DISTINCT ON (lower(email)) line_no, email
+			      FROM talent_import_stage
+			      WHERE email IS NOT NULL
+			      ORDER BY lower(email), line_no) s
+			         LEFT JOIN LATERAL (SELECT t.id
+			                            FROM project.talent t
+			                            WHERE t.workspace_id = ?
+			                              AND lower(t.email) = lower(s.email)
+			                            ORDER BY t.created_at
+			                            LIMIT 1) t ON TRUE
+			UNION ALL
+			SELECT line_no, gen_random_uuid()::text, TRUE
+			FROM talent_import_stage
+			WHERE email IS NULL
+			""";
+
+	private static final String INSERT_TALENTS = """
+			INSERT INTO project.talent (id, workspace_id, first_name, last_name, name_suffix, email, imdb_profile_url,
+			                            spotlight_profile_url, profile_photo_url, status, application_count,
+			                            submission_count, created_at, created_by, updated_at, updated_by)
+			SELECT m.talent_id, ?, s.first_name, s.last_name, s.name_suffix, s.email, s.imdb_profile_url,
+			       s.spotlight_profile_url, s.profile_photo_url, 'ACTIVE', 0, 0, now() AT TIME ZONE 'UTC', ?,
+			       now() AT TIME ZONE 'UTC', ?
+			FROM talent_import_match m
+			         JOIN talent_import_stage s ON s.line_no = m.line_no
+			WHERE m.created
+			""";
+
+	private static final String INSERT_APPLICATIONS = """
+			WITH created AS (
+			    INSERT INTO project.application (id, workspace_id, project_id, role_id, talent_id, status, created_at,
+			                                     created_by, updated_at, updated_by)
+			    SELECT gen_random_uuid()::text, ?, ?, ?, m.talent_id, 'ADDED', now() AT TIME ZONE 'UTC', ?,
+			           now() AT TIME ZONE 'UTC', ?
+			    FROM talent_import_match m
+			    WHERE NOT EXISTS (SELECT 1
+			                      FROM project.application a
+			                      WHERE a.role_id = ?
+			                        AND a.talent_id = m.talent_id
+			                        AND a.deleted IS NOT TRUE)
+			    RETURNING talent_id
+			)
+			UPDATE project.talent t
+			SET application_count = COALESCE(t.application_count, 0) + 1
+			FROM created c
+			WHERE t.id = c.talent_id
+			""";
+
+	private final DataSource dataSource;
+
+	private final ObjectMapper objectMapper;
+
+	private final ProjectRoleRepository projectRoleRepository;
+
+	private final TalentImportProgress progress;
+
+	private final TalentImportProperties properties;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Import a file into a workspace. Nothing is imported if the file is malformed.
+	 * @param roleId role to add the imported talents to, or null
+	 * @throws IllegalArgumentException if the file is malformed or too large
+	 */
+	@Transactional(rollbackFor = Exception.class)
+	public TalentImportResponse importFile(String importId, Path file, TalentImportFormat format,
+			String workspaceId, String userId, String roleId) throws IOException, SQLException {
+		ProjectRole role = null;
+		if (roleId != null) {
+			role = projectRoleRepository.findById(roleId)
+				.filter(found -> workspaceId.equals(found.getWorkspaceId()))
+				.orElseThrow(() -> new ResourceNotFoundException("ProjectRole", "id", roleId));
+		}
+
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(CREATE_STAGE);
+			}
+			TalentImportResponse result = stage(connection, importId, file, format);
+
+			try (PreparedStatement lock = connection.prepareStatement(LOCK_WORKSPACE)) {
+				lock.setString(1, workspaceId);
+				lock.execute();
+			}
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ANALYZE talent_import_stage");
+			}
+			long rowsAccepted = update(connection, MATCH_TALENTS, workspaceId);
+			result.setTalentsCreated(update(connection, INSERT_TALENTS, workspaceId, userId, userId));
+			result.setTalentsMatched(result.getRowsRead() - result.getRowsSkipped() - result.getTalentsCreated());
+			log.debug("Import {} matched {} distinct talents in workspace {}", importId, rowsAccepted, workspaceId);
+
+			if (role != null) {
+				long applications = update(connection, INSERT_APPLICATIONS, workspaceId, role.getProject().getId(),
+						role.getId(), userId, userId, role.getId());
+				result.setApplicationsCreated(applications);
+				if (applications > 0) {
+					role.setStatus(RoleStatus.CASTING);
+				}
+			}
+			if (result.getTalentsCreated() > 0) {
+				eventPublisher.publishEvent(new TalentChangedEvent(this, workspaceId, null));
+			}
+			return result;
+		}
+		finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	/**
+	 * Stream the rows of the file into the staging table.
+	 */
+	private TalentImportResponse stage(Connection connection, String importId, Path file, TalentImportFormat format)
+			throws IOException, SQLException {
+		long rowsRead = 0;
+		long rowsSkipped = 0;
+		CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGE);
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+				TalentRowReader rows = TalentRowReader.open(format, reader, objectMapper)) {
+			StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+			TalentImportRow row;
+			while ((row = rows.next()) != null) {
+				if (++rowsRead > properties.getMaxRows()) {
+					throw new IllegalArgumentException(
+							"The import file has more than " + properties.getMaxRows() + " talents");
+				}
+				if (!appendRow(buffer, rows.line(), row)) {
+					rowsSkipped++;
+				}
+				if (buffer.length() >= COPY_BUFFER_SIZE) {
+					flush(copy, buffer);
+				}
+				if (rowsRead % properties.getProgressInterval() == 0) {
+					progress.running(importId, rowsRead);
+				}
+			}
+			flush(copy, buffer);
+			copy.endCopy();
+		}
+		finally {
+			if (copy.isActive()) {
+				copy.cancelCopy();
+			}
+		}
+		progress.running(importId, rowsRead);
+		return TalentImportResponse.builder()
+			.id(importId)
+			.status(TalentImportStatus.COMPLETED)
+			.rowsRead(rowsRead)
+			.rowsSkipped(rowsSkipped)
+			.build();
+	}
+
+	/**
+	 * Append a row in COPY text format, unless it has no name or a value too long for
+	 * its column.
+	 * @return whether the row was appended
+	 */
+	static boolean appendRow(StringBuilder buffer, long lineNo, TalentImportRow row) {
+		String[] values = { clean(row.getFirstName()), clean(row.getLastName()), clean(row.getNameSuffix()),
+				clean(row.getEmail()), clean(row.getImdbProfileUrl()), clean(row.getSpotlightProfileUrl()),
+				clean(row.getProfilePhotoUrl()) };
+		if (values[0] == null && values[1] == null) {
+			return false;
+		}
+		for (String value : values) {
+			if (value != null && value.length() > MAX_VALUE_LENGTH) {
+				return false;
+			}
+		}
+		buffer.append(lineNo);
+		for (String value : values) {
+			buffer.append('\t');
+			appendValue(buffer, value);
+		}
+		buffer.append('\n');
+		return true;
+	}
+
+	private static void appendValue(StringBuilder buffer, String value) {
+		if (value == null) {
+			buffer.append("\\N");
+			return;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '\\' -> buffer.append("\\\\");
+				case '\t' -> buffer.append("\\t");
+				case '\n' -> buffer.append("\\n");
+				case '\r' -> buffer.append("\\r");
+				default -> buffer.append(c);
+			}
+		}
+	}
+
+	private static String clean(String value) {
+		if (value == null) {
+			return null;
+		}
+		String trimmed = value.strip();
+		return trimmed.isEmpty() ? null : trimmed;
+	}
+
+	private static void flush(CopyIn copy, StringBuilder buffer) throws SQLException {
+		if (buffer.isEmpty()) {
+			return;
+		}
+		byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+		copy.writeToCopy(bytes, 0, bytes.length);
+		buffer.setLength(0);
+	}
+
+	private static long update(Connection connection, String sql, String... parameters) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			for (int i = 0; i < parameters.length; i++) {
+				statement.setString(i + 1, parameters[i]);
+			}
+			return statement.executeLargeUpdate();
+		}
+	}
+
+}
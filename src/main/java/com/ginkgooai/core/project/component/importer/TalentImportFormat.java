@@ -0,0 +1,39 @@
+package com.ginkgooai.core.project.component.importer;
+
+import com.ginkgooai.core.project.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * File formats accepted by the talent import.
+ */
+public enum TalentImportFormat {
+
+	/**
+	 * Comma separated values with a header row naming the columns.
+	 */
+	CSV,
+
+	/**
+	 * One JSON object per line.
+	 */
+	NDJSON;
+
+	/**
+	 * Guess the format of an upload from its file name, then its content type.
+	 * @throws InvalidRequestException if neither identifies a supported format
+	 */
+	public static TalentImportFormat detect(String filename, String contentType) {
+		String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+		String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+		if (name.endsWith(".csv") || type.startsWith("text/csv")) {
+			return CSV;
+		}
+		if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || type.startsWith("application/x-ndjson")
+				|| type.startsWith("application/jsonl")) {
+			return NDJSON;
+		}
+		throw new InvalidRequestException("Unsupported import file, expected .csv or .ndjson: " + filename);
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.ginkgooai.core.project.component.importer;
+
+import com.ginkgooai.core.common.exception.ResourceNotFoundException;
+import com.ginkgooai.core.project.dto.response.TalentImportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs talent imports off the request thread and records how they end. The uploaded
+ * file is deleted once the import is over.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TalentImportJob {
+
+	private final TalentBulkImporter importer;
+
+	private final TalentImportProgress progress;
+
+	@Async
+	public void run(String importId, Path file, TalentImportFormat format, String workspaceId, String userId,
+			String roleId) {
+		try {
+			progress.running(importId, 0);
+			TalentImportResponse result = importer.importFile(importId, file, format, workspaceId, userId, roleId);
+			progress.completed(importId, result);
+			log.info("Talent import {} into workspace {}: {} rows, {} talents created, {} matched, {} applications",
+					importId, workspaceId, result.getRowsRead(), result.getTalentsCreated(), result.getTalentsMatched(),
+					result.getApplicationsCreated());
+		}
+		catch (IllegalArgumentException | ResourceNotFoundException e) {
+			progress.failed(importId, e.getMessage());
+		}
+		catch (Exception e) {
+			log.error("Talent import {} into workspace {} failed", importId, workspaceId, e);
+			progress.failed(importId, "The import failed unexpectedly");
+		}
+		finally {
+			try {
+				Files.deleteIfExists(file);
+			}
+			catch (IOException e) {
+				log.warn("Could not delete upload {} of talent import {}", file, importId, e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.ginkgooai.core.project.component.importer;
+
+import com.ginkgooai.core.project.config.properties.TalentImportProperties;
+import com.ginkgooai.core.project.dto.response.TalentImportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Progress of talent imports, kept in one Redis hash per import so that any instance can
+ * report on an import running on another. Progress updates are best effort: an import
+ * is never failed because Redis is unavailable.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TalentImportProgress {
+
+	private static final String KEY_PREFIX = "talent-import:";
+
+	private static final String WORKSPACE_ID = "workspaceId";
+
+	private static final String STATUS = "status";
+
+	private static final String ROWS_READ = "rowsRead";
+
+	private static final String ROWS_SKIPPED = "rowsSkipped";
+
+	private static final String TALENTS_CREATED = "talentsCreated";
+
+	private static final String TALENTS_MATCHED = "talentsMatched";
+
+	private static final String APPLICATIONS_CREATED = "applicationsCreated";
+
+	private static final String ERROR = "error";
+
+	private final RedissonClient redissonClient;
+
+	private final TalentImportProperties properties;
+
+	public void queued(String importId, String workspaceId) {
+		RMap<String, String> progress = progress(importId);
+		progress.putAll(Map.of(WORKSPACE_ID, workspaceId, STATUS, TalentImportStatus.QUEUED.name()));
+		progress.expire(properties.getProgressTtl());
+	}
+
+	public void running(String importId, long rowsRead) {
+		update(importId, Map.of(STATUS, TalentImportStatus.RUNNING.name(), ROWS_READ, String.valueOf(rowsRead)));
+	}
+
+	public void completed(String importId, TalentImportResponse result) {
+		update(importId,
+				Map.of(STATUS, TalentImportStatus.COMPLETED.name(), ROWS_READ, String.valueOf(result.getRowsRead()),
+						ROWS_SKIPPED, String.valueOf(result.getRowsSkipped()), TALENTS_CREATED,
+						String.valueOf(result.getTalentsCreated()), TALENTS_MATCHED,
+						String.valueOf(result.getTalentsMatched()), APPLICATIONS_CREATED,
+						String.valueOf(result.getApplicationsCreated())));
+	}
+
+	public void failed(String importId, String error) {
+		update(importId, Map.of(STATUS, TalentImportStatus.FAILED.name(), ERROR, error == null ? "" : error));
+	}
+
+	/**
+	 * The progress of an import started in the given workspace, or null if there is
+	 * none.
+	 */
+	public TalentImportResponse find(String importId, String workspaceId) {
+		Map<String, String> values = progress(importId).readAllMap();
+		if (!workspaceId.equals(values.get(WORKSPACE_ID))) {
+			return null;
+		}
+		String error = values.get(ERROR);
+		return TalentImportResponse.builder()
+			.id(importId)
+			.status(TalentImportStatus.valueOf(values.get(STATUS)))
+			.rowsRead(count(values, ROWS_READ))
+			.rowsSkipped(count(values, ROWS_SKIPPED))
+			.talentsCreated(count(values, TALENTS_CREATED))
+			.talentsMatched(count(values, TALENTS_MATCHED))
+			.applicationsCreated(count(values, APPLICATIONS_CREATED))
+			.error(error == null || error.isEmpty() ? null : error)
+			.build();
+	}
+
+	private void update(String importId, Map<String, String> values) {
+		try {
+			RMap<String, String> progress = progress(importId);
+			progress.putAll(values);
+			progress.expire(properties.getProgressTtl());
+		}
+		catch (RuntimeException e) {
+			log.warn("Could not record progress of talent import {}", importId, e);
+		}
+	}
+
+	private RMap<String, String> progress(String importId) {
+		return redissonClient.getMap(KEY_PREFIX + importId, StringCodec.INSTANCE);
+	}
+
+	private static long count(Map<String, String> values, String field) {
+		String value = values.get(field);
+		return value == null ? 0 : Long.parseLong(value);
+	}
+
+}
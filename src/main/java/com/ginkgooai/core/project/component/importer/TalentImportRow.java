@@ -0,0 +1,33 @@
+package com.ginkgooai.core.project.component.importer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One talent read from an import file, before validation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TalentImportRow {
+
+	private String firstName;
+
+	private String lastName;
+
+	private String nameSuffix;
+
+	private String email;
+
+	private String imdbProfileUrl;
+
+	private String spotlightProfileUrl;
+
+	private String profilePhotoUrl;
+
+}
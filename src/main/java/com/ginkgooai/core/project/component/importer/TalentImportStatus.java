@@ -0,0 +1,7 @@
+package com.ginkgooai.core.project.component.importer;
+
+public enum TalentImportStatus {
+
+	QUEUED, RUNNING, COMPLETED, FAILED
+
+}
@@ -0,0 +1,34 @@
+package com.ginkgooai.core.project.component.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads talents from an import file one at a time, so that a file of any size is never
+ * held in memory.
+ */
+public interface TalentRowReader extends Closeable {
+
+	/**
+	 * The next talent of the file, or null at the end of the file.
+	 * @throws IllegalArgumentException if the file is malformed at this point
+	 */
+	TalentImportRow next() throws IOException;
+
+	/**
+	 * Number of lines read so far, for error messages.
+	 */
+	long line();
+
+	static TalentRowReader open(TalentImportFormat format, Reader reader, ObjectMapper objectMapper)
+			throws IOException {
+		return switch (format) {
+			case CSV -> new CsvTalentRowReader(reader);
+			case NDJSON -> new NdjsonTalentRowReader(reader, objectMapper);
+		};
+	}
+
+}
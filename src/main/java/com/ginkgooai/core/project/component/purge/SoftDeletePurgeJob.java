@@ -0,0 +1,100 @@
+package com.ginkgooai.core.project.component.purge;
+
+import com.ginkgooai.core.project.aspect.lock.DistributedLockService;
+import com.ginkgooai.core.project.config.properties.SoftDeletePurgeProperties;
+import com.ginkgooai.core.project.repository.ApplicationRepository;
+import com.ginkgooai.core.project.repository.ProjectRepository;
+import com.ginkgooai.core.project.repository.ProjectRoleRepository;
+import com.ginkgooai.core.project.repository.SubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Moves soft deleted projects, roles, applications and submissions that are past
+ * {@code app.soft-delete-purge.retention} from the live tables to their archive tables.
+ *
+ * <p>
+ * Rows are archived in batches of {@code app.soft-delete-purge.batch-size}, each in its
+ * own short transaction, children before parents. A row that other rows still refer to
+ * is kept until they are purged, so nothing left in the live tables points to an
+ * archived row. Comments and notes are archived with the application or submission
+ * they belong to, and purging a submission drops its raw view records with it. Only one
+ * instance runs the job at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoftDeletePurgeJob {
+
+	private static final String LOCK_KEY = "soft-delete:purge";
+
+	private final SubmissionRepository submissionRepository;
+
+	private final ApplicationRepository applicationRepository;
+
+	private final ProjectRoleRepository projectRoleRepository;
+
+	private final ProjectRepository projectRepository;
+
+	private final DistributedLockService distributedLockService;
+
+	private final SoftDeletePurgeProperties properties;
+
+	@Scheduled(cron = "${app.soft-delete-purge.cron:0 0 4 * * *}")
+	public void purge() {
+		if (properties.getRetention().isZero() || properties.getRetention().isNegative()) {
+			return;
+		}
+		long maxMinutes = properties.getMaxDuration().toMinutes() + 5;
+		if (!distributedLockService.tryLock(LOCK_KEY, 0, maxMinutes, TimeUnit.MINUTES)) {
+			log.debug("Soft deleted rows are purged by another instance");
+			return;
+		}
+		try {
+			LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(properties.getRetention());
+			long deadline = System.nanoTime() + properties.getMaxDuration().toNanos();
+
+			Map<String, ToIntBiFunction<LocalDateTime, Integer>> tables = new LinkedHashMap<>();
+			tables.put("submission", submissionRepository::archiveDeletedBefore);
+			tables.put("application", applicationRepository::archiveDeletedBefore);
+			tables.put("project_role", projectRoleRepository::archiveDeletedBefore);
+			tables.put("project", projectRepository::archiveDeletedBefore);
+
+			for (Map.Entry<String, ToIntBiFunction<LocalDateTime, Integer>> table : tables.entrySet()) {
+				if (System.nanoTime() >= deadline) {
+					log.warn("Soft delete purge stopped after {}, the rest is left for the next run",
+							properties.getMaxDuration());
+					return;
+				}
+				int archived = archiveInBatches(table.getValue(), cutoff, deadline);
+				if (archived > 0) {
+					log.info("Archived {} {} rows soft deleted before {}", archived, table.getKey(), cutoff);
+				}
+			}
+		}
+		finally {
+			distributedLockService.unlock(LOCK_KEY);
+		}
+	}
+
+	private int archiveInBatches(ToIntBiFunction<LocalDateTime, Integer> archiveBatch, LocalDateTime cutoff,
+			long deadline) {
+		int total = 0;
+		int archived;
+		do {
+			archived = archiveBatch.applyAsInt(cutoff, properties.getBatchSize());
+			total += archived;
+		} while (archived == properties.getBatchSize() && System.nanoTime() < deadline);
+		return total;
+	}
+
+}
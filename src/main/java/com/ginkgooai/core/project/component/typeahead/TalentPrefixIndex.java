@@ -0,0 +1,127 @@
+package com.ginkgooai.core.project.component.typeahead;
+
+import com.ginkgooai.core.project.dto.response.TalentBasicResponse;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix index over the talents of one workspace.
+ *
+ * <p>
+ * Every talent is indexed under its first name, last name and email, each as a whole
+ * and split into words, all lower-cased. A query matches a talent when each of its
+ * whitespace-separated terms is a prefix of one of the talent's tokens, so
+ * {@code "jane do"} finds Jane Doe and {@code "jane.doe@"} finds her email. Lookups walk
+ * the sorted token map from the longest term and stop at the requested number of
+ * matches, and never lock. Updates are serialized per index.
+ */
+public class TalentPrefixIndex {
+
+	private final Map<String, TalentBasicResponse> talents = new ConcurrentHashMap<>();
+
+	private final Map<String, Set<String>> tokensByTalent = new ConcurrentHashMap<>();
+
+	private final ConcurrentSkipListMap<String, Set<String>> talentsByToken = new ConcurrentSkipListMap<>();
+
+	public TalentPrefixIndex(Collection<TalentBasicResponse> talents) {
+		talents.forEach(this::put);
+	}
+
+	/**
+	 * Add a talent, or replace the indexed version of it.
+	 */
+	public synchronized void put(TalentBasicResponse talent) {
+		remove(talent.getId());
+
+		Set<String> tokens = new HashSet<>();
+		addTokens(tokens, talent.getFirstName());
+		addTokens(tokens, talent.getLastName());
+		addTokens(tokens, talent.getEmail());
+
+		talents.put(talent.getId(), talent);
+		tokensByTalent.put(talent.getId(), tokens);
+		for (String token : tokens) {
+			talentsByToken.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(talent.getId());
+		}
+	}
+
+	public synchronized void remove(String talentId) {
+		talents.remove(talentId);
+		Set<String> tokens = tokensByTalent.remove(talentId);
+		if (tokens == null) {
+			return;
+		}
+		for (String token : tokens) {
+			talentsByToken.computeIfPresent(token, (key, ids) -> {
+				ids.remove(talentId);
+				return ids.isEmpty() ? null : ids;
+			});
+		}
+	}
+
+	/**
+	 * Talents matching every term of the query, ordered by the matching token.
+	 * @param query free text typed by the user
+	 * @param limit maximum number of talents returned
+	 */
+	public List<TalentBasicResponse> search(String query, int limit) {
+		List<String> terms = terms(query);
+		if (terms.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		String lead = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+
+		Set<String> matches = new LinkedHashSet<>();
+		for (Set<String> ids : talentsByToken.subMap(lead, true, lead + Character.MAX_VALUE, false).values()) {
+			for (String id : ids) {
+				if (!matches.contains(id) && matchesAll(id, terms)) {
+					matches.add(id);
+					if (matches.size() == limit) {
+						return resolve(matches);
+					}
+				}
+			}
+		}
+		return resolve(matches);
+	}
+
+	public int size() {
+		return talents.size();
+	}
+
+	private boolean matchesAll(String talentId, List<String> terms) {
+		Set<String> tokens = tokensByTalent.get(talentId);
+		if (tokens == null) {
+			return false;
+		}
+		return terms.stream().allMatch(term -> tokens.stream().anyMatch(token -> token.startsWith(term)));
+	}
+
+	private List<TalentBasicResponse> resolve(Collection<String> talentIds) {
+		return talentIds.stream().map(talents::get).filter(Objects::nonNull).toList();
+	}
+
+	private static void addTokens(Set<String> tokens, String value) {
+		if (!StringUtils.hasText(value)) {
+			return;
+		}
+		String normalized = value.trim().toLowerCase(Locale.ROOT);
+		tokens.add(normalized);
+		for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+			if (!word.isEmpty()) {
+				tokens.add(word);
+			}
+		}
+	}
+
+	private static List<String> terms(String query) {
+		if (!StringUtils.hasText(query)) {
+			return List.of();
+		}
+		return Arrays.stream(query.trim().toLowerCase(Locale.ROOT).split("\\s+")).filter(term -> !term.isEmpty()).toList();
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.ginkgooai.core.project.component.typeahead;
+
+import com.ginkgooai.core.project.config.properties.TalentTypeaheadProperties;
+import com.ginkgooai.core.project.domain.event.TalentChangedEvent;
+import com.ginkgooai.core.project.dto.response.TalentBasicResponse;
+import com.ginkgooai.core.project.repository.TalentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Talent autocomplete served from memory.
+ *
+ * <p>
+ * Each workspace gets a {@link TalentPrefixIndex}, built from the database on its first
+ * query and dropped after a period without queries. Committed talent changes are
+ * applied to the local index and broadcast on a Redis topic, so that other instances
+ * refresh the talent in their own index. Indexes are also rebuilt periodically, which
+ * bounds the effect of a change missed while Redis was unavailable or an index was
+ * being built.
+ */
+@Slf4j
+@Component
+public class TalentTypeahead {
+
+	private static final String TOPIC = "talent:typeahead:changes";
+
+	private static final String SEPARATOR = "|";
+
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final TalentRepository talentRepository;
+
+	private final RedissonClient redissonClient;
+
+	private final TalentTypeaheadProperties properties;
+
+	private final Cache<String, TalentPrefixIndex> indexes;
+
+	public TalentTypeahead(TalentRepository talentRepository, RedissonClient redissonClient,
+			TalentTypeaheadProperties properties, MeterRegistry meterRegistry) {
+		this.talentRepository = talentRepository;
+		this.redissonClient = redissonClient;
+		this.properties = properties;
+		this.indexes = Caffeine.newBuilder()
+			.maximumSize(properties.getMaximumWorkspaces())
+			.expireAfterAccess(properties.getExpireAfterAccess())
+			.expireAfterWrite(properties.getRebuildAfter())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, indexes, "talent-typeahead");
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		try {
+			topic().addListener(String.class, (channel, message) -> onRemoteChange(message));
+		}
+		catch (RuntimeException e) {
+			log.warn("Could not subscribe to talent changes, typeahead indexes rely on periodic rebuilds", e);
+		}
+	}
+
+	/**
+	 * Talents of a workspace matching what the user typed so far.
+	 * @param workspaceId the workspace to search
+	 * @param query free text; each word must prefix a word of the name or email
+	 * @param limit maximum number of suggestions, capped by the configured maximum
+	 */
+	public List<TalentBasicResponse> suggest(String workspaceId, String query, int limit) {
+		int capped = Math.clamp(limit, 1, properties.getMaxSuggestions());
+		return indexes.get(workspaceId, this::build).search(query, capped);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTalentChanged(TalentChangedEvent event) {
+		String talentId = event.getTalentId() == null ? "" : event.getTalentId();
+		refresh(event.getWorkspaceId(), talentId);
+		try {
+			topic().publish(String.join(SEPARATOR, instanceId, event.getWorkspaceId(), talentId));
+		}
+		catch (RuntimeException e) {
+			log.warn("Could not broadcast change of talent {}", event.getTalentId(), e);
+		}
+	}
+
+	private void onRemoteChange(String message) {
+		String[] parts = message.split("\\" + SEPARATOR, 3);
+		if (parts.length != 3 || instanceId.equals(parts[0])) {
+			return;
+		}
+		try {
+			refresh(parts[1], parts[2]);
+		}
+		catch (RuntimeException e) {
+			log.warn("Could not refresh talent {} in the typeahead index, dropping workspace {}", parts[2], parts[1],
+					e);
+			indexes.invalidate(parts[1]);
+		}
+	}
+
+	/**
+	 * Reload one talent into the index of its workspace, if that index is in memory. An
+	 * empty talent ID drops the whole index, to be rebuilt on the next query.
+	 */
+	private void refresh(String workspaceId, String talentId) {
+		if (talentId.isEmpty()) {
+			indexes.invalidate(workspaceId);
+			return;
+		}
+		TalentPrefixIndex index = indexes.getIfPresent(workspaceId);
+		if (index == null) {
+			return;
+		}
+		talentRepository.findBasicRowById(talentId)
+			.filter(row -> workspaceId.equals(row.getWorkspaceId()))
+			.ifPresentOrElse(row -> index.put(TalentBasicResponse.from(row)), () -> index.remove(talentId));
+	}
+
+	private TalentPrefixIndex build(String workspaceId) {
+		long start = System.nanoTime();
+		TalentPrefixIndex index = new TalentPrefixIndex(talentRepository.findBasicRowsByWorkspaceId(workspaceId)
+			.stream()
+			.map(TalentBasicResponse::from)
+			.toList());
+		log.debug("Built typeahead index of {} talents for workspace {} in {} ms", index.size(), workspaceId,
+				(System.nanoTime() - start) / 1_000_000);
+		return index;
+	}
+
+	private RTopic topic() {
+		return redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+	}
+
+}
@@ -0,0 +1,335 @@
+package com.ginkgooai.core.project.component.view;
+
+import com.ginkgooai.core.project.component.dashboard.DashboardCounter;
+import com.ginkgooai.core.project.component.dashboard.WorkspaceDashboardCounters;
+import com.ginkgooai.core.project.config.properties.SubmissionViewProperties;
+import com.ginkgooai.core.project.repository.SubmissionRepository;
+import com.ginkgooai.core.project.repository.SubmissionViewRecordRepository;
+import com.ginkgooai.core.project.repository.SubmissionViewRollupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for submission views.
+ *
+ * <p>
+ * Recording a view only touches in-memory structures: a counter per submission, a
+ * counter per submission and hour, and a queue of view records. A scheduled flush moves
+ * the accumulated counts to the database with one atomic
+ * {@code view_count = view_count + delta} statement, which also reports the submissions
+ * that got their first view for the workspace dashboard counters, upserts the hourly and daily
+ * rollups in another, and inserts the queued records in one batch. The buffer is
+ * drained once more on shutdown. Views of submissions that do not exist in the
+ * recorded workspace are dropped by the flush.
+ *
+ * <p>
+ * Only first views of a viewer increment {@code view_count} and produce a view record;
+ * every play is counted in the rollups. Writing view records can be switched off with
+ * {@code app.submission-view.raw-records-enabled}.
+ *
+ * <p>
+ * At most {@code app.submission-view.max-pending-records} view records are kept in
+ * memory, and a record is dropped after {@code app.submission-view.max-record-attempts}
+ * failed inserts, so an unavailable database cannot exhaust the heap. Dropped records
+ * are logged and counted in {@code submission.views.dropped}; the view counts and
+ * rollups are not affected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionViewBuffer {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private final SubmissionRepository submissionRepository;
+
+	private final SubmissionViewRecordRepository viewRecordRepository;
+
+	private final SubmissionViewRollupRepository viewRollupRepository;
+
+	private final WorkspaceDashboardCounters dashboardCounters;
+
+	private final SubmissionViewProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<ViewTarget, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+	private final Map<HourTarget, HourCounts> pendingHours = new ConcurrentHashMap<>();
+
+	private final Queue<PendingView> pendingViews = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * View records queued or being inserted; {@code size()} of the queue is not constant
+	 * time.
+	 */
+	private final AtomicInteger pendingViewCount = new AtomicInteger();
+
+	private final LongAdder overflowedViews = new LongAdder();
+
+	/**
+	 * Record one play of a submission.
+	 * @param workspaceId workspace the submission belongs to
+	 * @param submissionId the viewed submission
+	 * @param userId the viewing user, may be null
+	 * @param ipAddress the client address, may be null
+	 * @param firstView whether this is the viewer's first play of the submission
+	 */
+	public void record(String workspaceId, String submissionId, String userId, String ipAddress, boolean firstView) {
+		LocalDateTime viewedAt = LocalDateTime.now();
+		// Counting inside compute keeps it atomic with the removal done by flush
+		pendingHours.compute(new HourTarget(workspaceId, submissionId, viewedAt.truncatedTo(ChronoUnit.HOURS)),
+				(target, counts) -> {
+					HourCounts hour = counts != null ? counts : new HourCounts();
+					hour.views++;
+					if (firstView) {
+						hour.uniqueViews++;
+					}
+					return hour;
+				});
+		if (!firstView) {
+			return;
+		}
+
+		pendingCounts.compute(new ViewTarget(workspaceId, submissionId), (target, views) -> {
+			LongAdder counter = views != null ? views : new LongAdder();
+			counter.increment();
+			return counter;
+		});
+		if (properties.isRawRecordsEnabled()) {
+			if (pendingViewCount.incrementAndGet() > properties.getMaxPendingRecords()) {
+				pendingViewCount.decrementAndGet();
+				overflowedViews.increment();
+				return;
+			}
+			pendingViews.add(new PendingView(workspaceId, submissionId, userId, ipAddress, viewedAt, 0));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.submission-view.flush-interval-ms:5000}")
+	public synchronized void flush() {
+		flushCounts();
+		flushRollups();
+		flushViews();
+	}
+
+	@PreDestroy
+	public void drain() {
+		log.info("Flushing buffered submission views before shutdown");
+		flush();
+	}
+
+	private void flushCounts() {
+		List<ViewTarget> targets = new ArrayList<>();
+		List<Long> deltas = new ArrayList<>();
+		for (ViewTarget target : pendingCounts.keySet()) {
+			LongAdder views = pendingCounts.remove(target);
+			long delta = views != null ? views.sum() : 0;
+			if (delta > 0) {
+				targets.add(target);
+				deltas.add(delta);
+			}
+		}
+
+		for (int from = 0; from < targets.size(); from += BATCH_SIZE) {
+			int to = Math.min(from + BATCH_SIZE, targets.size());
+			List<ViewTarget> batch = targets.subList(from, to);
+			List<Long> batchDeltas = deltas.subList(from, to);
+			try {
+				submissionRepository
+					.addViewCounts(batch.stream().map(ViewTarget::getSubmissionId).toArray(String[]::new),
+							batch.stream().map(ViewTarget::getWorkspaceId).toArray(String[]::new),
+							batchDeltas.toArray(Long[]::new))
+					.forEach(firstViewed -> dashboardCounters.adjust(firstViewed.getWorkspaceId(),
+							DashboardCounter.UNVIEWED_VIDEOS, -firstViewed.getCount()));
+			}
+			catch (RuntimeException e) {
+				log.warn("Failed to flush view counts of {} submissions, keeping them for the next flush",
+						batch.size(), e);
+				for (int i = 0; i < batch.size(); i++) {
+					long delta = batchDeltas.get(i);
+					pendingCounts.compute(batch.get(i), (target, views) -> {
+						LongAdder counter = views != null ? views : new LongAdder();
+						counter.add(delta);
+						return counter;
+					});
+				}
+			}
+		}
+	}
+
+	private void flushRollups() {
+		List<HourTarget> targets = new ArrayList<>();
+		List<HourCounts> counts = new ArrayList<>();
+		for (HourTarget target : pendingHours.keySet()) {
+			HourCounts hour = pendingHours.remove(target);
+			if (hour != null) {
+				targets.add(target);
+				counts.add(hour);
+			}
+		}
+
+		for (int from = 0; from < targets.size(); from += BATCH_SIZE) {
+			int to = Math.min(from + BATCH_SIZE, targets.size());
+			List<HourTarget> batch = targets.subList(from, to);
+			List<HourCounts> batchCounts = counts.subList(from, to);
+			try {
+				viewRollupRepository.addViews(batch.stream().map(HourTarget::getSubmissionId).toArray(String[]::new),
+						batch.stream().map(HourTarget::getWorkspaceId).toArray(String[]::new),
+						batch.stream().map(target -> target.getHour().toString()).toArray(String[]::new),
+						batchCounts.stream().map(hour -> hour.views).toArray(Long[]::new),
+						batchCounts.stream().map(hour -> hour.uniqueViews).toArray(Long[]::new));
+			}
+			catch (RuntimeException e) {
+				log.warn("Failed to flush view rollups of {} submission hours, keeping them for the next flush",
+						batch.size(), e);
+				for (int i = 0; i < batch.size(); i++) {
+					HourCounts failed = batchCounts.get(i);
+					pendingHours.compute(batch.get(i), (target, hour) -> {
+						HourCounts merged = hour != null ? hour : new HourCounts();
+						merged.views += failed.views;
+						merged.uniqueViews += failed.uniqueViews;
+						return merged;
+					});
+				}
+			}
+		}
+	}
+
+	private void flushViews() {
+		long overflowed = overflowedViews.sumThenReset();
+		if (overflowed > 0) {
+			log.warn("Dropped {} view records because {} were already waiting to be flushed", overflowed,
+					properties.getMaxPendingRecords());
+			dropped("overflow", overflowed);
+		}
+
+		List<PendingView> batch = new ArrayList<>(BATCH_SIZE);
+		PendingView view;
+		while ((view = pendingViews.poll()) != null) {
+			batch.add(view);
+			if (batch.size() == BATCH_SIZE) {
+				if (!insertViews(batch)) {
+					return;
+				}
+				batch = new ArrayList<>(BATCH_SIZE);
+			}
+		}
+		if (!batch.isEmpty()) {
+			insertViews(batch);
+		}
+	}
+
+	private boolean insertViews(List<PendingView> batch) {
+		try {
+			viewRecordRepository.insertAll(batch.stream().map(PendingView::getSubmissionId).toArray(String[]::new),
+					batch.stream().map(PendingView::getWorkspaceId).toArray(String[]::new),
+					batch.stream().map(PendingView::getUserId).toArray(String[]::new),
+					batch.stream().map(PendingView::getIpAddress).toArray(String[]::new),
+					batch.stream().map(v -> v.getViewedAt().toString()).toArray(String[]::new));
+		}
+		catch (RuntimeException e) {
+			List<PendingView> exhausted = new ArrayList<>();
+			for (PendingView view : batch) {
+				if (view.getFailedAttempts() + 1 < properties.getMaxRecordAttempts()) {
+					pendingViews.add(view.failedOnce());
+				}
+				else {
+					exhausted.add(view);
+				}
+			}
+			log.warn("Failed to insert {} view records, keeping {} for the next flush", batch.size(),
+					batch.size() - exhausted.size(), e);
+			if (!exhausted.isEmpty()) {
+				log.warn("Dropped {} view records of submissions {} after {} failed inserts", exhausted.size(),
+						exhausted.stream().map(PendingView::getSubmissionId).distinct().toList(),
+						properties.getMaxRecordAttempts());
+				pendingViewCount.addAndGet(-exhausted.size());
+				dropped("attempts", exhausted.size());
+			}
+			return false;
+		}
+		pendingViewCount.addAndGet(-batch.size());
+		return true;
+	}
+
+	private void dropped(String reason, long views) {
+		meterRegistry.counter("submission.views.dropped", "reason", reason).increment(views);
+	}
+
+	@Getter
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class ViewTarget {
+
+		private final String workspaceId;
+
+		private final String submissionId;
+
+	}
+
+	@Getter
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class HourTarget {
+
+		private final String workspaceId;
+
+		private final String submissionId;
+
+		private final LocalDateTime hour;
+
+	}
+
+	/**
+	 * Mutated only inside {@link ConcurrentHashMap#compute}, and read after removal.
+	 */
+	private static final class HourCounts {
+
+		private long views;
+
+		private long uniqueViews;
+
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static final class PendingView {
+
+		private final String workspaceId;
+
+		private final String submissionId;
+
+		private final String userId;
+
+		private final String ipAddress;
+
+		private final LocalDateTime viewedAt;
+
+		private final int failedAttempts;
+
+		private PendingView failedOnce() {
+			return new PendingView(workspaceId, submissionId, userId, ipAddress, viewedAt, failedAttempts + 1);
+		}
+
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.ginkgooai.core.project.component.view;
+
+import com.ginkgooai.core.project.config.properties.SubmissionViewProperties;
+import com.ginkgooai.core.project.repository.SubmissionViewRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RHyperLogLog;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether a submission view comes from a new viewer, using Redis only.
+ *
+ * <p>
+ * Each submission has a Bloom filter of the viewers seen so far and a HyperLogLog
+ * estimating how many distinct viewers it had. A viewer is the user ID when known,
+ * otherwise the client IP address. The Bloom filter may rarely report an unseen viewer
+ * as seen, so a small fraction of first views can go uncounted; it never counts a
+ * viewer twice. Both structures can be rebuilt from {@code submission_view_record}.
+ * When Redis is unavailable views are counted rather than rejected.
+ *
+ * <p>
+ * Both structures expire {@code app.submission-view.viewer-ttl} after the last new
+ * viewer. Whenever a Bloom filter is created, it is seeded with the viewers of the
+ * stored view records, so returning viewers are not counted again after an expiry or
+ * for submissions viewed before de-duplication moved to Redis. Viewers whose records
+ * are past the raw record retention or still buffered are not seeded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionViewDeduplicator {
+
+	private static final String BLOOM_KEY_PREFIX = "submission:viewers:bloom:";
+
+	private static final String HLL_KEY_PREFIX = "submission:viewers:hll:";
+
+	private final RedissonClient redissonClient;
+
+	private final SubmissionViewRecordRepository viewRecordRepository;
+
+	private final SubmissionViewProperties properties;
+
+	private final Set<String> initializedFilters = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Register a view and tell whether it is the first one of this viewer.
+	 * @param submissionId the viewed submission
+	 * @param userId the viewing user, may be null
+	 * @param ipAddress the client address, may be null
+	 * @return true if the view should be counted
+	 */
+	public boolean isFirstView(String submissionId, String userId, String ipAddress) {
+		String viewer = viewerKey(userId, ipAddress);
+		if (viewer == null) {
+			return true;
+		}
+
+		try {
+			RBloomFilter<String> bloomFilter = bloomFilter(submissionId);
+			boolean added;
+			try {
+				added = bloomFilter.add(viewer);
+			}
+			catch (IllegalStateException e) {
+				// The filter was deleted or expired since we initialized it
+				initialize(bloomFilter, submissionId);
+				added = bloomFilter.add(viewer);
+			}
+			if (added) {
+				RHyperLogLog<String> hyperLogLog = hyperLogLog(submissionId);
+				hyperLogLog.add(viewer);
+				bloomFilter.expire(properties.getViewerTtl());
+				hyperLogLog.expire(properties.getViewerTtl());
+			}
+			return added;
+		}
+		catch (RuntimeException e) {
+			log.warn("View de-duplication unavailable for submission {}, counting the view", submissionId, e);
+			return true;
+		}
+	}
+
+	/**
+	 * Estimated number of distinct viewers of a submission, with a standard error of
+	 * about 0.81%.
+	 */
+	public long countUniqueViewers(String submissionId) {
+		return hyperLogLog(submissionId).count();
+	}
+
+	/**
+	 * Replace the Bloom filter and HyperLogLog of a submission with the viewers found
+	 * in its stored view records.
+	 * @return the number of distinct viewers loaded
+	 */
+	public int rebuild(String submissionId) {
+		List<String> viewers = viewRecordRepository.findDistinctViewerKeys(submissionId);
+
+		RBloomFilter<String> bloomFilter = redissonClient.getBloomFilter(BLOOM_KEY_PREFIX + submissionId);
+		bloomFilter.delete();
+		hyperLogLog(submissionId).delete();
+
+		bloomFilter.tryInit(properties.getExpectedViewers(), properties.getFalseProbability());
+		initializedFilters.add(submissionId);
+		seed(bloomFilter, submissionId, viewers);
+		log.info("Rebuilt viewer de-duplication for submission {} from {} viewers", submissionId, viewers.size());
+		return viewers.size();
+	}
+
+	/**
+	 * The key identifying a viewer. Must match the keys built by
+	 * {@link SubmissionViewRecordRepository#findDistinctViewerKeys}.
+	 */
+	static String viewerKey(String userId, String ipAddress) {
+		if (StringUtils.hasText(userId)) {
+			return "u:" + userId;
+		}
+		if (StringUtils.hasText(ipAddress)) {
+			return "ip:" + ipAddress;
+		}
+		return null;
+	}
+
+	private RBloomFilter<String> bloomFilter(String submissionId) {
+		RBloomFilter<String> bloomFilter = redissonClient.getBloomFilter(BLOOM_KEY_PREFIX + submissionId);
+		if (!initializedFilters.contains(submissionId)) {
+			initialize(bloomFilter, submissionId);
+			initializedFilters.add(submissionId);
+		}
+		return bloomFilter;
+	}
+
+	/**
+	 * Create the Bloom filter if it does not exist, seeding it with the stored viewers.
+	 */
+	private void initialize(RBloomFilter<String> bloomFilter, String submissionId) {
+		if (bloomFilter.tryInit(properties.getExpectedViewers(), properties.getFalseProbability())) {
+			List<String> viewers = viewRecordRepository.findDistinctViewerKeys(submissionId);
+			seed(bloomFilter, submissionId, viewers);
+			log.debug("Seeded viewer de-duplication for submission {} with {} viewers", submissionId, viewers.size());
+		}
+	}
+
+	private void seed(RBloomFilter<String> bloomFilter, String submissionId, List<String> viewers) {
+		RHyperLogLog<String> hyperLogLog = hyperLogLog(submissionId);
+		if (!viewers.isEmpty()) {
+			viewers.forEach(bloomFilter::add);
+			hyperLogLog.addAll(viewers);
+		}
+		bloomFilter.expire(properties.getViewerTtl());
+		hyperLogLog.expire(properties.getViewerTtl());
+	}
+
+	private RHyperLogLog<String> hyperLogLog(String submissionId) {
+		return redissonClient.getHyperLogLog(HLL_KEY_PREFIX + submissionId);
+	}
+
+}
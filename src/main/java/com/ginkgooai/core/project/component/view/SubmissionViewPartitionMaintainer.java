@@ -0,0 +1,88 @@
+package com.ginkgooai.core.project.component.view;
+
+import com.ginkgooai.core.project.aspect.lock.DistributedLockService;
+import com.ginkgooai.core.project.config.properties.SubmissionViewProperties;
+import com.ginkgooai.core.project.repository.SubmissionViewRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the monthly partitions of {@code submission_view_record} in shape.
+ *
+ * <p>
+ * Partitions are created {@code app.submission-view.partition-months-ahead} months in
+ * advance, so views never land in the default partition; views that did land there are
+ * moved into their month's partition when it is created. A month that cannot be created
+ * is logged and retried on the next run, without holding up the others or the expiry.
+ * Months that lie entirely
+ * before {@code app.submission-view.raw-retention-days} are detached, and dropped unless
+ * {@code app.submission-view.drop-expired-partitions} is false, in which case the
+ * detached tables are left for archiving. Only one instance runs the job at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionViewPartitionMaintainer {
+
+	private static final String LOCK_KEY = "submission-view:partitions";
+
+	private final SubmissionViewRecordRepository viewRecordRepository;
+
+	private final DistributedLockService distributedLockService;
+
+	private final SubmissionViewProperties properties;
+
+	@Scheduled(cron = "${app.submission-view.partition-cron:0 0 3 * * *}")
+	public void maintainPartitions() {
+		if (!distributedLockService.tryLock(LOCK_KEY, 0, 10, TimeUnit.MINUTES)) {
+			log.debug("Submission view partitions are maintained by another instance");
+			return;
+		}
+		try {
+			createUpcomingPartitions();
+			expirePartitions();
+		}
+		finally {
+			distributedLockService.unlock(LOCK_KEY);
+		}
+	}
+
+	private void createUpcomingPartitions() {
+		LocalDate month = LocalDate.now().withDayOfMonth(1);
+		for (int i = 0; i <= properties.getPartitionMonthsAhead(); i++) {
+			LocalDate partitionMonth = month.plusMonths(i);
+			try {
+				if (viewRecordRepository.createPartition(partitionMonth)) {
+					log.info("Created submission view partition for {}", partitionMonth);
+				}
+			}
+			catch (DataAccessException e) {
+				log.error("Failed to create submission view partition for {}", partitionMonth, e);
+			}
+		}
+	}
+
+	/**
+	 * A retention of zero or less keeps every partition.
+	 */
+	private void expirePartitions() {
+		if (properties.getRawRetentionDays() <= 0) {
+			return;
+		}
+		boolean dropExpiredPartitions = properties.isDropExpiredPartitions();
+		LocalDate cutoff = LocalDate.now().minusDays(properties.getRawRetentionDays());
+		List<String> expired = viewRecordRepository.detachPartitionsBefore(cutoff, dropExpiredPartitions);
+		if (!expired.isEmpty()) {
+			log.info("{} submission view partitions before {}: {}", dropExpiredPartitions ? "Dropped" : "Detached",
+					cutoff, expired);
+		}
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.ginkgooai.core.project.config;
+
+import com.ginkgooai.core.project.component.concurrent.ContextSnapshot;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+public class AsyncConfig {
+
+	/**
+	 * Run {@code @Async} methods with the workspace/user and security context of the
+	 * caller, so that they can call other services on the caller's behalf.
+	 */
+	@Bean
+	public TaskDecorator contextSnapshotTaskDecorator() {
+		return task -> ContextSnapshot.capture().wrap(task);
+	}
+
+}
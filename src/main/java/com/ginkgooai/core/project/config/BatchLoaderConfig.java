@@ -0,0 +1,52 @@
+package com.ginkgooai.core.project.config;
+
+import com.ginkgooai.core.project.client.identity.IdentityClient;
+import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
+import com.ginkgooai.core.project.client.storage.StorageClient;
+import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
+import com.ginkgooai.core.project.component.batch.BatchLoader;
+import com.ginkgooai.core.project.config.properties.BatchLoaderProperties;
+import com.ginkgooai.core.project.config.security.CallerCredentials;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batches are scoped by the caller's {@code Authorization} value, taken from the security
+ * context so that lookups forked off the request thread stay in their caller's batch.
+ */
+@Configuration
+public class BatchLoaderConfig {
+
+	@Bean
+	public BatchLoader<String, UserInfoResponse> userBatchLoader(IdentityClient identityClient,
+			BatchLoaderProperties properties, MeterRegistry meterRegistry) {
+		return new BatchLoader<>("identity-users", ids -> toMap(identityClient.getUsersByIds(ids).getBody(),
+				UserInfoResponse::getId), properties.getWindow(), properties.getMaxBatchSize(),
+				properties.getTimeout(), CallerCredentials::authorization, meterRegistry);
+	}
+
+	@Bean
+	public BatchLoader<String, CloudFileResponse> fileBatchLoader(StorageClient storageClient,
+			BatchLoaderProperties properties, MeterRegistry meterRegistry) {
+		return new BatchLoader<>("storage-files", ids -> toMap(storageClient.getFileDetails(ids).getBody(),
+				CloudFileResponse::getId), properties.getWindow(), properties.getMaxBatchSize(),
+				properties.getTimeout(), CallerCredentials::authorization, meterRegistry);
+	}
+
+	private static <V> Map<String, V> toMap(List<V> values, Function<V, String> idExtractor) {
+		if (values == null) {
+			return Map.of();
+		}
+		return values.stream()
+			.filter(Objects::nonNull)
+			.collect(Collectors.toMap(idExtractor, Function.identity(), (existing, replacement) -> existing));
+	}
+
+}
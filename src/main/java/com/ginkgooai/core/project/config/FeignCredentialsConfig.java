@@ -0,0 +1,31 @@
+package com.ginkgooai.core.project.config;
+
+import com.ginkgooai.core.project.config.security.CallerCredentials;
+import feign.RequestInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Configuration
+public class FeignCredentialsConfig {
+
+	/**
+	 * Forwards the caller's bearer token on calls made off the request thread, where the
+	 * shared Feign configuration has no request to copy the header from.
+	 */
+	@Bean
+	public RequestInterceptor callerCredentialsInterceptor() {
+		return template -> {
+			if (RequestContextHolder.getRequestAttributes() != null
+					|| template.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+				return;
+			}
+			String authorization = CallerCredentials.authorization();
+			if (authorization != null) {
+				template.header(HttpHeaders.AUTHORIZATION, authorization);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.ginkgooai.core.project.config.datasource;
+
+import com.ginkgooai.core.project.component.datasource.ReplicaFallbackDataSource;
+import com.ginkgooai.core.project.component.datasource.ReplicaLagMonitor;
+import com.ginkgooai.core.project.config.properties.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to a read replica.
+ *
+ * <p>
+ * The application data source is a {@link LazyConnectionDataSourceProxy} over a
+ * {@link ReplicaFallbackDataSource}: a connection is only fetched once the first
+ * statement runs, when the transaction is known to be read-only or not. Read-only
+ * transactions get the replica pool unless it lags or is down; read-write transactions,
+ * migrations and other non-transactional work get the primary.
+ *
+ * <p>
+ * Hibernate releases the connection at the end of each transaction instead of holding it
+ * for the session. With open-in-view the session lasts for the whole request, so a held
+ * connection would carry the database picked by the first transaction into the next
+ * ones, e.g. a write following a repository read outside a service transaction.
+ *
+ * <p>
+ * The replica pool is not a default candidate, so it is left out of the {@code db}
+ * health check and only reported by the {@code replica} one; its pool metrics are bound
+ * here.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean(defaultCandidate = false)
+	public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+			ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("replica");
+		dataSource.setJdbcUrl(properties.getUrl());
+		dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+		dataSource.setUsername(StringUtils.hasText(properties.getUsername()) ? properties.getUsername()
+				: dataSourceProperties.determineUsername());
+		dataSource.setPassword(StringUtils.hasText(properties.getPassword()) ? properties.getPassword()
+				: dataSourceProperties.determinePassword());
+		dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+		dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+		dataSource.setReadOnly(true);
+		dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+			@Qualifier("replicaDataSource") DataSource replicaDataSource, ReplicaLagMonitor lagMonitor,
+			MeterRegistry meterRegistry) {
+		return new LazyConnectionDataSourceProxy(
+				new ReplicaFallbackDataSource(primaryDataSource, replicaDataSource, lagMonitor, meterRegistry));
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+		return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+				PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.ginkgooai.core.project.config.jpa;
+
+import com.ginkgooai.core.project.config.properties.SecondLevelCacheProperties;
+import com.ginkgooai.core.project.domain.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.redisson.api.RedissonClient;
+import org.redisson.jcache.JCachingProvider;
+import org.redisson.jcache.configuration.RedissonConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache for read-mostly entities, see {@link CacheRegions}.
+ *
+ * <p>
+ * Regions are JCaches of Redisson's provider on the shared {@link RedissonClient}, so a
+ * change committed on one instance replaces the entry every instance reads. The regions
+ * are created here with an expiry; Hibernate fails to start rather than create an
+ * unconfigured cache for a region missing from the list.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(RedissonClient redissonClient,
+			SecondLevelCacheProperties properties) {
+		CacheManager cacheManager = createCacheManager(redissonClient, properties);
+		return hibernateProperties -> {
+			hibernateProperties.put("hibernate.cache.use_second_level_cache", true);
+			hibernateProperties.put("hibernate.cache.region.factory_class", "jcache");
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatisticsEnabled());
+			// Statistics are read through the meters below; without this Hibernate would
+			// also log the metrics of every session
+			hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+			hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+		};
+	}
+
+	/**
+	 * Hits, misses and hit ratio of each region, tagged with the region name. Nothing is
+	 * registered when statistics are disabled.
+	 */
+	@Bean
+	public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+		return registry -> {
+			Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			if (!statistics.isStatisticsEnabled()) {
+				return;
+			}
+			for (String region : CacheRegions.ALL) {
+				Tags tags = Tags.of("region", region);
+				FunctionCounter.builder("hibernate.second-level-cache.requests", statistics,
+						stats -> regionStatistics(stats, region).getHitCount())
+					.tags(tags.and("result", "hit"))
+					.register(registry);
+				FunctionCounter.builder("hibernate.second-level-cache.requests", statistics,
+						stats -> regionStatistics(stats, region).getMissCount())
+					.tags(tags.and("result", "miss"))
+					.register(registry);
+				Gauge.builder("hibernate.second-level-cache.hit-ratio", statistics,
+						stats -> hitRatio(regionStatistics(stats, region)))
+					.tags(tags)
+					.register(registry);
+			}
+		};
+	}
+
+	/**
+	 * The cache manager is closed by Hibernate when the session factory is.
+	 */
+	private static CacheManager createCacheManager(RedissonClient redissonClient,
+			SecondLevelCacheProperties properties) {
+		CacheManager cacheManager = Caching.getCachingProvider(JCachingProvider.class.getName()).getCacheManager();
+		MutableConfiguration<Object, Object> configuration = new MutableConfiguration<>()
+			.setExpiryPolicyFactory(
+					CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.SECONDS, properties.getTtl().toSeconds())));
+		for (String region : CacheRegions.ALL) {
+			if (cacheManager.getCache(region) == null) {
+				cacheManager.createCache(region, RedissonConfiguration.fromInstance(redissonClient, configuration));
+			}
+		}
+		return cacheManager;
+	}
+
+	private static CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+		return statistics.getDomainDataRegionStatistics(region);
+	}
+
+	private static double hitRatio(CacheRegionStatistics statistics) {
+		long requests = statistics.getHitCount() + statistics.getMissCount();
+		return requests == 0 ? Double.NaN : (double) statistics.getHitCount() / requests;
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.application-detail")
+@Data
+public class ApplicationDetailProperties {
+
+	/**
+	 * How long the application detail waits for its parallel lookups; parts not loaded
+	 * by then are left out.
+	 */
+	private Duration deadline = Duration.ofSeconds(2);
+
+}
@@ -0,0 +1,29 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.batch-loader")
+@Data
+public class BatchLoaderProperties {
+
+	/**
+	 * Time a batch stays open for further keys before it is sent.
+	 */
+	private Duration window = Duration.ofMillis(5);
+
+	/**
+	 * Maximum number of keys sent to a remote service in a single request.
+	 */
+	private int maxBatchSize = 50;
+
+	/**
+	 * Maximum time a caller waits for the keys it requested.
+	 */
+	private Duration timeout = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,20 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.dashboard-counters")
+@Data
+public class DashboardCountersProperties {
+
+	/**
+	 * Lifetime of a workspace's counters since they were last counted from the
+	 * database. Expired counters are counted again on the next read.
+	 */
+	private Duration ttl = Duration.ofDays(1);
+
+}
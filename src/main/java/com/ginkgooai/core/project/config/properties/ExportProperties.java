@@ -0,0 +1,17 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.export")
+@Data
+public class ExportProperties {
+
+	/**
+	 * Rows fetched from the database cursor per round trip while streaming an export.
+	 */
+	private int fetchSize = 1_000;
+
+}
@@ -0,0 +1,59 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Data
+public class ReplicaDataSourceProperties {
+
+	/**
+	 * Whether read-only transactions are routed to the replica.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * JDBC URL of the replica.
+	 */
+	private String url;
+
+	/**
+	 * Login of the replica; defaults to the primary's.
+	 */
+	private String username;
+
+	/**
+	 * Password of the replica; defaults to the primary's.
+	 */
+	private String password;
+
+	/**
+	 * Maximum number of connections in the replica pool.
+	 */
+	private int maximumPoolSize = 10;
+
+	/**
+	 * How long a read waits for a replica connection before failing.
+	 */
+	private Duration connectionTimeout = Duration.ofSeconds(2);
+
+	/**
+	 * Replication lag above which reads go to the primary.
+	 */
+	private Duration maxLag = Duration.ofSeconds(5);
+
+	/**
+	 * How long the lag query may run before the replica is considered down.
+	 */
+	private Duration checkTimeout = Duration.ofSeconds(2);
+
+	/**
+	 * Delay between two lag checks, in milliseconds.
+	 */
+	private long checkIntervalMs = 5_000;
+
+}
@@ -0,0 +1,26 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.second-level-cache")
+@Data
+public class SecondLevelCacheProperties {
+
+	/**
+	 * How long a cached entity is kept after it was cached; bounds the effect of changes
+	 * made outside Hibernate.
+	 */
+	private Duration ttl = Duration.ofHours(1);
+
+	/**
+	 * Whether Hibernate collects statistics, which the cache hit and miss meters are
+	 * read from.
+	 */
+	private boolean statisticsEnabled = true;
+
+}
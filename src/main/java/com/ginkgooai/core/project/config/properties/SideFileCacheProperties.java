@@ -0,0 +1,35 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.side-file-cache")
+@Data
+public class SideFileCacheProperties {
+
+	/**
+	 * Maximum number of file entries kept in memory.
+	 */
+	private long maximumSize = 10_000;
+
+	/**
+	 * Age after which an entry is still served but refreshed in the background.
+	 */
+	private Duration refreshAfter = Duration.ofMinutes(10);
+
+	/**
+	 * Age after which an entry is dropped and must be loaded again.
+	 */
+	private Duration expireAfter = Duration.ofHours(1);
+
+	/**
+	 * Maximum time a read waits for entries that are not cached yet before returning
+	 * whatever is available.
+	 */
+	private Duration coldLoadWait = Duration.ofMillis(300);
+
+}
@@ -0,0 +1,29 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.soft-delete-purge")
+@Data
+public class SoftDeletePurgeProperties {
+
+	/**
+	 * How long soft deleted rows stay in the live tables; zero or less keeps them.
+	 */
+	private Duration retention = Duration.ofDays(180);
+
+	/**
+	 * Number of rows archived per transaction.
+	 */
+	private int batchSize = 1_000;
+
+	/**
+	 * Maximum time one run may take; the remaining rows wait for the next run.
+	 */
+	private Duration maxDuration = Duration.ofMinutes(30);
+
+}
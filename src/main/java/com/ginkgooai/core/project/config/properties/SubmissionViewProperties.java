@@ -0,0 +1,68 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.submission-view")
+@Data
+public class SubmissionViewProperties {
+
+	/**
+	 * Distinct viewers a submission's Bloom filter is sized for.
+	 */
+	private long expectedViewers = 10_000;
+
+	/**
+	 * Probability that the Bloom filter reports an unseen viewer as seen.
+	 */
+	private double falseProbability = 0.01;
+
+	/**
+	 * How long the viewer Bloom filter and HyperLogLog of a submission are kept in Redis
+	 * after its last new viewer. Expired structures are seeded again from the view records.
+	 */
+	private Duration viewerTtl = Duration.ofDays(30);
+
+	/**
+	 * Whether first views are also stored as view records.
+	 */
+	private boolean rawRecordsEnabled = true;
+
+	/**
+	 * Days view records are kept; their monthly partitions are detached once entirely
+	 * older. Zero or less keeps every partition.
+	 */
+	private int rawRetentionDays = 90;
+
+	/**
+	 * Months of view record partitions created in advance.
+	 */
+	private int partitionMonthsAhead = 3;
+
+	/**
+	 * Whether detached view record partitions are dropped, rather than left for archiving.
+	 */
+	private boolean dropExpiredPartitions = true;
+
+	/**
+	 * Days hourly view rollups are kept; zero or less keeps them forever. Daily rollups
+	 * are always kept.
+	 */
+	private int hourlyRetentionDays = 90;
+
+	/**
+	 * Most view records waiting in memory for the next flush. Views recorded while the
+	 * buffer is full are counted but get no view record.
+	 */
+	private int maxPendingRecords = 100_000;
+
+	/**
+	 * Flushes that may fail to insert a view record before it is dropped.
+	 */
+	private int maxRecordAttempts = 5;
+
+}
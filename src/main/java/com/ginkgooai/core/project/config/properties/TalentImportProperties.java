@@ -0,0 +1,29 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.talent-import")
+@Data
+public class TalentImportProperties {
+
+	/**
+	 * Maximum number of talents in one import file; larger files are rejected.
+	 */
+	private int maxRows = 100_000;
+
+	/**
+	 * Number of rows read between two progress updates.
+	 */
+	private int progressInterval = 1_000;
+
+	/**
+	 * How long the progress of an import stays available after its last update.
+	 */
+	private Duration progressTtl = Duration.ofDays(1);
+
+}
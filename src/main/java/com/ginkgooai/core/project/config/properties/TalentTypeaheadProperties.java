@@ -0,0 +1,35 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.talent-typeahead")
+@Data
+public class TalentTypeaheadProperties {
+
+	/**
+	 * Maximum number of workspace indexes kept in memory.
+	 */
+	private long maximumWorkspaces = 500;
+
+	/**
+	 * Time without suggestions after which a workspace index is dropped.
+	 */
+	private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+	/**
+	 * Age after which a workspace index is rebuilt from the database, bounding the
+	 * effect of any missed change.
+	 */
+	private Duration rebuildAfter = Duration.ofHours(6);
+
+	/**
+	 * Upper bound of the number of suggestions returned per query.
+	 */
+	private int maxSuggestions = 50;
+
+}
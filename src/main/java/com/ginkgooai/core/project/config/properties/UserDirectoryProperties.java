@@ -0,0 +1,29 @@
+package com.ginkgooai.core.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.user-directory")
+@Data
+public class UserDirectoryProperties {
+
+	/**
+	 * Maximum number of users kept in the in-process cache.
+	 */
+	private long localMaximumSize = 10_000;
+
+	/**
+	 * Time a user stays in the in-process cache after being loaded.
+	 */
+	private Duration localTtl = Duration.ofMinutes(5);
+
+	/**
+	 * Time a user stays in the shared Redis tier after being loaded.
+	 */
+	private Duration redisTtl = Duration.ofMinutes(30);
+
+}
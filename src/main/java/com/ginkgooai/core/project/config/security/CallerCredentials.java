@@ -0,0 +1,45 @@
+package com.ginkgooai.core.project.config.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Resolves the credentials of the caller the current thread is working for.
+ *
+ * <p>
+ * The bearer token is taken from the security context, which
+ * {@link com.ginkgooai.core.project.component.concurrent.ContextSnapshot} carries onto
+ * forked and {@code @Async} threads, so work running off the request thread still acts
+ * with the caller's credentials. The request header is only consulted when the security
+ * context holds no JWT.
+ */
+public final class CallerCredentials {
+
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private CallerCredentials() {
+	}
+
+	/**
+	 * The {@code Authorization} header value of the current caller.
+	 * @return header value, or {@code null} when the thread works for no authenticated
+	 * caller
+	 */
+	public static String authorization() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+			return BEARER_PREFIX + jwt.getTokenValue();
+		}
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes instanceof ServletRequestAttributes servletAttributes) {
+			return servletAttributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+		}
+		return null;
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.ginkgooai.core.project.controller;
 
 import com.ginkgooai.core.common.utils.ContextUtils;
+import com.ginkgooai.core.project.component.export.ExportFormat;
 import com.ginkgooai.core.project.config.security.RequireApplicationReadScope;
 import com.ginkgooai.core.project.config.security.RequireApplicationWriteScope;
 import com.ginkgooai.core.project.domain.application.ApplicationStatus;
@@ -8,6 +9,7 @@ import com.ginkgooai.core.project.domain.application.CommentType;
 import com.ginkgooai.core.project.dto.request.*;
 import com.ginkgooai.core.project.dto.response.*;
 import com.ginkgooai.core.project.service.application.ApplicationService;
+import com.ginkgooai.core.project.service.application.ExportService;
 import com.ginkgooai.core.project.service.application.SubmissionService;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,10 +26,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -42,6 +48,8 @@ public class ApplicationController {
 
 	private final SubmissionService submissionService;
 
+	private final ExportService exportService;
+
 	@Operation(summary = "Create new applications for multiple talents",
 			description = "Creates new applications for a list of talents applying to a specific role")
 	@ApiResponses(
@@ -113,6 +121,89 @@ public class ApplicationController {
 					roleId, talentId, startDateTime, endDateTime, viewMode, keyword, status, pageable));
 	}
 
+	@Operation(summary = "Scroll applications",
+			description = "Retrieves applications with the same filters and sorting as the list endpoint, continuing "
+					+ "after the position of a cursor instead of a page number. No total count is computed.")
+	@GetMapping("/scroll")
+	public ResponseEntity<CursorPageResponse<ApplicationResponse>> scrollApplications(
+			@Parameter(description = "Project ID filter") @RequestParam(required = false) String projectId,
+			@Parameter(description = "Role ID filter") @RequestParam(required = false) String roleId,
+			@Parameter(description = "Talent ID filter") @RequestParam(required = false) String talentId,
+			@Parameter(
+					description = "Start date for submission creation (format: yyyy-MM-dd'T'HH:mm:ss)") @RequestParam(
+							required = false) @DateTimeFormat(
+									iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateTime,
+			@Parameter(description = "End date for submission creation (format: yyyy-MM-dd'T'HH:mm:ss)") @RequestParam(
+					required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDateTime,
+			@Parameter(description = "View Mode") @RequestParam(defaultValue = "readingList") String viewMode,
+			@Parameter(description = "Search keyword for talent name or email or role name") @RequestParam(
+					required = false) String keyword,
+			@Parameter(description = "Filter by application status") @RequestParam(
+					required = false) ApplicationStatus status,
+			@Parameter(description = "Cursor returned by the previous call, omit for the first window") @RequestParam(
+					required = false) String cursor,
+			@Parameter(description = "Window size", example = "10") @RequestParam(defaultValue = "10") int size,
+			@Parameter(description = "Sort direction (ASC/DESC)",
+					example = "DESC") @RequestParam(defaultValue = "DESC") String sortDirection,
+			@Parameter(description = "Sort field (e.g., updatedAt)",
+					example = "updatedAt") @RequestParam(defaultValue = "createdAt") String sortField) {
+
+		if (sortField.equals("name")) {
+			sortField = "talent.firstName";
+		}
+		else if (sortField.equals("role")) {
+			sortField = "role.name";
+		}
+
+		Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortField);
+		return ResponseEntity.ok(applicationService.scrollApplications(ContextUtils.getWorkspaceId(),
+				ContextUtils.getUserId(), projectId, roleId, talentId, startDateTime, endDateTime, viewMode, keyword,
+				status, sort, size, cursor));
+	}
+
+	@Operation(summary = "Export applications",
+			description = "Streams every application matching the filters of the list endpoint as CSV or NDJSON, in "
+					+ "the requested sort order, without paging.")
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportApplications(
+			@Parameter(description = "Project ID filter") @RequestParam(required = false) String projectId,
+			@Parameter(description = "Role ID filter") @RequestParam(required = false) String roleId,
+			@Parameter(description = "Talent ID filter") @RequestParam(required = false) String talentId,
+			@Parameter(
+					description = "Start date for submission creation (format: yyyy-MM-dd'T'HH:mm:ss)") @RequestParam(
+							required = false) @DateTimeFormat(
+									iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateTime,
+			@Parameter(description = "End date for submission creation (format: yyyy-MM-dd'T'HH:mm:ss)") @RequestParam(
+					required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDateTime,
+			@Parameter(description = "Search keyword for talent name or email or role name") @RequestParam(
+					required = false) String keyword,
+			@Parameter(description = "Filter by application status") @RequestParam(
+					required = false) ApplicationStatus status,
+			@Parameter(description = "File format", example = "CSV") @RequestParam(
+					defaultValue = "CSV") ExportFormat format,
+			@Parameter(description = "Sort direction (ASC/DESC)",
+					example = "DESC") @RequestParam(defaultValue = "DESC") String sortDirection,
+			@Parameter(description = "Sort field (e.g., updatedAt)",
+					example = "updatedAt") @RequestParam(defaultValue = "createdAt") String sortField) {
+
+		if (sortField.equals("name")) {
+			sortField = "talent.firstName";
+		}
+		else if (sortField.equals("role")) {
+			sortField = "role.name";
+		}
+
+		Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortField);
+		String workspaceId = ContextUtils.getWorkspaceId();
+		StreamingResponseBody body = out -> exportService.exportApplications(workspaceId, projectId, roleId,
+				talentId, startDateTime, endDateTime, keyword, status, sort, format, out);
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(format.getContentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+					ContentDisposition.attachment().filename("applications." + format.getExtension()).build().toString())
+			.body(body);
+	}
+
 	@Operation(summary = "Delete application", description = "Deletes an application by its ID")
 	@DeleteMapping("/{applicationId}")
 	public ResponseEntity deleteApplication(
@@ -1,6 +1,6 @@
 package com.ginkgooai.core.project.controller;
 
-import com.ginkgooai.core.project.client.storage.StorageClient;
+import com.ginkgooai.core.project.client.storage.SideFileCache;
 import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
 import com.ginkgooai.core.project.domain.role.ProjectRole;
 import com.ginkgooai.core.project.dto.request.ProjectRolePatchRequest;
@@ -30,7 +30,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -49,7 +48,7 @@ public class ProjectRoleController {
     private RedisTemplate<String, String> redisTemplate;
 
     @Autowired
-    private StorageClient storageClient;
+    private SideFileCache sideFileCache;
 
     @Operation(summary = "Create a new role for a project", description = "Creates a new role for the specified project")
     @ApiResponses(value = {
@@ -105,22 +104,8 @@ public class ProjectRoleController {
             .filter(sideId -> sideId != null)
             .collect(Collectors.toList());
 
-        Map<String, CloudFileResponse> sideFilesMap = Collections.emptyMap();
-        if (!allSideFileIds.isEmpty()) {
-            try {
-                ResponseEntity<List<CloudFileResponse>> response = storageClient
-                    .getFileDetails(allSideFileIds);
-                if (response.getBody() != null) {
-                    sideFilesMap = response.getBody().stream()
-                        .collect(Collectors.toMap(file -> file.getId(),
-                            Function.identity()));
-                }
-            } catch (Exception e) {
-                log.error("Error fetching side files: {}", e.getMessage());
-            }
-        }
-
-        Map<String, CloudFileResponse> finalSideFilesMap = sideFilesMap;
+        Map<String, CloudFileResponse> finalSideFilesMap = allSideFileIds.isEmpty() ? Collections.emptyMap()
+            : sideFileCache.getAll(allSideFileIds);
         Page<ProjectRoleResponse> responseRolesPage = rolesPage
             .map(role -> ProjectRoleResponse.from(role, finalSideFilesMap));
 
@@ -214,18 +199,7 @@ public class ProjectRoleController {
             return Collections.emptyMap();
         }
 
-        try {
-            ResponseEntity<List<CloudFileResponse>> response = storageClient
-                .getFileDetails(Arrays.asList(role.getSides()));
-            return response.getBody() != null
-                ? response.getBody().stream()
-                .collect(Collectors.toMap(file -> file.getId(),
-                    Function.identity()))
-                : Collections.emptyMap();
-        } catch (Exception e) {
-            log.error("Error fetching side files for role {}: {}", role.getId(), e.getMessage());
-            return Collections.emptyMap();
-        }
+        return sideFileCache.getAll(Arrays.asList(role.getSides()));
     }
 
     // ProjectRoleController.java - add this method
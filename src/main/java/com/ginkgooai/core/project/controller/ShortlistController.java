@@ -2,6 +2,7 @@ package com.ginkgooai.core.project.controller;
 
 import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.common.utils.IpUtils;
+import com.ginkgooai.core.project.component.export.ExportFormat;
 import com.ginkgooai.core.project.config.security.RequireShareShortlistScope;
 import com.ginkgooai.core.project.domain.application.CommentType;
 import com.ginkgooai.core.project.domain.application.ShortlistSortType;
@@ -9,9 +10,11 @@ import com.ginkgooai.core.project.dto.request.CommentCreateRequest;
 import com.ginkgooai.core.project.dto.request.GuestCommentCreateRequest;
 import com.ginkgooai.core.project.dto.request.ShareShortlistRequest;
 import com.ginkgooai.core.project.dto.response.BatchShareShortlistResponse;
+import com.ginkgooai.core.project.dto.response.CursorPageResponse;
 import com.ginkgooai.core.project.dto.response.ShortlistItemResponse;
 import com.ginkgooai.core.project.dto.response.ShortlistShareResponse;
 import com.ginkgooai.core.project.dto.response.SubmissionResponse;
+import com.ginkgooai.core.project.service.application.ExportService;
 import com.ginkgooai.core.project.service.application.ShortlistService;
 import com.ginkgooai.core.project.service.application.SubmissionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,8 +32,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -46,6 +53,8 @@ public class ShortlistController {
 
 	private final SubmissionService submissionService;
 
+	private final ExportService exportService;
+
 	@Operation(summary = "Add item to shortlist",
 			description = "Adds a submission to the user's shortlist with optional notes")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Item added to shortlist successfully"),
@@ -127,6 +136,113 @@ public class ShortlistController {
 			pageable));
 	}
 
+	@Operation(summary = "Export shortlist items",
+		description = "Streams every item of the user's shortlist of a project matching the filters of the list "
+			+ "endpoint as CSV or NDJSON, without paging.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Shortlist items streamed"),
+		@ApiResponse(responseCode = "403", description = "Not authorized to view shortlist")})
+	@GetMapping("/items/export")
+	public ResponseEntity<StreamingResponseBody> exportShortlistItems(
+		@Parameter(description = "ID of the project to filter shortlist items", required = true)
+		@RequestParam String projectId,
+
+		@Parameter(description = "Optional search keyword to filter items")
+		@RequestParam(required = false) String keyword,
+
+		@Parameter(description = "Role ID to filter items")
+		@RequestParam(required = false) String roleId,
+
+		@Parameter(description = "Talent ID to filter items")
+		@RequestParam(required = false) String talentId,
+
+		@Parameter(description = "Start date for submission creation (format: yyyy-MM-dd'T'HH:mm:ss)")
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime startDateTime,
+
+		@Parameter(description = "End date for submission creation (format: yyyy-MM-dd'T'HH:mm:ss)")
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime endDateTime,
+
+		@Parameter(description = "Sort type for the results", example = "NEWEST_FIRST")
+		@RequestParam(defaultValue = "NEWEST_FIRST")
+		ShortlistSortType sortType,
+
+		@Parameter(description = "File format", example = "CSV")
+		@RequestParam(defaultValue = "CSV") ExportFormat format) {
+
+		Sort sort = sortType == ShortlistSortType.OLDEST_FIRST ? Sort.by(Sort.Direction.ASC, "createdAt")
+			: Sort.by(Sort.Direction.DESC, "createdAt");
+		String workspaceId = ContextUtils.getWorkspaceId();
+		String userId = ContextUtils.getUserId();
+		StreamingResponseBody body = out -> exportService.exportShortlistItems(workspaceId, userId, projectId, keyword,
+			roleId, talentId, startDateTime, endDateTime, sort, format, out);
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(format.getContentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+				ContentDisposition.attachment().filename("shortlist-items." + format.getExtension()).build().toString())
+			.body(body);
+	}
+
+	@Operation(summary = "Scroll shortlist items",
+		description = "Retrieves shortlisted items with the same filters and sorting as the list endpoint, continuing "
+			+ "after the position of a cursor instead of a page number. No total count is computed.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Successfully retrieved shortlist items",
+			content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+		@ApiResponse(responseCode = "400", description = "Invalid cursor"),
+		@ApiResponse(responseCode = "403", description = "Not authorized to view shortlist")})
+	@GetMapping("/items/scroll")
+	public ResponseEntity<CursorPageResponse<ShortlistItemResponse>> scrollShortlistItems(
+		@Parameter(description = "ID of the project to filter shortlist items", required = true)
+		@RequestParam String projectId,
+
+		@Parameter(description = "Optional search keyword to filter items")
+		@RequestParam(required = false) String keyword,
+
+		@Parameter(description = "Role ID to filter items")
+		@RequestParam(required = false) String roleId,
+
+		@Parameter(description = "Talent ID to filter items")
+		@RequestParam(required = false) String talentId,
+
+		@Parameter(description = "Start date for submission creation (format: yyyy-MM-dd'T'HH:mm:ss)")
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime startDateTime,
+
+		@Parameter(description = "End date for submission creation (format: yyyy-MM-dd'T'HH:mm:ss)")
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime endDateTime,
+
+		@Parameter(description = "Sort type for the results", example = "NEWEST_FIRST")
+		@RequestParam(defaultValue = "NEWEST_FIRST")
+		ShortlistSortType sortType,
+
+		@Parameter(description = "Cursor returned by the previous call, omit for the first window")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "Window size", example = "10")
+		@RequestParam(defaultValue = "10") int size) {
+
+		Sort sort = sortType == ShortlistSortType.OLDEST_FIRST ? Sort.by(Sort.Direction.ASC, "createdAt")
+			: Sort.by(Sort.Direction.DESC, "createdAt");
+
+		return ResponseEntity.ok(shortlistService.scrollShortlistItems(
+			projectId,
+			keyword,
+			roleId,
+			talentId,
+			startDateTime,
+			endDateTime,
+			sort,
+			size,
+			cursor));
+	}
+
 	@Operation(summary = "Remove item from shortlist", description = "Removes a specific submission from a shortlist")
 	@ApiResponses(
 			value = { @ApiResponse(responseCode = "204", description = "Item successfully removed from shortlist"),
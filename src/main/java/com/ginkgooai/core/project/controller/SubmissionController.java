@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.project.dto.request.CommentCreateRequest;
 import com.ginkgooai.core.project.dto.request.SubmissionCreateRequest;
+import com.ginkgooai.core.project.dto.response.InvitationEmailResponse;
 import com.ginkgooai.core.project.dto.response.SubmissionCommentResponse;
 import com.ginkgooai.core.project.dto.response.SubmissionResponse;
 import com.ginkgooai.core.project.service.application.SubmissionService;
@@ -133,17 +134,38 @@ public class SubmissionController {
                 return ResponseEntity.ok().build();
         }
 
+        @Operation(summary = "Count unique viewers", description = "Returns the estimated number of distinct users or IP addresses that viewed the video")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Estimated unique viewer count"),
+                        @ApiResponse(responseCode = "404", description = "Submission not found")
+        })
+        @GetMapping("/{submissionId}/viewers/count")
+        public ResponseEntity<Long> countUniqueViewers(
+                        @Parameter(description = "ID of the submission", required = true, example = "submission_123") @PathVariable String submissionId) {
+                return ResponseEntity.ok(submissionService.countUniqueViewers(submissionId));
+        }
+
+        @Operation(summary = "Rebuild viewer de-duplication", description = "Rebuilds the viewer de-duplication state of a submission from its stored view records and returns the number of distinct viewers found")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Rebuilt, with the number of distinct viewers"),
+                        @ApiResponse(responseCode = "404", description = "Submission not found")
+        })
+        @PostMapping("/{submissionId}/viewers/rebuild")
+        public ResponseEntity<Integer> rebuildViewDeduplication(
+                        @Parameter(description = "ID of the submission", required = true, example = "submission_123") @PathVariable String submissionId) {
+                return ResponseEntity.ok(submissionService.rebuildViewDeduplication(submissionId));
+        }
+
         @Operation(summary = "Send invitation email", description = "Sends invitation emails to multiple applicants for their submissions")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Invitation emails sent successfully"),
+                        @ApiResponse(responseCode = "200", description = "Invitation emails processed, with the result for each application", content = @Content(schema = @Schema(implementation = InvitationEmailResponse.class))),
                         @ApiResponse(responseCode = "404", description = "One or more applications not found"),
                         @ApiResponse(responseCode = "400", description = "Invalid request data")
         })
         @PostMapping("/invitation")
-        public ResponseEntity<?> sendInvitationEmail(
+        public ResponseEntity<InvitationEmailResponse> sendInvitationEmail(
                         @Parameter(description = "Invitation email request containing template type and application IDs", required = true) 
                         @RequestBody InvitationEmailRequest request) {
-                submissionService.sendInvitationEmail(request);
-                return ResponseEntity.ok().build();
+                return ResponseEntity.ok(submissionService.sendInvitationEmail(request));
         }
 }
\ No newline at end of file
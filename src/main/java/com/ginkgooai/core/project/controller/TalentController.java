@@ -4,9 +4,12 @@ import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.project.domain.talent.Talent;
 import com.ginkgooai.core.project.dto.request.TalentRequest;
 import com.ginkgooai.core.project.dto.request.TalentSearchRequest;
+import com.ginkgooai.core.project.dto.response.CursorPageResponse;
 import com.ginkgooai.core.project.dto.response.TalentBasicResponse;
+import com.ginkgooai.core.project.dto.response.TalentImportResponse;
 import com.ginkgooai.core.project.dto.response.TalentResponse;
 import com.ginkgooai.core.project.dto.response.TalentWithApplicationStatusResponse;
+import com.ginkgooai.core.project.service.application.TalentImportService;
 import com.ginkgooai.core.project.service.application.TalentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,8 +26,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -36,6 +41,8 @@ public class TalentController {
 
         private final TalentService talentService;
 
+        private final TalentImportService talentImportService;
+
         @Operation(summary = "Create new talent", description = "Creates a new talent profile by importing data from external profiles")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Talent profile created successfully", content = @Content(schema = @Schema(implementation = TalentResponse.class))),
@@ -93,6 +100,23 @@ public class TalentController {
                 return ResponseEntity.ok(talentService.searchTalents(ContextUtils.getWorkspaceId(), request, pageable));
         }
 
+        @Operation(summary = "Scroll talents", description = "Search for talents with the same filters and sorting as the search endpoint, continuing after the position of a cursor instead of a page number. No total count is computed.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Search completed successfully", content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Invalid search parameters")
+        })
+        @GetMapping("/scroll")
+        public ResponseEntity<CursorPageResponse<TalentResponse>> scrollTalents(
+            @Parameter(description = "Search criteria and filters, fuzzy match firstName,lastName,email") @Valid @ParameterObject TalentSearchRequest request,
+            @Parameter(description = "Cursor returned by the previous call, omit for the first window") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Window size", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort direction (ASC/DESC)", example = "DESC") @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "Sort field (e.g., updatedAt)", example = "updatedAt") @RequestParam(defaultValue = "createdAt") String sortField) {
+
+                Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortField);
+                return ResponseEntity.ok(talentService.scrollTalents(ContextUtils.getWorkspaceId(), request, sort, size, cursor));
+        }
+
         @Operation(summary = "Get basic information for all talents", description = "Retrieve basic metadata for all talents, for use in dropdowns etc.")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "200", description = "Successfully retrieved basic talents information")
@@ -103,6 +127,41 @@ public class TalentController {
                 return new ResponseEntity<>(basicInfo, HttpStatus.OK);
         }
 
+        @Operation(summary = "Suggest talents", description = "Autocomplete talents of the workspace. Every word of the query must be the start of a word of the talent's first name, last name or email.")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully")
+        })
+        @GetMapping("/suggest")
+        public ResponseEntity<List<TalentBasicResponse>> suggestTalents(
+            @Parameter(description = "What the user typed so far", example = "jane do") @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions", example = "10") @RequestParam(defaultValue = "10") int limit) {
+                return ResponseEntity.ok(talentService.suggestTalents(ContextUtils.getWorkspaceId(), q, limit));
+        }
+
+        @Operation(summary = "Import talents", description = "Imports talents from a CSV file with a header row or an NDJSON file, matching existing talents of the workspace by email. Optionally adds every imported talent to a role. The import runs in the background; poll its progress by ID.")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "202", description = "Import queued", content = @Content(schema = @Schema(implementation = TalentImportResponse.class))),
+                @ApiResponse(responseCode = "400", description = "Unsupported file type"),
+                @ApiResponse(responseCode = "404", description = "Role not found")
+        })
+        @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+        public ResponseEntity<TalentImportResponse> importTalents(
+            @Parameter(description = "CSV or NDJSON file of talents", required = true) @RequestPart("file") MultipartFile file,
+            @Parameter(description = "ID of the role to add the imported talents to", example = "role_123") @RequestParam(required = false) String roleId) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(talentImportService.startImport(file, roleId));
+        }
+
+        @Operation(summary = "Get talent import progress", description = "Retrieves the progress or outcome of a talent import")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Import found", content = @Content(schema = @Schema(implementation = TalentImportResponse.class))),
+                @ApiResponse(responseCode = "404", description = "Import not found or expired")
+        })
+        @GetMapping("/import/{importId}")
+        public ResponseEntity<TalentImportResponse> getTalentImport(
+            @Parameter(description = "ID of the import", required = true) @PathVariable String importId) {
+                return ResponseEntity.ok(talentImportService.getImport(importId));
+        }
+
 
         @Operation(summary = "Get all talents with application status for a role",
             description = "Retrieves all talents and checks if they have applied for a specific role")
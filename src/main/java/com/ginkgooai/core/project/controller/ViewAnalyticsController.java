@@ -0,0 +1,75 @@
+package com.ginkgooai.core.project.controller;
+
+import com.ginkgooai.core.common.utils.ContextUtils;
+import com.ginkgooai.core.project.domain.application.ViewRollupGranularity;
+import com.ginkgooai.core.project.dto.response.TopSubmissionViewResponse;
+import com.ginkgooai.core.project.dto.response.ViewTimeSeriesResponse;
+import com.ginkgooai.core.project.service.application.ViewAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics/views")
+@RequiredArgsConstructor
+@Tag(name = "View Analytics", description = "APIs for submission view statistics")
+public class ViewAnalyticsController {
+
+	private final ViewAnalyticsService viewAnalyticsService;
+
+	@Operation(summary = "Views over time",
+			description = "Returns the number of plays and first plays per hour or per day in the current workspace, "
+					+ "optionally narrowed to a project or a submission")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "View time series",
+					content = @Content(schema = @Schema(implementation = ViewTimeSeriesResponse.class))),
+			@ApiResponse(responseCode = "400", description = "Invalid time range") })
+	@GetMapping
+	public ResponseEntity<ViewTimeSeriesResponse> getViewTimeSeries(
+			@Parameter(description = "Project ID", example = "proj_12345") @RequestParam(required = false) String projectId,
+			@Parameter(description = "Submission ID", example = "sub_12345") @RequestParam(required = false) String submissionId,
+			@Parameter(description = "Bucket size") @RequestParam(defaultValue = "DAY") ViewRollupGranularity granularity,
+			@Parameter(description = "Inclusive start, defaults to 30 days before the end",
+					example = "2025-01-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(
+							iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+			@Parameter(description = "Exclusive end, defaults to now",
+					example = "2025-02-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(
+							iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+		return ResponseEntity.ok(viewAnalyticsService.getViewTimeSeries(ContextUtils.getWorkspaceId(), projectId,
+				submissionId, granularity, start, end));
+	}
+
+	@Operation(summary = "Most viewed submissions",
+			description = "Returns the submissions with the most plays in the current workspace over whole days, "
+					+ "optionally within a project")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Submissions, most viewed first") })
+	@GetMapping("/top-submissions")
+	public ResponseEntity<List<TopSubmissionViewResponse>> getTopSubmissions(
+			@Parameter(description = "Project ID", example = "proj_12345") @RequestParam(required = false) String projectId,
+			@Parameter(description = "Inclusive start, defaults to 30 days before the end",
+					example = "2025-01-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(
+							iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+			@Parameter(description = "Exclusive end, defaults to now",
+					example = "2025-02-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(
+							iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+			@Parameter(description = "Number of submissions to return, at most 100", example = "10") @RequestParam(
+					defaultValue = "10") int limit) {
+		return ResponseEntity.ok(viewAnalyticsService.getTopSubmissions(ContextUtils.getWorkspaceId(), projectId,
+				start, end, limit));
+	}
+
+}
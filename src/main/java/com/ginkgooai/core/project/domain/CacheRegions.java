@@ -0,0 +1,22 @@
+package com.ginkgooai.core.project.domain;
+
+import java.util.List;
+
+/**
+ * Second-level cache regions. Each one is a Redis-backed JCache, so every instance sees
+ * the same entries and invalidations.
+ */
+public final class CacheRegions {
+
+	public static final String PROJECT = "l2:project";
+
+	public static final String PROJECT_ROLE = "l2:project-role";
+
+	public static final String IMDB_MOVIE_ITEM = "l2:imdb-movie-item";
+
+	public static final List<String> ALL = List.of(PROJECT, PROJECT_ROLE, IMDB_MOVIE_ITEM);
+
+	private CacheRegions() {
+	}
+
+}
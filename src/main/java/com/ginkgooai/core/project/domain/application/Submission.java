@@ -60,8 +60,24 @@ public class Submission extends BaseLogicalDeleteEntity {
     @Column(columnDefinition = "jsonb")
     private Map<String, Object> metadata;
 
-    @OneToMany(mappedBy = "submission", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "submission", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<SubmissionComment> comments = new ArrayList<>();
 
+    /**
+     * Number of public comments, maintained in the database by
+     * {@code SubmissionRepository#adjustCommentCount}.
+     */
+    @Column(insertable = false, updatable = false)
+    @Builder.Default
+    private Long publicCommentCount = 0L;
+
+    /**
+     * Number of internal comments, maintained in the database by
+     * {@code SubmissionRepository#adjustCommentCount}.
+     */
+    @Column(insertable = false, updatable = false)
+    @Builder.Default
+    private Long internalCommentCount = 0L;
+
 }
\ No newline at end of file
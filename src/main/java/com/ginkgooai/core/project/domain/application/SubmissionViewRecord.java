@@ -11,7 +11,8 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 /**
- * Records video viewing history for deduplication and analytics
+ * Records video viewing history for deduplication and analytics.
+ * The table is partitioned by month of {@code viewed_at}, which is part of its primary key.
  */
 @Entity
 @Table(name = "submission_view_record")
@@ -0,0 +1,58 @@
+package com.ginkgooai.core.project.domain.application;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Number of views of a submission within one hour or one day. Rows are upserted by the
+ * view buffer flush and read by the view analytics queries.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(SubmissionViewRollup.RollupId.class)
+@Table(name = "submission_view_rollup")
+public class SubmissionViewRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private ViewRollupGranularity granularity;
+
+    @Id
+    private LocalDateTime bucketStart;
+
+    @Id
+    private String submissionId;
+
+    private String workspaceId;
+
+    private String projectId;
+
+    /**
+     * All plays in the bucket.
+     */
+    private Long views;
+
+    /**
+     * Plays in the bucket by viewers who had not watched the submission before.
+     */
+    private Long uniqueViews;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RollupId implements Serializable {
+
+        private ViewRollupGranularity granularity;
+
+        private LocalDateTime bucketStart;
+
+        private String submissionId;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ginkgooai.core.project.domain.application;
+
+/**
+ * Size of the time buckets of {@link SubmissionViewRollup}.
+ */
+public enum ViewRollupGranularity {
+    HOUR,
+    DAY
+}
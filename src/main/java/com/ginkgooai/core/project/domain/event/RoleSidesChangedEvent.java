@@ -0,0 +1,23 @@
+package com.ginkgooai.core.project.domain.event;
+
+import com.ginkgooai.core.project.domain.role.ProjectRole;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class RoleSidesChangedEvent extends ApplicationEvent {
+
+	private final ProjectRole role;
+
+	private final String[] oldSides;
+
+	private final String[] newSides;
+
+	public RoleSidesChangedEvent(Object source, ProjectRole role, String[] oldSides, String[] newSides) {
+		super(source);
+		this.role = role;
+		this.oldSides = oldSides;
+		this.newSides = newSides;
+	}
+
+}
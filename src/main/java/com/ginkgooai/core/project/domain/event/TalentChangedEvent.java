@@ -0,0 +1,23 @@
+package com.ginkgooai.core.project.domain.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * A talent was created or changed. A null talent ID stands for any number of talents of
+ * the workspace, such as after a bulk import.
+ */
+@Getter
+public class TalentChangedEvent extends ApplicationEvent {
+
+	private final String workspaceId;
+
+	private final String talentId;
+
+	public TalentChangedEvent(Object source, String workspaceId, String talentId) {
+		super(source);
+		this.workspaceId = workspaceId;
+		this.talentId = talentId;
+	}
+
+}
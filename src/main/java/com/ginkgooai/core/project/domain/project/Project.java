@@ -2,10 +2,13 @@ package com.ginkgooai.core.project.domain.project;
 
 import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.project.domain.BaseLogicalDeleteEntity;
+import com.ginkgooai.core.project.domain.CacheRegions;
 import com.ginkgooai.core.project.domain.role.ProjectRole;
 import com.ginkgooai.core.project.dto.request.ProjectCreateRequest;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -17,6 +20,8 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "project")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECT)
 public class Project extends BaseLogicalDeleteEntity {
 
     @Id
@@ -47,6 +52,20 @@ public class Project extends BaseLogicalDeleteEntity {
 
     private String posterUrl;
 
+    /**
+     * Live roles of the project, maintained by a database trigger. The second-level
+     * cache does not see trigger updates, so read it with a query.
+     */
+    @Column(insertable = false, updatable = false)
+    private Long roleCount;
+
+    /**
+     * Live applications of the project in SUBMITTED status, maintained by a database
+     * trigger. Like {@link #roleCount}, read it with a query.
+     */
+    @Column(insertable = false, updatable = false)
+    private Long pendingReviewCount;
+
     public Project(ProjectCreateRequest request) {
         this.name = request.getName();
         this.description = request.getDescription();
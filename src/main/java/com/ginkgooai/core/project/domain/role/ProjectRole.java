@@ -3,10 +3,16 @@ package com.ginkgooai.core.project.domain.role;
 import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.project.component.ApplicationContextProvider;
 import com.ginkgooai.core.project.domain.BaseLogicalDeleteEntity;
+import com.ginkgooai.core.project.domain.CacheRegions;
+import com.ginkgooai.core.project.domain.event.RoleSidesChangedEvent;
 import com.ginkgooai.core.project.domain.event.RoleStatusChangedEvent;
 import com.ginkgooai.core.project.domain.project.Project;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.Arrays;
 
 @Entity
 @Getter
@@ -15,6 +21,8 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "project_role")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECT_ROLE)
 public class ProjectRole extends BaseLogicalDeleteEntity {
 
     @Id
@@ -63,4 +71,14 @@ public class ProjectRole extends BaseLogicalDeleteEntity {
 		}
 	}
 
+	public void setSides(String[] newSides) {
+		if (!Arrays.equals(newSides, this.sides)) {
+			String[] oldSides = this.sides;
+			this.sides = newSides;
+
+			ApplicationContextProvider.getApplicationContext()
+				.publishEvent(new RoleSidesChangedEvent(this, this, oldSides, newSides));
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.ginkgooai.core.project.domain.role;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Number of live applications of a role, in total and per status shown on the role
+ * list. Rows are maintained by database triggers on the application table, in the same
+ * transaction as the application change, and are never written through JPA.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Immutable
+@Table(name = "role_application_stats")
+public class RoleApplicationStats {
+
+    @Id
+    private String roleId;
+
+    private Long total;
+
+    private Long added;
+
+    private Long submitted;
+
+    private Long shortlisted;
+
+    private Long declined;
+}
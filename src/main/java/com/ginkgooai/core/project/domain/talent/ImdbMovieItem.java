@@ -1,11 +1,14 @@
 package com.ginkgooai.core.project.domain.talent;
 
 import com.ginkgooai.core.project.domain.BaseAuditableEntity;
+import com.ginkgooai.core.project.domain.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Builder
@@ -13,6 +16,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "imdb_movie_item")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.IMDB_MOVIE_ITEM)
 public class ImdbMovieItem extends BaseAuditableEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
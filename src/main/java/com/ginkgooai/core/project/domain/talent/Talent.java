@@ -71,6 +71,12 @@ public class Talent extends BaseAuditableEntity {
 	@Column
 	private String userId;
 
+    /**
+     * Lower-cased "first last" name generated by the database, for keyword search.
+     */
+    @Column(insertable = false, updatable = false)
+    private String searchName;
+
     public static Talent from(TalentRequest request) {
         return Talent.builder()
             .firstName(request.getFirstName())
@@ -2,11 +2,13 @@ package com.ginkgooai.core.project.dto.response;
 
 import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
 import com.ginkgooai.core.project.domain.application.ApplicationComment;
+import com.ginkgooai.core.project.repository.projection.ApplicationRemarkRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Data
 @Builder
@@ -45,4 +47,16 @@ public class ApplicationCommentResponse {
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static ApplicationCommentResponse from(ApplicationRemarkRow row, UserInfoResponse user) {
+        return ApplicationCommentResponse.builder()
+                .id(row.getId())
+                .content(row.getContent())
+                .createdBy(row.getCreatedBy())
+                .userName(Optional.ofNullable(user).map(UserInfoResponse::getName).orElse("unknown"))
+                .userPicture(Optional.ofNullable(user).map(UserInfoResponse::getPicture).orElse(null))
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+}
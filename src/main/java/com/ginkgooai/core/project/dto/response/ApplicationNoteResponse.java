@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
 import com.ginkgooai.core.project.domain.application.ApplicationNote;
+import com.ginkgooai.core.project.repository.projection.ApplicationRemarkRow;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -47,4 +48,16 @@ public class ApplicationNoteResponse {
                 .updatedAt(note.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static ApplicationNoteResponse from(ApplicationRemarkRow row, UserInfoResponse user) {
+        return ApplicationNoteResponse.builder()
+                .id(row.getId())
+                .content(row.getContent())
+                .createdBy(row.getCreatedBy())
+                .userName(Optional.ofNullable(user).map(UserInfoResponse::getName).orElse("unknown"))
+                .userPicture(Optional.ofNullable(user).map(UserInfoResponse::getPicture).orElse(null))
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
 import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
 import com.ginkgooai.core.project.domain.application.Application;
 import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.repository.projection.ApplicationListRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
@@ -111,6 +112,54 @@ public class ApplicationResponse {
         return response;
     }
 
+	/**
+	 * Build a list view response from a projected row. Project and role large text,
+	 * role side files and talent JSON details are not part of the row and stay empty.
+	 */
+	public static ApplicationResponse from(ApplicationListRow row, List<SubmissionResponse> submissions,
+			List<ApplicationNoteResponse> notes, List<ApplicationCommentResponse> comments) {
+		List<String> role = ContextUtils.get().get(ContextsConstant.USER_ROLE, List.class);
+		boolean isTalentRole = role.size() == 1 && role.get(0).equals("ROLE_TALENT");
+
+		return ApplicationResponse.builder()
+			.id(row.getId())
+			.workspaceId(row.getWorkspaceId())
+			.projectId(row.getProjectId())
+			.projectName(row.getProjectName())
+			.role(row.getRoleId() == null ? null
+					: ProjectRoleResponse.builder()
+						.id(row.getRoleId())
+						.name(row.getRoleName())
+						.status(row.getRoleStatus())
+						.isActive(row.getRoleActive())
+						.projectId(row.getProjectId())
+						.build())
+			.talent(row.getTalentId() == null ? null
+					: TalentResponse.builder()
+						.id(row.getTalentId())
+						.workspaceId(row.getTalentWorkspaceId())
+						.firstName(row.getTalentFirstName())
+						.lastName(row.getTalentLastName())
+						.email(row.getTalentEmail())
+						.imdbProfileUrl(row.getTalentImdbProfileUrl())
+						.spotlightProfileUrl(row.getTalentSpotlightProfileUrl())
+						.profilePhotoUrl(row.getTalentProfilePhotoUrl())
+						.status(row.getTalentStatus() == null ? null : row.getTalentStatus().name())
+						.applicationCount(row.getTalentApplicationCount())
+						.submissionCount(row.getTalentSubmissionCount())
+						.createdAt(row.getTalentCreatedAt())
+						.updatedAt(row.getTalentUpdatedAt())
+						.build())
+			.submissions(ObjectUtils.isEmpty(submissions) ? null : submissions)
+			.status(row.getStatus())
+			.notes(isTalentRole ? null : notes)
+			.comments(isTalentRole ? null : comments)
+			.createdBy(row.getCreatedBy())
+			.createdAt(row.getCreatedAt())
+			.updatedAt(row.getUpdatedAt())
+			.build();
+	}
+
     public static ApplicationResponse from(Application application) {
 		return from(application, Collections.emptyList(), ContextUtils.getUserId(), Collections.emptyMap());
 	}
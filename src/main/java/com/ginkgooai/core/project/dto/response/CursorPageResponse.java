@@ -0,0 +1,34 @@
+package com.ginkgooai.core.project.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A window of results with a token to continue after it")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Results in this window")
+    private List<T> content;
+
+    @Schema(description = "Opaque token for the next window, absent on the last window", example = "Y3JlYXRlZEF0PTIwMjUtMDEtMDFUMDA6MDA6MDAmaWQ9YWJj")
+    private String nextCursor;
+
+    @Schema(description = "Whether more results follow", example = "true")
+    private boolean hasNext;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ginkgooai.core.project.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response containing the per-recipient results of sending invitation emails")
+public class InvitationEmailResponse {
+
+    @Schema(description = "Result for each requested application")
+    private List<RecipientResult> results;
+
+    @Schema(description = "Number of invitations queued for sending", example = "5")
+    private int sentCount;
+
+    @Schema(description = "Number of invitations that could not be sent", example = "0")
+    private int failedCount;
+
+    @Schema(description = "Number of invitations skipped because the recipient was recently emailed", example = "0")
+    private int rateLimitedCount;
+
+    public enum Status {
+        SENT, FAILED, RATE_LIMITED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Invitation result for a single application")
+    public static class RecipientResult {
+
+        @Schema(description = "Application ID", example = "app_12345")
+        private String applicationId;
+
+        @Schema(description = "Recipient email", example = "talent@example.com")
+        private String email;
+
+        @Schema(description = "Invitation status", example = "SENT")
+        private Status status;
+
+        @Schema(description = "Reason the invitation was not sent, if any")
+        private String error;
+
+    }
+
+    public static InvitationEmailResponse from(List<RecipientResult> results) {
+        return InvitationEmailResponse.builder()
+                .results(results)
+                .sentCount(count(results, Status.SENT))
+                .failedCount(count(results, Status.FAILED))
+                .rateLimitedCount(count(results, Status.RATE_LIMITED))
+                .build();
+    }
+
+    private static int count(List<RecipientResult> results, Status status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+}
@@ -1,15 +1,12 @@
 package com.ginkgooai.core.project.dto.response;
 
 import com.ginkgooai.core.common.utils.ContextUtils;
-import com.ginkgooai.core.project.domain.application.CommentType;
 import com.ginkgooai.core.project.domain.application.Submission;
-import com.ginkgooai.core.project.domain.application.SubmissionComment;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 @Data
@@ -70,8 +67,6 @@ public class SubmissionBriefResponse {
 	private LocalDateTime updatedAt;
 
 	public static SubmissionBriefResponse from(Submission submission) {
-		List<SubmissionComment> comments = Optional.ofNullable(submission.getComments()).orElse(List.of());
-
 		return SubmissionBriefResponse.builder()
 			.id(submission.getId())
 			.projectId(submission.getApplication().getProject().getId())
@@ -83,8 +78,8 @@ public class SubmissionBriefResponse {
 			.videoDuration(submission.getVideoDuration())
 			.videoResolution(submission.getVideoResolution())
 			.viewCount(submission.getViewCount())
-			.publicCommentCount(comments.stream().filter(t -> CommentType.PUBLIC.equals(t.getType())).count())
-			.internalCommentCount(comments.stream().filter(t -> CommentType.INTERNAL.equals(t.getType())).count())
+			.publicCommentCount(Optional.ofNullable(submission.getPublicCommentCount()).orElse(0L))
+			.internalCommentCount(Optional.ofNullable(submission.getInternalCommentCount()).orElse(0L))
 			.shortlisted(submission.getShortlistItems() != null && submission.getShortlistItems()
 				.stream()
 				.anyMatch(item -> item.getShortlist().getCreatedBy().equals(ContextUtils.getUserId())))
@@ -6,6 +6,8 @@ import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
 import com.ginkgooai.core.project.domain.application.CommentType;
 import com.ginkgooai.core.project.domain.application.Submission;
 import com.ginkgooai.core.project.domain.application.SubmissionComment;
+import com.ginkgooai.core.project.repository.projection.ApplicationListRow;
+import com.ginkgooai.core.project.repository.projection.SubmissionListRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
@@ -117,8 +119,8 @@ public class SubmissionResponse {
                 .map(t -> SubmissionCommentResponse.from(t,
                     userInfoMap.get(t.getCreatedBy())))
                 .toList() : null)
-			.publicCommentCount(comments.stream().filter(t -> CommentType.PUBLIC.equals(t.getType())).count())
-			.internalCommentCount(comments.stream().filter(t -> CommentType.INTERNAL.equals(t.getType())).count())
+			.publicCommentCount(Optional.ofNullable(submission.getPublicCommentCount()).orElse(0L))
+			.internalCommentCount(Optional.ofNullable(submission.getInternalCommentCount()).orElse(0L))
             .shortlisted(submission.getShortlistItems() != null &&
                 submission.getShortlistItems().stream()
                     .anyMatch(item -> item.getShortlist().getCreatedBy()
@@ -127,7 +129,6 @@ public class SubmissionResponse {
     }
 
     public static SubmissionResponse from(Submission submission, String userId) {
-		List<SubmissionComment> comments = Optional.ofNullable(submission.getComments()).orElse(List.of());
         return SubmissionResponse.builder()
             .id(submission.getId())
             .projectId(submission.getApplication().getProject().getId())
@@ -140,8 +141,8 @@ public class SubmissionResponse {
             .videoDuration(submission.getVideoDuration())
             .videoResolution(submission.getVideoResolution())
             .viewCount(submission.getViewCount())
-			.publicCommentCount(comments.stream().filter(t -> CommentType.PUBLIC.equals(t.getType())).count())
-			.internalCommentCount(comments.stream().filter(t -> CommentType.INTERNAL.equals(t.getType())).count())
+			.publicCommentCount(Optional.ofNullable(submission.getPublicCommentCount()).orElse(0L))
+			.internalCommentCount(Optional.ofNullable(submission.getInternalCommentCount()).orElse(0L))
             .createdBy(submission.getCreatedBy())
             .createdAt(submission.getCreatedAt())
             .updatedAt(submission.getUpdatedAt())
@@ -152,4 +153,36 @@ public class SubmissionResponse {
             .build();
     }
 
+	/**
+	 * Build a list view response from a projected row. Comment bodies are not loaded, so
+	 * only the comment counts are set.
+	 */
+	public static SubmissionResponse from(SubmissionListRow row, ApplicationListRow application) {
+		return SubmissionResponse.builder()
+			.id(row.getId())
+			.projectId(application.getProjectId())
+			.applicationId(row.getApplicationId())
+			.talent(TalentBasicResponse.builder()
+				.id(application.getTalentId())
+				.firstName(application.getTalentFirstName())
+				.lastName(application.getTalentLastName())
+				.email(application.getTalentEmail())
+				.profilePhotoUrl(application.getTalentProfilePhotoUrl())
+				.build())
+			.roleId(application.getRoleId())
+			.videoName(row.getVideoName())
+			.videoUrl(row.getVideoUrl())
+			.videoThumbnailUrl(row.getVideoThumbnailUrl())
+			.videoDuration(row.getVideoDuration())
+			.videoResolution(row.getVideoResolution())
+			.viewCount(row.getViewCount())
+			.publicCommentCount(Optional.ofNullable(row.getPublicCommentCount()).orElse(0L))
+			.internalCommentCount(Optional.ofNullable(row.getInternalCommentCount()).orElse(0L))
+			.shortlisted(Boolean.TRUE.equals(row.getShortlisted()))
+			.createdBy(row.getCreatedBy())
+			.createdAt(row.getCreatedAt())
+			.updatedAt(row.getUpdatedAt())
+			.build();
+	}
+
 }
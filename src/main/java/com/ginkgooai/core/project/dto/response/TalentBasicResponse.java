@@ -2,6 +2,7 @@
 package com.ginkgooai.core.project.dto.response;
 
 import com.ginkgooai.core.project.domain.talent.Talent;
+import com.ginkgooai.core.project.repository.projection.TalentBasicRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,4 +39,14 @@ public class TalentBasicResponse {
             .profilePhotoUrl(talent.getProfilePhotoUrl())
             .build();
     }
+
+    public static TalentBasicResponse from(TalentBasicRow row) {
+        return TalentBasicResponse.builder()
+            .id(row.getId())
+            .firstName(row.getFirstName())
+            .lastName(row.getLastName())
+            .email(row.getEmail())
+            .profilePhotoUrl(row.getProfilePhotoUrl())
+            .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.ginkgooai.core.project.dto.response;
+
+import com.ginkgooai.core.project.component.importer.TalentImportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress and outcome of a talent import")
+public class TalentImportResponse {
+
+	@Schema(description = "ID of the import", example = "0b5c1d2e-6f0a-4d6e-9a7b-3c2d1e0f9a8b")
+	private String id;
+
+	@Schema(description = "Status of the import", example = "RUNNING")
+	private TalentImportStatus status;
+
+	@Schema(description = "Rows read from the file so far", example = "12000")
+	private long rowsRead;
+
+	@Schema(description = "Rows skipped for having no name", example = "3")
+	private long rowsSkipped;
+
+	@Schema(description = "Talents created", example = "18500")
+	private long talentsCreated;
+
+	@Schema(description = "Rows matched by email to a talent already in the workspace, or earlier in the file",
+			example = "1497")
+	private long talentsMatched;
+
+	@Schema(description = "Applications created for the role, if one was given", example = "19997")
+	private long applicationsCreated;
+
+	@Schema(description = "Why the import failed; nothing is imported from a failed file",
+			example = "Invalid JSON at line 42")
+	private String error;
+
+}
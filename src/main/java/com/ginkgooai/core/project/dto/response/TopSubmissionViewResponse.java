@@ -0,0 +1,37 @@
+package com.ginkgooai.core.project.dto.response;
+
+import com.ginkgooai.core.project.repository.projection.SubmissionViewTotalRow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Views of one submission over a time range")
+public class TopSubmissionViewResponse {
+
+    @Schema(description = "Submission identifier", example = "sub_12345")
+    private String submissionId;
+
+    @Schema(description = "Name of the video", example = "self-tape.mp4")
+    private String videoName;
+
+    @Schema(description = "Number of plays", example = "42")
+    private long views;
+
+    @Schema(description = "Number of first plays by a viewer", example = "17")
+    private long uniqueViews;
+
+    public static TopSubmissionViewResponse from(SubmissionViewTotalRow row) {
+        return TopSubmissionViewResponse.builder()
+                .submissionId(row.getSubmissionId())
+                .videoName(row.getVideoName())
+                .views(row.getViews() == null ? 0 : row.getViews())
+                .uniqueViews(row.getUniqueViews() == null ? 0 : row.getUniqueViews())
+                .build();
+    }
+}
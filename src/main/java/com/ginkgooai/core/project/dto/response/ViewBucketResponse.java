@@ -0,0 +1,35 @@
+package com.ginkgooai.core.project.dto.response;
+
+import com.ginkgooai.core.project.repository.projection.ViewBucketRow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Views within one time bucket")
+public class ViewBucketResponse {
+
+    @Schema(description = "Start of the bucket")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "Number of plays", example = "42")
+    private long views;
+
+    @Schema(description = "Number of plays by viewers watching the video for the first time", example = "17")
+    private long uniqueViews;
+
+    public static ViewBucketResponse from(ViewBucketRow row) {
+        return ViewBucketResponse.builder()
+                .bucketStart(row.getBucketStart())
+                .views(row.getViews() == null ? 0 : row.getViews())
+                .uniqueViews(row.getUniqueViews() == null ? 0 : row.getUniqueViews())
+                .build();
+    }
+}
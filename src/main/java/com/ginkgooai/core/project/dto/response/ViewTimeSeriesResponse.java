@@ -0,0 +1,37 @@
+package com.ginkgooai.core.project.dto.response;
+
+import com.ginkgooai.core.project.domain.application.ViewRollupGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Submission views over time")
+public class ViewTimeSeriesResponse {
+
+    @Schema(description = "Size of each bucket", example = "DAY")
+    private ViewRollupGranularity granularity;
+
+    @Schema(description = "Inclusive start of the range, aligned to the bucket size")
+    private LocalDateTime start;
+
+    @Schema(description = "Exclusive end of the range")
+    private LocalDateTime end;
+
+    @Schema(description = "Number of plays in the range", example = "1200")
+    private long totalViews;
+
+    @Schema(description = "Number of first plays by a viewer in the range", example = "430")
+    private long totalUniqueViews;
+
+    @Schema(description = "Non-empty buckets, in time order")
+    private List<ViewBucketResponse> buckets;
+}
@@ -0,0 +1,17 @@
+package com.ginkgooai.core.project.exception;
+
+/**
+ * Thrown when a request parameter or uploaded payload cannot be processed as sent.
+ * Reported to the client as 400 Bad Request by the global exception handler.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+	public InvalidRequestException(String message) {
+		super(message);
+	}
+
+	public InvalidRequestException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
@@ -1,7 +1,9 @@
 package com.ginkgooai.core.project.handle;
 
 import com.ginkgooai.core.common.exception.BaseRuntimeException;
+import com.ginkgooai.core.project.exception.InvalidRequestException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -16,4 +18,10 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         log.error("BaseRuntimeException: ", ex);
         return ex.toProblemDetail();
     }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ProblemDetail handleInvalidRequestException(InvalidRequestException ex) {
+        log.warn("InvalidRequestException: {}", ex.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
 }
\ No newline at end of file
@@ -3,15 +3,24 @@ package com.ginkgooai.core.project.repository;
 import com.ginkgooai.core.project.domain.application.Application;
 import com.ginkgooai.core.project.domain.application.ApplicationStatus;
 import com.ginkgooai.core.project.dto.response.ProjectRoleStatisticsResponse;
+import com.ginkgooai.core.project.repository.projection.ApplicationListRow;
+import com.ginkgooai.core.project.repository.projection.ApplicationRemarkRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,47 +46,90 @@ public interface ApplicationRepository
 
     List<Application> findByRoleId(String roleId);
 
+    /**
+     * Load applications by id together with their project, role and talent. Collections
+     * are left to batch fetching.
+     *
+     * @param ids The application IDs
+     * @return The applications, in no particular order
+     */
+    @EntityGraph(attributePaths = {"project", "role", "talent"})
+    List<Application> findWithDetailsByIdIn(Collection<String> ids);
+
+    /**
+     * Load the list view columns of the given applications in a single select, without
+     * materializing the application, project, role or talent entities.
+     *
+     * @param ids The application IDs
+     * @return One row per application, in no particular order
+     */
+    @Query("""
+        SELECT a.id AS id, a.workspaceId AS workspaceId, a.status AS status,
+            a.createdBy AS createdBy, a.createdAt AS createdAt, a.updatedAt AS updatedAt,
+            p.id AS projectId, p.name AS projectName,
+            r.id AS roleId, r.name AS roleName, r.status AS roleStatus, r.isActive AS roleActive,
+            t.id AS talentId, t.workspaceId AS talentWorkspaceId, t.firstName AS talentFirstName,
+            t.lastName AS talentLastName, t.email AS talentEmail, t.imdbProfileUrl AS talentImdbProfileUrl,
+            t.spotlightProfileUrl AS talentSpotlightProfileUrl, t.profilePhotoUrl AS talentProfilePhotoUrl,
+            t.status AS talentStatus, t.applicationCount AS talentApplicationCount,
+            t.submissionCount AS talentSubmissionCount, t.createdAt AS talentCreatedAt,
+            t.updatedAt AS talentUpdatedAt
+        FROM Application a
+        LEFT JOIN a.project p
+        LEFT JOIN a.role r
+        LEFT JOIN a.talent t
+        WHERE a.id IN :ids
+        """)
+    List<ApplicationListRow> findListRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("""
+        SELECT n.id AS id, n.application.id AS applicationId, n.content AS content,
+            n.createdBy AS createdBy, n.createdAt AS createdAt, n.updatedAt AS updatedAt
+        FROM ApplicationNote n
+        WHERE n.application.id IN :applicationIds
+        ORDER BY n.createdAt DESC
+        """)
+    List<ApplicationRemarkRow> findNoteRowsByApplicationIdIn(@Param("applicationIds") Collection<String> applicationIds);
+
+    @Query("""
+        SELECT c.id AS id, c.application.id AS applicationId, c.content AS content,
+            c.createdBy AS createdBy, c.createdAt AS createdAt, c.updatedAt AS updatedAt
+        FROM ApplicationComment c
+        WHERE c.application.id IN :applicationIds
+        ORDER BY c.createdAt DESC
+        """)
+    List<ApplicationRemarkRow> findCommentRowsByApplicationIdIn(@Param("applicationIds") Collection<String> applicationIds);
+
     @Query("""
         SELECT new com.ginkgooai.core.project.dto.response.ProjectRoleStatisticsResponse(
-                r.id as id,
-                r.name as name,
-                r.status,
-                r.sides,
-                r.characterDescription,
-                r.selfTapeInstructions,
-            COUNT(a) as total,
-            COUNT(CASE WHEN a.status = 'ADDED' THEN 1 END) as added,
-            COUNT(CASE WHEN a.status = 'SUBMITTED' THEN 1 END) as submitted,
-            COUNT(CASE WHEN a.status = 'SHORTLISTED' THEN 1 END) as shortlisted,
-            COUNT(CASE WHEN a.status = 'DECLINED' THEN 1 END) as declined
+            r.id, r.name, r.status, r.sides, r.characterDescription, r.selfTapeInstructions,
+            COALESCE(s.total, 0L), COALESCE(s.added, 0L), COALESCE(s.submitted, 0L),
+            COALESCE(s.shortlisted, 0L), COALESCE(s.declined, 0L)
         )
-            FROM ProjectRole r LEFT JOIN Application a on a.role.id = r.id
-            GROUP BY a.role.id, a.role.name, a.role.status, a.role.sides, a.role.characterDescription, a.role.selfTapeInstructions
+        FROM ProjectRole r
+        LEFT JOIN RoleApplicationStats s ON s.roleId = r.id
+        WHERE r.id = :roleId
         """)
     ProjectRoleStatisticsResponse getRoleStatistics(@Param("roleId") String roleId);
 
-    @Query("""
-                        SELECT new com.ginkgooai.core.project.dto.response.ProjectRoleStatisticsResponse(
-                            r.id as id,
-                            r.name as name,
-                            r.status,
-                            r.sides,
-                            r.characterDescription,
-                            r.selfTapeInstructions,
-                        COUNT(a) as total,
-                            COUNT(CASE WHEN a.status = 'ADDED' THEN 1 END) as added,
-                            COUNT(CASE WHEN a.status = 'SUBMITTED' THEN 1 END) as submitted,
-                            COUNT(CASE WHEN a.status = 'SHORTLISTED' THEN 1 END) as shortlisted,
-                            COUNT(CASE WHEN a.status = 'DECLINED' THEN 1 END) as declined
-                        )
-                        FROM ProjectRole r
-                        LEFT JOIN Application a on a.role.id = r.id
-                        WHERE r.project.id = :projectId
-			                AND (COALESCE(:name, '') = '' OR r.name ILIKE CONCAT('%', :name, '%'))
-            GROUP BY r.id, r.name, r.status, r.sides, r.characterDescription, r.selfTapeInstructions
+    @Query(value = """
+        SELECT new com.ginkgooai.core.project.dto.response.ProjectRoleStatisticsResponse(
+            r.id, r.name, r.status, r.sides, r.characterDescription, r.selfTapeInstructions,
+            COALESCE(s.total, 0L), COALESCE(s.added, 0L), COALESCE(s.submitted, 0L),
+            COALESCE(s.shortlisted, 0L), COALESCE(s.declined, 0L)
+        )
+        FROM ProjectRole r
+        LEFT JOIN RoleApplicationStats s ON s.roleId = r.id
+        WHERE r.project.id = :projectId
+            AND (COALESCE(:namePattern, '') = '' OR LOWER(r.name) LIKE :namePattern)
+        """, countQuery = """
+        SELECT COUNT(r)
+        FROM ProjectRole r
+        WHERE r.project.id = :projectId
+            AND (COALESCE(:namePattern, '') = '' OR LOWER(r.name) LIKE :namePattern)
         """)
     Page<ProjectRoleStatisticsResponse> getProjectRolesStatistics(
-        @Param("projectId") String projectId, @Param("name") String name, Pageable pageable);
+        @Param("projectId") String projectId, @Param("namePattern") String namePattern, Pageable pageable);
 
     @Modifying
     void deleteByRoleId(String roleId);
@@ -101,4 +153,44 @@ public interface ApplicationRepository
     @Query("SELECT a.status as status, COUNT(a) as count FROM Application a WHERE a.project.id = :projectId AND a.role.id = :roleId GROUP BY a.status")
     List<Object[]> countByProjectIdAndRoleIdGroupByStatus(@Param("projectId") String projectId,
                                                           @Param("roleId") String roleId);
+
+    /**
+     * Move up to {@code limit} applications soft deleted before the cutoff to the
+     * archive, unless submissions or shortlist items still refer to them. Their comments
+     * and notes are removed with them and archived inside the application's data.
+     *
+     * @return Number of rows archived
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.application"))
+    @Query(value = """
+        WITH purged AS (
+            DELETE FROM project.application
+            WHERE id IN (SELECT t.id FROM project.application t
+                         WHERE t.deleted = TRUE AND t.deleted_at < :cutoff
+                           AND NOT EXISTS (SELECT 1 FROM project.submission c WHERE c.application_id = t.id)
+                           AND NOT EXISTS (SELECT 1 FROM project.shortlist_item c WHERE c.application_id = t.id)
+                         ORDER BY t.deleted_at
+                         LIMIT :limit
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING *
+        ),
+        comments AS (
+            DELETE FROM project.application_comment c USING purged p
+            WHERE c.application_id = p.id
+            RETURNING c.*
+        ),
+        notes AS (
+            DELETE FROM project.application_note n USING purged p
+            WHERE n.application_id = p.id
+            RETURNING n.*
+        )
+        INSERT INTO project.application_archive (id, workspace_id, deleted_at, data)
+        SELECT p.id, p.workspace_id, p.deleted_at, to_jsonb(p) || jsonb_build_object(
+            'comments', COALESCE((SELECT jsonb_agg(to_jsonb(c)) FROM comments c WHERE c.application_id = p.id), '[]'::jsonb),
+            'notes', COALESCE((SELECT jsonb_agg(to_jsonb(n)) FROM notes n WHERE n.application_id = p.id), '[]'::jsonb))
+        FROM purged p
+        """, nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
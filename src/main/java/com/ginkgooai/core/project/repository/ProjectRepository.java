@@ -3,13 +3,18 @@ package com.ginkgooai.core.project.repository;
 import com.ginkgooai.core.project.domain.project.Project;
 import com.ginkgooai.core.project.domain.project.ProjectStatus;
 import com.ginkgooai.core.project.dto.response.ProjectListResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,21 +28,27 @@ public interface ProjectRepository extends JpaRepository<Project, String>, JpaSp
 			    p.id,
 			    p.name,
 			    p.status,
-			    (SELECT COUNT(*) FROM ProjectRole pr WHERE pr.project.id = p.id) as roleCount,
-			    (SELECT COUNT(*) FROM Application a WHERE a.project.id = p.id AND a.status = 'SUBMITTED') as pendingReviewCount,
+			    p.roleCount,
+			    p.pendingReviewCount,
 			    p.updatedAt,
 			    p.posterUrl,
 			    p.producer
 			)
 			FROM Project p
 			WHERE p.workspaceId = :workspaceId
-			AND (COALESCE(:nameLike, '') = '' OR p.name ILIKE CONCAT('%', :nameLike, '%'))
+			AND (COALESCE(:namePattern, '') = '' OR LOWER(p.name) LIKE :namePattern)
 			AND (:status IS NULL OR p.status = :status)
 			""")
 	Page<ProjectListResponse> findProjectList(@Param("workspaceId") String workspaceId,
-			@Param("nameLike") String nameLike, @Param("status") ProjectStatus status, Pageable pageable);
+			@Param("namePattern") String namePattern, @Param("status") ProjectStatus status, Pageable pageable);
     
-    Optional<Project> findByIdAndWorkspaceId(String id, String workspaceId);
+    /**
+     * Loads the project by id, so that it is served from the second-level cache, and
+     * checks its workspace.
+     */
+    default Optional<Project> findByIdAndWorkspaceId(String id, String workspaceId) {
+        return findById(id).filter(project -> project.getWorkspaceId().equals(workspaceId));
+    }
 
     List<Project> findByCreatedBy(String ownerId);
 
@@ -51,4 +62,33 @@ public interface ProjectRepository extends JpaRepository<Project, String>, JpaSp
             LocalDateTime startTime, LocalDateTime endTime);
 
     long countByWorkspaceIdAndStatusIn(String workspaceId, List<ProjectStatus> statuses);
-}
\ No newline at end of file
+
+    /**
+     * Move up to {@code limit} projects soft deleted before the cutoff to the archive,
+     * unless roles, applications, members, NDAs or shortlists still refer to them.
+     *
+     * @return Number of rows archived
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.project"))
+    @Query(value = """
+        WITH purged AS (
+            DELETE FROM project.project
+            WHERE id IN (SELECT t.id FROM project.project t
+                         WHERE t.deleted = TRUE AND t.deleted_at < :cutoff
+                           AND NOT EXISTS (SELECT 1 FROM project.project_role c WHERE c.project_id = t.id)
+                           AND NOT EXISTS (SELECT 1 FROM project.application c WHERE c.project_id = t.id)
+                           AND NOT EXISTS (SELECT 1 FROM project.project_member c WHERE c.project_id = t.id)
+                           AND NOT EXISTS (SELECT 1 FROM project.project_nda c WHERE c.project_id = t.id)
+                           AND NOT EXISTS (SELECT 1 FROM project.shortlist c WHERE c.project_id = t.id)
+                         ORDER BY t.deleted_at
+                         LIMIT :limit
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING *
+        )
+        INSERT INTO project.project_archive (id, workspace_id, deleted_at, data)
+        SELECT p.id, p.workspace_id, p.deleted_at, to_jsonb(p) FROM purged p
+        """, nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -2,10 +2,18 @@ package com.ginkgooai.core.project.repository;
 
 import com.ginkgooai.core.project.domain.role.ProjectRole;
 import com.ginkgooai.core.project.domain.role.RoleStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ProjectRoleRepository extends JpaRepository<ProjectRole, String> {
@@ -17,4 +25,30 @@ public interface ProjectRoleRepository extends JpaRepository<ProjectRole, String
     Page<ProjectRole> findByProjectId(String projectId, Pageable pageable);
 
     long countByWorkspaceIdAndStatusNot(String workspaceId, RoleStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Move up to {@code limit} roles soft deleted before the cutoff to the archive,
+     * unless applications or project members still refer to them.
+     *
+     * @return Number of rows archived
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.project_role"))
+    @Query(value = """
+        WITH purged AS (
+            DELETE FROM project.project_role
+            WHERE id IN (SELECT t.id FROM project.project_role t
+                         WHERE t.deleted = TRUE AND t.deleted_at < :cutoff
+                           AND NOT EXISTS (SELECT 1 FROM project.application c WHERE c.role_id = t.id)
+                           AND NOT EXISTS (SELECT 1 FROM project.project_member c WHERE c.role_id = t.id)
+                         ORDER BY t.deleted_at
+                         LIMIT :limit
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING *
+        )
+        INSERT INTO project.project_role_archive (id, workspace_id, deleted_at, data)
+        SELECT p.id, p.workspace_id, p.deleted_at, to_jsonb(p) FROM purged p
+        """, nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
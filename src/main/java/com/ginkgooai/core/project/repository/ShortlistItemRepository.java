@@ -4,11 +4,13 @@ import com.ginkgooai.core.project.domain.application.ShortlistItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +24,11 @@ public interface ShortlistItemRepository extends JpaRepository<ShortlistItem, St
             WHERE sm.submission_id = :submissionId AND si.created_by = :ownerId
             """, nativeQuery = true)
     List<ShortlistItem> findAllBySubmissionId(@Param("submissionId") String submissionId, @Param("ownerId") String ownerId);
-}
\ No newline at end of file
+
+    /**
+     * Load shortlist items by id together with their shortlist, application and talent.
+     * Submissions are left to batch fetching.
+     */
+    @EntityGraph(attributePaths = {"shortlist", "application", "application.talent"})
+    List<ShortlistItem> findWithDetailsByIdIn(Collection<String> ids);
+}
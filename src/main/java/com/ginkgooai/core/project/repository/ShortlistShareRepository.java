@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +22,16 @@ public interface ShortlistShareRepository extends JpaRepository<ShortlistShare,
 	Optional<ShortlistShare> findActiveShareByShortlistIdAndEmail(@Param("shortlistId") String shortlistId,
 			@Param("email") String email);
 
-}
\ No newline at end of file
+	/**
+	 * Find the active shares of a shortlist for many recipients at once.
+	 * @param shortlistId shortlist id
+	 * @param emails recipient emails
+	 * @param validUntil only shares expiring after this time are returned
+	 * @return matching shares, possibly several per recipient
+	 */
+	@Query("SELECT s FROM ShortlistShare s WHERE s.shortlist.id = :shortlistId "
+			+ "AND s.recipientEmail IN :emails AND s.active = true AND s.expiresAt > :validUntil")
+	List<ShortlistShare> findActiveSharesByShortlistIdAndEmails(@Param("shortlistId") String shortlistId,
+			@Param("emails") Collection<String> emails, @Param("validUntil") LocalDateTime validUntil);
+
+}
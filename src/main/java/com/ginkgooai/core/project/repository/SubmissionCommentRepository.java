@@ -4,5 +4,9 @@ import com.ginkgooai.core.project.domain.application.SubmissionComment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.util.Optional;
+
 public interface SubmissionCommentRepository extends JpaRepository<SubmissionComment, String>, JpaSpecificationExecutor<SubmissionComment> {
+
+    Optional<SubmissionComment> findByIdAndSubmissionIdAndCreatedBy(String id, String submissionId, String createdBy);
 }
\ No newline at end of file
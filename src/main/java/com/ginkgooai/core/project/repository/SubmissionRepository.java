@@ -1,11 +1,20 @@
 package com.ginkgooai.core.project.repository;
 
 import com.ginkgooai.core.project.domain.application.Submission;
+import com.ginkgooai.core.project.repository.projection.SubmissionListRow;
+import com.ginkgooai.core.project.repository.projection.WorkspaceCountRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface SubmissionRepository extends JpaRepository<Submission, String>, JpaSpecificationExecutor<Submission> {
@@ -16,10 +25,128 @@ public interface SubmissionRepository extends JpaRepository<Submission, String>,
         """)
     List<Submission> findByTalentIdOrderByCreatedAtDesc(@Param("talentId") String talentId);
 
+    /**
+     * Check that a submission exists in the given workspace, without loading it.
+     *
+     * @param id          The submission ID
+     * @param workspaceId The workspace ID
+     * @return Whether the submission exists in the workspace
+     */
+    boolean existsByIdAndWorkspaceId(String id, String workspaceId);
+
     @Query("""
         SELECT COUNT(s) FROM Submission s 
         WHERE s.workspaceId = :workspaceId 
         AND (s.viewCount = 0 OR s.viewCount IS NULL)
         """)
     long countUnviewedSubmissions(@Param("workspaceId") String workspaceId);
-}
\ No newline at end of file
+
+    /**
+     * Load the list view columns of the submissions of the given applications. Comments
+     * are represented by their stored counters, and the shortlisted flag is resolved
+     * against the shortlists created by the given user.
+     *
+     * @param applicationIds The application IDs
+     * @param userId         The requesting user
+     * @return The submissions, oldest first
+     */
+    @Query("""
+        SELECT s.id AS id, s.application.id AS applicationId, s.videoName AS videoName,
+            s.videoUrl AS videoUrl, s.videoThumbnailUrl AS videoThumbnailUrl,
+            s.videoDuration AS videoDuration, s.videoResolution AS videoResolution,
+            s.viewCount AS viewCount, s.createdBy AS createdBy, s.createdAt AS createdAt,
+            s.updatedAt AS updatedAt,
+            s.publicCommentCount AS publicCommentCount, s.internalCommentCount AS internalCommentCount,
+            CASE WHEN EXISTS (
+                SELECT 1 FROM ShortlistItem i JOIN i.submissions si
+                WHERE si = s AND i.shortlist.createdBy = :userId
+            ) THEN true ELSE false END AS shortlisted
+        FROM Submission s
+        WHERE s.application.id IN :applicationIds
+        ORDER BY s.createdAt ASC
+        """)
+    List<SubmissionListRow> findListRowsByApplicationIdIn(@Param("applicationIds") Collection<String> applicationIds,
+                                                         @Param("userId") String userId);
+
+    /**
+     * Atomically add {@code delta} to the counter of the given comment type, never
+     * going below zero. The persistence context is flushed before and cleared after
+     * the update, so the submission has to be reloaded to see the new value.
+     *
+     * @param submissionId The submission ID
+     * @param type         The comment type name, PUBLIC or INTERNAL
+     * @param delta        The change, 1 for an added comment and -1 for a removed one
+     * @return The number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.submission"))
+    @Query(value = """
+        UPDATE project.submission
+        SET public_comment_count   = GREATEST(public_comment_count + CASE WHEN :type = 'PUBLIC' THEN :delta ELSE 0 END, 0),
+            internal_comment_count = GREATEST(internal_comment_count + CASE WHEN :type = 'INTERNAL' THEN :delta ELSE 0 END, 0)
+        WHERE id = :submissionId
+        """, nativeQuery = true)
+    int adjustCommentCount(@Param("submissionId") String submissionId, @Param("type") String type,
+                           @Param("delta") long delta);
+
+    /**
+     * Add buffered view counts in a single statement. Entries whose submission does not
+     * exist in the given workspace are ignored.
+     *
+     * @param submissionIds The submission IDs
+     * @param workspaceIds  The workspace of each submission
+     * @param deltas        The number of views to add to each submission
+     * @return Per workspace, the number of live submissions that had no view before
+     */
+    @Transactional
+    @Query(value = """
+        WITH updated AS (
+            UPDATE project.submission s SET view_count = COALESCE(s.view_count, 0) + v.delta
+            FROM unnest(CAST(:submissionIds AS varchar[]), CAST(:workspaceIds AS varchar[]), CAST(:deltas AS bigint[]))
+                AS v(id, workspace_id, delta)
+            WHERE s.id = v.id AND s.workspace_id = v.workspace_id
+            RETURNING s.workspace_id, s.view_count = v.delta AS first_viewed, s.deleted
+        )
+        SELECT workspace_id AS "workspaceId", COUNT(*) AS "count"
+        FROM updated
+        WHERE first_viewed AND deleted IS NOT TRUE
+        GROUP BY workspace_id
+        """, nativeQuery = true)
+    List<WorkspaceCountRow> addViewCounts(@Param("submissionIds") String[] submissionIds,
+                                          @Param("workspaceIds") String[] workspaceIds,
+                                          @Param("deltas") Long[] deltas);
+
+    /**
+     * Move up to {@code limit} submissions soft deleted before the cutoff to the
+     * archive, unless a shortlist item still includes them. Their comments are removed
+     * with them and archived inside the submission's data.
+     *
+     * @return Number of rows archived
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.submission"))
+    @Query(value = """
+        WITH purged AS (
+            DELETE FROM project.submission
+            WHERE id IN (SELECT t.id FROM project.submission t
+                         WHERE t.deleted = TRUE AND t.deleted_at < :cutoff
+                           AND NOT EXISTS (SELECT 1 FROM project.shortlist_item_submission_mapping c
+                                           WHERE c.submission_id = t.id)
+                         ORDER BY t.deleted_at
+                         LIMIT :limit
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING *
+        ),
+        comments AS (
+            DELETE FROM project.submission_comment c USING purged p
+            WHERE c.submission_id = p.id
+            RETURNING c.*
+        )
+        INSERT INTO project.submission_archive (id, workspace_id, deleted_at, data)
+        SELECT p.id, p.workspace_id, p.deleted_at, to_jsonb(p) || jsonb_build_object(
+            'comments', COALESCE((SELECT jsonb_agg(to_jsonb(c)) FROM comments c WHERE c.submission_id = p.id), '[]'::jsonb))
+        FROM purged p
+        """, nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -1,9 +1,17 @@
 package com.ginkgooai.core.project.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
 
 import com.ginkgooai.core.project.domain.application.SubmissionViewRecord;
 
@@ -11,16 +19,73 @@ public interface SubmissionViewRecordRepository
                 extends JpaRepository<SubmissionViewRecord, String>, JpaSpecificationExecutor<SubmissionViewRecord> {
 
         /**
-         * Check if a specific user or IP has already viewed a video
-         * 
+         * Distinct viewers of a submission, keyed like
+         * {@code SubmissionViewDeduplicator}: the user ID when known, otherwise the IP
+         * address.
+         *
          * @param submissionId submission ID
-         * @param userId       user ID
-         * @return whether a view record exists
+         * @return viewer keys such as {@code u:<userId>} or {@code ip:<address>}
+         */
+        @Query(value = """
+                        SELECT DISTINCT CASE WHEN user_id IS NOT NULL AND user_id <> '' THEN 'u:' || user_id
+                            ELSE 'ip:' || ip_address END
+                        FROM project.submission_view_record
+                        WHERE submission_id = :submissionId
+                          AND ((user_id IS NOT NULL AND user_id <> '') OR (ip_address IS NOT NULL AND ip_address <> ''))
+                        """, nativeQuery = true)
+        List<String> findDistinctViewerKeys(@Param("submissionId") String submissionId);
+
+        /**
+         * Insert buffered view records in a single statement. Records whose submission
+         * does not exist in the given workspace are skipped.
+         *
+         * @param submissionIds submission ID of each view
+         * @param workspaceIds  workspace ID of each view
+         * @param userIds       viewing user of each view, may contain nulls
+         * @param ipAddresses   client address of each view, may contain nulls
+         * @param viewedAts     ISO-8601 local timestamp of each view
+         * @return number of records inserted
+         */
+        @Transactional
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.submission_view_record"))
+        @Query(value = """
+                        INSERT INTO project.submission_view_record
+                            (id, workspace_id, submission_id, user_id, ip_address, viewed_at, created_at, created_by)
+                        SELECT CAST(gen_random_uuid() AS varchar), s.workspace_id, s.id, v.user_id, v.ip_address,
+                            v.viewed_at, v.viewed_at, v.user_id
+                        FROM unnest(CAST(:submissionIds AS varchar[]), CAST(:workspaceIds AS varchar[]),
+                            CAST(:userIds AS varchar[]), CAST(:ipAddresses AS varchar[]), CAST(:viewedAts AS timestamp[]))
+                            AS v(submission_id, workspace_id, user_id, ip_address, viewed_at)
+                        JOIN project.submission s ON s.id = v.submission_id AND s.workspace_id = v.workspace_id
+                        """, nativeQuery = true)
+        int insertAll(@Param("submissionIds") String[] submissionIds,
+                        @Param("workspaceIds") String[] workspaceIds,
+                        @Param("userIds") String[] userIds,
+                        @Param("ipAddresses") String[] ipAddresses,
+                        @Param("viewedAts") String[] viewedAts);
+
+        /**
+         * Create the monthly partition holding the given day, unless it already exists.
+         *
+         * @param month any day of the month
+         * @return true if the partition was created
+         */
+        @Transactional
+        @Query(value = "SELECT project.create_submission_view_record_partition(CAST(:month AS date))",
+                        nativeQuery = true)
+        boolean createPartition(@Param("month") LocalDate month);
+
+        /**
+         * Detach the monthly partitions whose whole month lies before the given day, and
+         * drop them unless {@code drop} is false.
+         *
+         * @param before exclusive upper bound of the months to expire
+         * @param drop   whether to drop the detached partitions
+         * @return names of the detached partitions
          */
-        @Query("SELECT CASE WHEN COUNT(v) > 0 THEN true ELSE false END FROM SubmissionViewRecord v " +
-                        "WHERE v.submission.id = :submissionId " +
-                        "AND (:userId IS NOT NULL AND v.userId = :userId)")
-        boolean existsBySubmissionIdAndUserIdOrIpAddress(
-                        @Param("submissionId") String submissionId,
-                        @Param("userId") String userId);
-}
\ No newline at end of file
+        @Transactional
+        @Query(value = "SELECT project.detach_submission_view_record_partitions(CAST(:before AS date), :drop)",
+                        nativeQuery = true)
+        List<String> detachPartitionsBefore(@Param("before") LocalDate before, @Param("drop") boolean drop);
+}
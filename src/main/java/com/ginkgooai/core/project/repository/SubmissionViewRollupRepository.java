@@ -0,0 +1,124 @@
+package com.ginkgooai.core.project.repository;
+
+import com.ginkgooai.core.project.domain.application.SubmissionViewRollup;
+import com.ginkgooai.core.project.domain.application.ViewRollupGranularity;
+import com.ginkgooai.core.project.repository.projection.SubmissionViewTotalRow;
+import com.ginkgooai.core.project.repository.projection.ViewBucketRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SubmissionViewRollupRepository
+    extends JpaRepository<SubmissionViewRollup, SubmissionViewRollup.RollupId> {
+
+    /**
+     * Add view counts to the hourly and daily buckets they fall into, creating the
+     * buckets as needed. Entries whose submission does not exist in the given workspace
+     * are ignored.
+     *
+     * @param submissionIds The submission of each entry
+     * @param workspaceIds  The workspace of each entry
+     * @param viewedAts     A timestamp within the hour of each entry, as ISO-8601 text
+     * @param views         The number of plays of each entry
+     * @param uniqueViews   The number of first plays by a viewer of each entry
+     * @return Number of buckets inserted or updated
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.submission_view_rollup"))
+    @Query(value = """
+        INSERT INTO project.submission_view_rollup AS r
+            (granularity, bucket_start, submission_id, workspace_id, project_id, views, unique_views)
+        SELECT g.granularity, date_trunc(g.unit, v.viewed_at), s.id, s.workspace_id, a.project_id,
+            SUM(v.views), SUM(v.unique_views)
+        FROM unnest(CAST(:submissionIds AS varchar[]), CAST(:workspaceIds AS varchar[]),
+            CAST(:viewedAts AS timestamp[]), CAST(:views AS bigint[]), CAST(:uniqueViews AS bigint[]))
+            AS v(submission_id, workspace_id, viewed_at, views, unique_views)
+        JOIN project.submission s ON s.id = v.submission_id AND s.workspace_id = v.workspace_id
+        LEFT JOIN project.application a ON a.id = s.application_id
+        CROSS JOIN (VALUES ('HOUR', 'hour'), ('DAY', 'day')) AS g(granularity, unit)
+        GROUP BY g.granularity, date_trunc(g.unit, v.viewed_at), s.id, s.workspace_id, a.project_id
+        ON CONFLICT (granularity, bucket_start, submission_id) DO UPDATE
+        SET views = r.views + EXCLUDED.views,
+            unique_views = r.unique_views + EXCLUDED.unique_views
+        """, nativeQuery = true)
+    int addViews(@Param("submissionIds") String[] submissionIds, @Param("workspaceIds") String[] workspaceIds,
+                 @Param("viewedAts") String[] viewedAts, @Param("views") Long[] views,
+                 @Param("uniqueViews") Long[] uniqueViews);
+
+    /**
+     * View totals per bucket for a workspace, optionally narrowed to a project or a
+     * submission.
+     *
+     * @param start Inclusive start of the range
+     * @param end   Exclusive end of the range
+     * @return One row per non-empty bucket, in time order
+     */
+    @Query("""
+        SELECT r.bucketStart AS bucketStart, SUM(r.views) AS views, SUM(r.uniqueViews) AS uniqueViews
+        FROM SubmissionViewRollup r
+        WHERE r.workspaceId = :workspaceId
+          AND r.granularity = :granularity
+          AND r.bucketStart >= :start AND r.bucketStart < :end
+          AND (:projectId IS NULL OR r.projectId = :projectId)
+          AND (:submissionId IS NULL OR r.submissionId = :submissionId)
+        GROUP BY r.bucketStart
+        ORDER BY r.bucketStart
+        """)
+    List<ViewBucketRow> findBuckets(@Param("workspaceId") String workspaceId,
+                                    @Param("granularity") ViewRollupGranularity granularity,
+                                    @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                                    @Param("projectId") String projectId,
+                                    @Param("submissionId") String submissionId);
+
+    /**
+     * Most viewed submissions of a workspace, optionally within a project, based on the
+     * daily buckets in the range.
+     *
+     * @param pageable The number of submissions to return
+     * @return Submissions ordered by views, most viewed first
+     */
+    @Query("""
+        SELECT r.submissionId AS submissionId, s.videoName AS videoName,
+            SUM(r.views) AS views, SUM(r.uniqueViews) AS uniqueViews
+        FROM SubmissionViewRollup r
+        JOIN Submission s ON s.id = r.submissionId
+        WHERE r.workspaceId = :workspaceId
+          AND r.granularity = com.ginkgooai.core.project.domain.application.ViewRollupGranularity.DAY
+          AND r.bucketStart >= :start AND r.bucketStart < :end
+          AND (:projectId IS NULL OR r.projectId = :projectId)
+        GROUP BY r.submissionId, s.videoName
+        ORDER BY SUM(r.views) DESC, r.submissionId
+        """)
+    List<SubmissionViewTotalRow> findTopSubmissions(@Param("workspaceId") String workspaceId,
+                                                    @Param("start") LocalDateTime start,
+                                                    @Param("end") LocalDateTime end,
+                                                    @Param("projectId") String projectId, Pageable pageable);
+
+    /**
+     * Delete up to {@code limit} buckets of the given granularity that start before the
+     * cutoff.
+     *
+     * @return Number of buckets deleted
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.submission_view_rollup"))
+    @Query(value = """
+        DELETE FROM project.submission_view_rollup
+        WHERE ctid IN (SELECT ctid FROM project.submission_view_rollup
+                       WHERE granularity = :granularity AND bucket_start < :cutoff
+                       LIMIT :limit)
+        """, nativeQuery = true)
+    int deleteOlderThan(@Param("granularity") String granularity, @Param("cutoff") LocalDateTime cutoff,
+                        @Param("limit") int limit);
+}
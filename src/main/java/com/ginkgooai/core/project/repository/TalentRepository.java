@@ -1,12 +1,19 @@
 package com.ginkgooai.core.project.repository;
 
 import com.ginkgooai.core.project.domain.talent.Talent;
+import com.ginkgooai.core.project.repository.projection.TalentBasicRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TalentRepository extends JpaRepository<Talent, String>, JpaSpecificationExecutor<Talent> {
     /**
@@ -18,16 +25,50 @@ public interface TalentRepository extends JpaRepository<Talent, String>, JpaSpec
     List<Talent> findByWorkspaceId(String workspaceId);
 
     /**
-     * Find talents by workspace ID and name matching either first name or last name
+     * Basic fields of every talent of a workspace, without loading the entities
      *
      * @param workspaceId The workspace ID
-     * @param name        The name to search for in both first name and last name
+     * @return List of talent rows
+     */
+    List<TalentBasicRow> findBasicRowsByWorkspaceId(String workspaceId);
+
+    /**
+     * Basic fields of a talent, without loading the entity
+     *
+     * @param id The talent ID
+     * @return The talent row, if found
+     */
+    Optional<TalentBasicRow> findBasicRowById(String id);
+
+    /**
+     * Find talents by workspace ID whose "first last" name matches a pattern
+     *
+     * @param workspaceId The workspace ID
+     * @param namePattern Lower-case LIKE pattern, see {@code LikePatterns#contains}
      * @return List of matching talents
      */
-    @Query("SELECT t FROM Talent t WHERE t.workspaceId = :workspaceId AND " +
-        "(LOWER(t.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR " +
-        "LOWER(t.lastName) LIKE LOWER(CONCAT('%', :name, '%')))")
+    @Query("SELECT t FROM Talent t WHERE t.workspaceId = :workspaceId AND t.searchName LIKE :namePattern")
     List<Talent> findByWorkspaceIdAndNameMatching(
         @Param("workspaceId") String workspaceId,
-        @Param("name") String name);
-}
\ No newline at end of file
+        @Param("namePattern") String namePattern);
+
+    /**
+     * Set the user ID of many talents in a single statement. The two arrays are paired
+     * by position.
+     *
+     * @param talentIds The talent IDs
+     * @param userIds   The user IDs to set, one per talent ID
+     * @param updatedBy The user performing the update
+     * @return Number of talents updated
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project.talent"))
+    @Query(value = """
+            UPDATE project.talent t SET user_id = v.user_id, updated_at = now() AT TIME ZONE 'UTC', updated_by = :updatedBy
+            FROM unnest(CAST(:talentIds AS varchar[]), CAST(:userIds AS varchar[])) AS v(id, user_id)
+            WHERE t.id = v.id
+            """, nativeQuery = true)
+    int updateUserIds(@Param("talentIds") String[] talentIds, @Param("userIds") String[] userIds,
+                      @Param("updatedBy") String updatedBy);
+}
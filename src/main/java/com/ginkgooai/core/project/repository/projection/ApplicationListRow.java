@@ -0,0 +1,64 @@
+package com.ginkgooai.core.project.repository.projection;
+
+import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.domain.role.RoleStatus;
+import com.ginkgooai.core.project.domain.talent.TalentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The application columns rendered by the list views, flattened with the scalar
+ * columns of its project, role and talent. Large text and JSON columns are left out.
+ */
+public interface ApplicationListRow {
+
+    String getId();
+
+    String getWorkspaceId();
+
+    ApplicationStatus getStatus();
+
+    String getCreatedBy();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getProjectId();
+
+    String getProjectName();
+
+    String getRoleId();
+
+    String getRoleName();
+
+    RoleStatus getRoleStatus();
+
+    Boolean getRoleActive();
+
+    String getTalentId();
+
+    String getTalentWorkspaceId();
+
+    String getTalentFirstName();
+
+    String getTalentLastName();
+
+    String getTalentEmail();
+
+    String getTalentImdbProfileUrl();
+
+    String getTalentSpotlightProfileUrl();
+
+    String getTalentProfilePhotoUrl();
+
+    TalentStatus getTalentStatus();
+
+    Long getTalentApplicationCount();
+
+    Long getTalentSubmissionCount();
+
+    LocalDateTime getTalentCreatedAt();
+
+    LocalDateTime getTalentUpdatedAt();
+}
@@ -0,0 +1,21 @@
+package com.ginkgooai.core.project.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * A note or comment left on an application, without the owning application.
+ */
+public interface ApplicationRemarkRow {
+
+    String getId();
+
+    String getApplicationId();
+
+    String getContent();
+
+    String getCreatedBy();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
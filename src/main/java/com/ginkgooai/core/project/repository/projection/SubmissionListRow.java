@@ -0,0 +1,38 @@
+package com.ginkgooai.core.project.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * The submission columns rendered by the list views. Comments are reduced to counts
+ * and the shortlist membership to a flag for the requesting user.
+ */
+public interface SubmissionListRow {
+
+    String getId();
+
+    String getApplicationId();
+
+    String getVideoName();
+
+    String getVideoUrl();
+
+    String getVideoThumbnailUrl();
+
+    Long getVideoDuration();
+
+    String getVideoResolution();
+
+    Long getViewCount();
+
+    String getCreatedBy();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getPublicCommentCount();
+
+    Long getInternalCommentCount();
+
+    Boolean getShortlisted();
+}
@@ -0,0 +1,15 @@
+package com.ginkgooai.core.project.repository.projection;
+
+/**
+ * View totals of one submission over a time range.
+ */
+public interface SubmissionViewTotalRow {
+
+    String getSubmissionId();
+
+    String getVideoName();
+
+    Long getViews();
+
+    Long getUniqueViews();
+}
@@ -0,0 +1,19 @@
+package com.ginkgooai.core.project.repository.projection;
+
+/**
+ * The identifying fields of a talent, as shown in pickers and autocomplete.
+ */
+public interface TalentBasicRow {
+
+    String getId();
+
+    String getWorkspaceId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getProfilePhotoUrl();
+}
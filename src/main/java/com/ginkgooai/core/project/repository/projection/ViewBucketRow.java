@@ -0,0 +1,15 @@
+package com.ginkgooai.core.project.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * View totals of one time bucket.
+ */
+public interface ViewBucketRow {
+
+    LocalDateTime getBucketStart();
+
+    Long getViews();
+
+    Long getUniqueViews();
+}
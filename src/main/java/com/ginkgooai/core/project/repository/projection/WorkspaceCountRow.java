@@ -0,0 +1,11 @@
+package com.ginkgooai.core.project.repository.projection;
+
+/**
+ * A number of rows of one workspace.
+ */
+public interface WorkspaceCountRow {
+
+    String getWorkspaceId();
+
+    long getCount();
+}
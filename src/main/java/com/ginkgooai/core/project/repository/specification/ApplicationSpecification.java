@@ -0,0 +1,88 @@
+package com.ginkgooai.core.project.repository.specification;
+
+import com.ginkgooai.core.project.domain.application.Application;
+import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.domain.role.ProjectRole;
+import com.ginkgooai.core.project.domain.talent.Talent;
+import com.ginkgooai.core.project.repository.support.LikePatterns;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ApplicationSpecification {
+
+    /**
+     * Filters for the application list. No association is joined, so every application
+     * matches at most one row and the result needs no grouping.
+     */
+    public static Specification<Application> findAllWithFilters(String workspaceId, String projectId,
+                                                                 String roleId, String talentId, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                                                 String keyword, ApplicationStatus status) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            // Workspace filter (required)
+            predicates.add(cb.equal(root.get("workspaceId"), workspaceId));
+
+            // Project filter
+            if (StringUtils.hasText(projectId)) {
+                predicates.add(cb.equal(root.get("project").get("id"), projectId));
+            }
+
+            // Role filter
+            if (StringUtils.hasText(roleId)) {
+                predicates.add(cb.equal(root.get("role").get("id"), roleId));
+            }
+
+            // Talent filter
+            if (StringUtils.hasText(talentId)) {
+                predicates.add(cb.equal(root.get("talent").get("id"), talentId));
+            }
+
+            // Status filter
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+
+            // Date filter
+            if (startDateTime != null && endDateTime != null) {
+                predicates.add(cb.between(root.get("createdAt"), startDateTime, endDateTime));
+            } else if (startDateTime != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDateTime));
+            } else if (endDateTime != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDateTime));
+            }
+
+            // Keyword search on talent name or email or role name. Each side is a subquery
+            // over one table, so it can be answered from that table's trigram indexes.
+            if (StringUtils.hasText(keyword)) {
+                String pattern = LikePatterns.contains(keyword);
+
+                Subquery<String> talents = query.subquery(String.class);
+                Root<Talent> talent = talents.from(Talent.class);
+                talents.select(talent.get("id")).where(
+                    cb.equal(talent.get("workspaceId"), workspaceId),
+                    cb.or(cb.like(talent.get("searchName"), pattern),
+                        cb.like(cb.lower(talent.get("email")), pattern)));
+
+                Subquery<String> roles = query.subquery(String.class);
+                Root<ProjectRole> role = roles.from(ProjectRole.class);
+                roles.select(role.get("id")).where(
+                    cb.equal(role.get("workspaceId"), workspaceId),
+                    cb.like(cb.lower(role.get("name")), pattern));
+
+                predicates.add(cb.or(root.get("talent").get("id").in(talents),
+                    root.get("role").get("id").in(roles)));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+}
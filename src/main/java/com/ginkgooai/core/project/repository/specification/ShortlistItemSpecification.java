@@ -1,9 +1,11 @@
 package com.ginkgooai.core.project.repository.specification;
 
 import com.ginkgooai.core.project.domain.application.ShortlistItem;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
+import com.ginkgooai.core.project.domain.application.Submission;
+import com.ginkgooai.core.project.domain.role.ProjectRole;
+import com.ginkgooai.core.project.domain.talent.Talent;
+import com.ginkgooai.core.project.repository.support.LikePatterns;
+import jakarta.persistence.criteria.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
@@ -13,30 +15,23 @@ import java.util.List;
 
 public class ShortlistItemSpecification {
 
-    public static Specification<ShortlistItem> findAllWithFilters(String shortlistId,
-                                                                  String keyword, String roleId, LocalDateTime startDateTime, LocalDateTime endDateTime,
-                                                                  String talentId) {
-        return (root, query, cb) -> {
-            if (query.getResultType() == Long.class || query.getResultType() == long.class) {
-                return cb.and(buildPredicates(root, query, cb, shortlistId, keyword, roleId,
-                    startDateTime, endDateTime, talentId).toArray(new Predicate[0]));
-            }
-
-            query.distinct(true);
-
-            root.fetch("shortlist", JoinType.LEFT);
-            root.fetch("application", JoinType.LEFT).fetch("talent", JoinType.LEFT);
-            root.fetch("submissions", JoinType.LEFT);
-
-            return cb.and(buildPredicates(root, query, cb, shortlistId, keyword, roleId,
-                startDateTime, endDateTime, talentId).toArray(new Predicate[0]));
-        };
+    /**
+     * Filters for shortlist items. Associations are only joined when they are to-one or
+     * matched through a subquery, and nothing is fetched, so every item matches at most
+     * one row and the result can be paged or scrolled in SQL. Keyword subqueries are
+     * limited to the shortlist's workspace.
+     */
+    public static Specification<ShortlistItem> matchingFilters(String workspaceId, String shortlistId,
+                                                               String keyword, String roleId, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                                               String talentId) {
+        return (root, query, cb) -> cb.and(buildPredicates(root, query, cb, workspaceId, shortlistId, keyword, roleId,
+            startDateTime, endDateTime, talentId).toArray(new Predicate[0]));
     }
 
     private static List<Predicate> buildPredicates(
         jakarta.persistence.criteria.Root<ShortlistItem> root,
         jakarta.persistence.criteria.CriteriaQuery<?> query,
-        jakarta.persistence.criteria.CriteriaBuilder cb, String shortlistId, String keyword,
+        jakarta.persistence.criteria.CriteriaBuilder cb, String workspaceId, String shortlistId, String keyword,
         String roleId, LocalDateTime startDateTime, LocalDateTime endDateTime, String talentId) {
         List<Predicate> predicates = new ArrayList<>();
 
@@ -44,19 +39,17 @@ public class ShortlistItemSpecification {
         Join<Object, Object> application = root.join("application", JoinType.LEFT);
         Join<Object, Object> role = application.join("role", JoinType.LEFT);
         Join<Object, Object> talentJoin = application.join("talent", JoinType.LEFT);
-        Join<Object, Object> submissions = root.join("submissions", JoinType.LEFT);
 
         // Add shortlistId condition
         predicates.add(cb.equal(root.get("shortlist").get("id"), shortlistId));
 
-        // Add keyword search conditions
+        // Add keyword search conditions, each matched within one table so that its
+        // trigram indexes can be used
         if (StringUtils.hasText(keyword)) {
-            String likePattern = "%" + keyword.toLowerCase() + "%";
-            predicates.add(cb.or(cb.like(cb.lower(role.get("name")), likePattern),
-                cb.like(cb.lower(cb.concat(cb.concat(talentJoin.get("firstName"), " "),
-                    talentJoin.get("lastName"))), likePattern),
-                cb.like(cb.lower(talentJoin.get("email")), likePattern),
-                cb.like(cb.lower(submissions.get("videoName")), likePattern)));
+            String pattern = LikePatterns.contains(keyword);
+            predicates.add(cb.or(role.get("id").in(roleNameLike(query, cb, workspaceId, pattern)),
+                talentJoin.get("id").in(talentLike(query, cb, workspaceId, pattern)),
+                cb.exists(submissionVideoNameLike(root, query, cb, pattern))));
         }
 
         // Add roleId condition
@@ -80,4 +73,32 @@ public class ShortlistItemSpecification {
 
         return predicates;
     }
+
+    private static Subquery<String> roleNameLike(CriteriaQuery<?> query, CriteriaBuilder cb, String workspaceId,
+                                                 String pattern) {
+        Subquery<String> subquery = query.subquery(String.class);
+        Root<ProjectRole> role = subquery.from(ProjectRole.class);
+        return subquery.select(role.get("id")).where(cb.equal(role.get("workspaceId"), workspaceId),
+            cb.like(cb.lower(role.get("name")), pattern));
+    }
+
+    private static Subquery<String> talentLike(CriteriaQuery<?> query, CriteriaBuilder cb, String workspaceId,
+                                               String pattern) {
+        Subquery<String> subquery = query.subquery(String.class);
+        Root<Talent> talent = subquery.from(Talent.class);
+        return subquery.select(talent.get("id")).where(cb.equal(talent.get("workspaceId"), workspaceId),
+            cb.or(cb.like(talent.get("searchName"), pattern), cb.like(cb.lower(talent.get("email")), pattern)));
+    }
+
+    /**
+     * Matches items having a submission whose video name matches the pattern, without
+     * joining the submissions into the main query.
+     */
+    private static Subquery<Integer> submissionVideoNameLike(Root<ShortlistItem> root, CriteriaQuery<?> query,
+                                                             CriteriaBuilder cb, String likePattern) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<ShortlistItem> item = subquery.correlate(root);
+        Join<ShortlistItem, Submission> submission = item.join("submissions");
+        return subquery.select(cb.literal(1)).where(cb.like(cb.lower(submission.get("videoName")), likePattern));
+    }
 }
@@ -0,0 +1,40 @@
+package com.ginkgooai.core.project.repository.support;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Loads entities by id through the persistence context and the second-level cache,
+ * selecting only the ones found in neither, in one query. Unlike
+ * {@code JpaRepository.findAllById}, which always queries the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class CachedMultiLoad {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Load entities by id.
+     *
+     * @param domainClass The entity class
+     * @param ids         The ids to load
+     * @return The entities found, in the order of their ids
+     */
+    public <T> List<T> findAllById(Class<T> domainClass, List<String> ids) {
+        return entityManager.unwrap(Session.class)
+            .byMultipleIds(domainClass)
+            .with(CacheMode.NORMAL)
+            .enableSessionCheck(true)
+            .multiLoad(ids)
+            .stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
@@ -0,0 +1,108 @@
+package com.ginkgooai.core.project.repository.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * First phase of two-phase pagination: selects only the ids of a page of entities
+ * matching a {@link Specification}, so that the page can then be loaded by id with the
+ * associations it needs, without paging over joined rows.
+ *
+ * <p>
+ * Entities are expected to have a string {@code id} attribute, which is also used as
+ * the final sort key so that pages are stable when the requested sort has ties.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdPageQuery {
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Select one page of entity ids.
+     *
+     * @param domainClass   The entity class
+     * @param specification The filters
+     * @param pageable      The page and sort to select
+     * @return The page of ids, in sort order
+     */
+    public <T> Page<String> findIds(Class<T> domainClass, Specification<T> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = cb.createQuery(String.class);
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        if (pageable.getSort().getOrderFor(ID) == null) {
+            orders.add(cb.asc(root.get(ID)));
+        }
+        query.select(root.get(ID)).orderBy(orders);
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<String> ids = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(ids, pageable, () -> count(domainClass, specification));
+    }
+
+    /**
+     * Count the entities matching a specification.
+     *
+     * @param domainClass   The entity class
+     * @param specification The filters
+     * @return Number of matching entities
+     */
+    public <T> long count(Class<T> domainClass, Specification<T> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Put entities loaded by id back into the order of the ids. Ids without an entity
+     * are skipped.
+     *
+     * @param ids        The ids in page order
+     * @param entities   The loaded entities, in any order
+     * @param idFunction Extracts the id of an entity
+     * @return The entities in page order
+     */
+    public static <T> List<T> inIdOrder(List<String> ids, Collection<T> entities, Function<T, String> idFunction) {
+        Map<String, T> entitiesById = entities.stream()
+            .collect(Collectors.toMap(idFunction, Function.identity(), (existing, replacement) -> existing));
+        return ids.stream().map(entitiesById::get).filter(Objects::nonNull).toList();
+    }
+
+}
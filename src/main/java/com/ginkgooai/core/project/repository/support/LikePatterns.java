@@ -0,0 +1,39 @@
+package com.ginkgooai.core.project.repository.support;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Builds the patterns of keyword filters, which are matched as
+ * {@code lower(column) LIKE pattern} so that the trigram GIN indexes on those
+ * expressions can serve them.
+ *
+ * <p>
+ * The keyword is lower-cased and its {@code %}, {@code _} and {@code \} characters are
+ * escaped with a backslash, which is PostgreSQL's default LIKE escape character, so no
+ * {@code ESCAPE} clause is needed. Keywords shorter than three characters have no
+ * trigram and are matched without the index.
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    /**
+     * Pattern matching values that contain the keyword.
+     *
+     * @param keyword the keyword, may be blank
+     * @return the pattern, or null if the keyword is blank
+     */
+    public static String contains(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        String escaped = keyword.trim().toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,105 @@
+package com.ginkgooai.core.project.repository.support;
+
+import com.ginkgooai.core.project.config.properties.ExportProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Streams selected columns of the entities matching a {@link Specification} through a
+ * forward-only database cursor, for exports too large to page.
+ *
+ * <p>
+ * Rows are plain values rather than entities, so the persistence context does not grow
+ * while scrolling, and the PostgreSQL driver only fetches rows in batches of
+ * {@code app.export.fetch-size}. The driver only uses a cursor inside a transaction, so
+ * callers must run in one.
+ */
+@Component
+@RequiredArgsConstructor
+public class RowScrollQuery {
+
+    private final EntityManager entityManager;
+
+    private final ExportProperties properties;
+
+    /**
+     * Handles one scrolled row.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+
+        void handle(Object[] row) throws IOException;
+
+    }
+
+    /**
+     * Scroll the matching entities in sort order.
+     *
+     * @param domainClass   The entity class
+     * @param specification The filters
+     * @param sort          The order of the rows
+     * @param columns       Selects the columns of a row; may join to-one associations,
+     *                      preferably through {@link #leftJoin}
+     * @param handler       Receives each row, with one value per column
+     * @return Number of rows scrolled
+     */
+    public <T> long scroll(Class<T> domainClass, Specification<T> specification, Sort sort,
+                           BiFunction<Root<T>, CriteriaBuilder, List<Selection<?>>> columns, RowHandler handler)
+        throws IOException {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(columns.apply(root, cb)).orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        @SuppressWarnings("unchecked")
+        Query<Object[]> scrollQuery = entityManager.createQuery(query).unwrap(Query.class);
+        scrollQuery.setFetchSize(properties.getFetchSize());
+        scrollQuery.setReadOnly(true);
+        scrollQuery.setCacheMode(CacheMode.IGNORE);
+
+        long count = 0;
+        try (ScrollableResults<Object[]> results = scrollQuery.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                handler.handle(results.get());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Left join of an association, reusing a join the specification already made.
+     *
+     * @param from      The entity or join to join from
+     * @param attribute The association to join
+     * @return The join
+     */
+    @SuppressWarnings("unchecked")
+    public static <X, Y> Join<X, Y> leftJoin(From<?, X> from, String attribute) {
+        for (Join<X, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute) && join.getJoinType() == JoinType.LEFT) {
+                return (Join<X, Y>) join;
+            }
+        }
+        return from.join(attribute, JoinType.LEFT);
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.ginkgooai.core.project.repository.support;
+
+import com.ginkgooai.core.project.exception.InvalidRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Keyset scrolling over specifications, with opaque continuation tokens.
+ *
+ * <p>
+ * A token holds the sort key values and the id of the last entity of a window, so the
+ * next window can continue right after it without an offset or a count. Values are
+ * encoded as text and converted back using the entity metamodel, keeping full
+ * timestamp precision. Sort properties may be null, such as the name of an optional
+ * role: nulls are encoded explicitly and ordered the way PostgreSQL orders them, after
+ * every value ascending and before every value descending.
+ *
+ * <p>
+ * Window sizes requested by clients are bounded by {@link #windowSize(int)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScrollCursorCodec {
+
+    /**
+     * Largest window a client may request.
+     */
+    public static final int MAX_WINDOW_SIZE = 100;
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Select the window of entities following the position encoded in a token. The id
+     * is appended to the sort as the final key, so that positions are unique.
+     *
+     * @param repository    The repository of the entity
+     * @param domainClass   The entity being scrolled
+     * @param specification The filters
+     * @param sort          The requested sort
+     * @param size          The requested window size, see {@link #windowSize(int)}
+     * @param token         The token from a previous window, or blank for the first window
+     * @return The window, whose positions can be passed to {@link #encode(Window)}
+     * @throws InvalidRequestException if the token is malformed or was issued for another sort
+     */
+    public <T> Window<T> scroll(JpaSpecificationExecutor<T> repository, Class<T> domainClass,
+                                Specification<T> specification, Sort sort, int size, String token) {
+        Sort keysetSort = sort.getOrderFor(ID) == null ? sort.and(Sort.by(ID)) : sort;
+        ScrollPosition position = decode(token, domainClass, keysetSort);
+        Specification<T> filters = Specification.where(specification);
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            filters = filters.and(after(keysetSort, keyset.getKeys()));
+        }
+
+        int limit = windowSize(size);
+        List<T> rows = repository.findBy(filters, query -> query.sortBy(keysetSort).limit(limit + 1).all());
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        return Window.from(content, index -> ScrollPosition.forward(keysOf(content.get(index), keysetSort)), hasNext);
+    }
+
+    /**
+     * Create the token continuing after the given window.
+     *
+     * @param window The window that was returned
+     * @return The token for the next window, or null if there is none
+     */
+    public String encode(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        ScrollPosition position = window.positionAt(window.size() - 1);
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalStateException("Only keyset scroll positions can be encoded");
+        }
+
+        StringJoiner joiner = new StringJoiner("&");
+        keyset.getKeys().forEach((property, value) -> {
+            String key = URLEncoder.encode(property, StandardCharsets.UTF_8);
+            joiner.add(value == null ? key : key + "=" + URLEncoder.encode(value.toString(), StandardCharsets.UTF_8));
+        });
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Turn a token back into a scroll position.
+     *
+     * @param token       The token from a previous window, or blank for the first window
+     * @param domainClass The entity being scrolled
+     * @param sort        The sort the token has to hold the keys of, id included
+     * @return The position to scroll from
+     * @throws InvalidRequestException if the token is malformed or does not match the entity
+     *                                 and sort
+     */
+    public ScrollPosition decode(String token, Class<?> domainClass, Sort sort) {
+        if (!StringUtils.hasText(token)) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            for (String pair : decoded.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator < 0) {
+                    keys.put(URLDecoder.decode(pair, StandardCharsets.UTF_8), null);
+                    continue;
+                }
+                String property = URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8);
+                String value = URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+                keys.put(property, convert(value, typeOf(domainClass, property)));
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid cursor: " + token, e);
+        }
+
+        List<String> properties = sort.stream().map(Sort.Order::getProperty).toList();
+        if (!new ArrayList<>(keys.keySet()).equals(properties)) {
+            throw new InvalidRequestException("Cursor does not match the requested sort " + properties);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Bound a window size requested by a client.
+     *
+     * @param size The requested size
+     * @return The size clamped between 1 and {@link #MAX_WINDOW_SIZE}
+     */
+    public int windowSize(int size) {
+        return Math.clamp(size, 1, MAX_WINDOW_SIZE);
+    }
+
+    /**
+     * Entities strictly after the given keys in sort order. For each sort key, matches
+     * the entities equal on all previous keys and after on this one.
+     */
+    private static <T> Specification<T> after(Sort sort, Map<String, Object> keys) {
+        return (root, query, cb) -> {
+            List<Predicate> alternatives = new ArrayList<>();
+            List<Predicate> equalPrefix = new ArrayList<>();
+            for (Sort.Order order : sort) {
+                // Joins the same way the sort does, so optional associations stay outer joins
+                Expression<Comparable<Object>> path = QueryUtils.toExpressionRecursively(root,
+                    PropertyPath.from(order.getProperty(), root.getJavaType()));
+                Object value = keys.get(order.getProperty());
+
+                List<Predicate> alternative = new ArrayList<>(equalPrefix);
+                alternative.add(isAfter(cb, path, value, order.isAscending()));
+                alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+                equalPrefix.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+            }
+            return cb.or(alternatives.toArray(Predicate[]::new));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate isAfter(CriteriaBuilder cb, Expression<Comparable<Object>> path, Object value,
+                                     boolean ascending) {
+        if (value == null) {
+            return ascending ? cb.disjunction() : cb.isNotNull(path);
+        }
+        Comparable<Object> comparable = (Comparable<Object>) value;
+        return ascending ? cb.or(cb.greaterThan(path, comparable), cb.isNull(path)) : cb.lessThan(path, comparable);
+    }
+
+    private static Map<String, Object> keysOf(Object entity, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            Object value = entity;
+            for (String part : order.getProperty().split("\\.")) {
+                value = value == null ? null : PropertyAccessorFactory.forBeanPropertyAccess(value).getPropertyValue(part);
+            }
+            keys.put(order.getProperty(), value);
+        }
+        return keys;
+    }
+
+    private Class<?> typeOf(Class<?> domainClass, String property) {
+        ManagedType<?> type = entityManager.getMetamodel().managedType(domainClass);
+        Class<?> javaType = domainClass;
+        String[] parts = property.split("\\.");
+        for (int i = 0; i < parts.length; i++) {
+            Attribute<?, ?> attribute = type.getAttribute(parts[i]);
+            javaType = attribute.getJavaType();
+            if (i < parts.length - 1) {
+                type = entityManager.getMetamodel().managedType(javaType);
+            }
+        }
+        return javaType;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        return DefaultConversionService.getSharedInstance().convert(value, type);
+    }
+
+}
@@ -1,26 +1,23 @@
 package com.ginkgooai.core.project.service;
 
 import com.ginkgooai.core.common.utils.ContextUtils;
-import com.ginkgooai.core.project.client.storage.StorageClient;
+import com.ginkgooai.core.project.client.storage.SideFileCache;
 import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
-import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.component.dashboard.WorkspaceDashboardCounters;
 import com.ginkgooai.core.project.domain.project.ProjectStatus;
 import com.ginkgooai.core.project.domain.role.ProjectRole;
-import com.ginkgooai.core.project.domain.role.RoleStatus;
 import com.ginkgooai.core.project.dto.response.*;
 import com.ginkgooai.core.project.repository.ApplicationRepository;
 import com.ginkgooai.core.project.repository.ProjectRepository;
 import com.ginkgooai.core.project.repository.ProjectRoleRepository;
-import com.ginkgooai.core.project.repository.SubmissionRepository;
+import com.ginkgooai.core.project.repository.support.LikePatterns;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,9 +31,9 @@ public class ProjectReadServiceImpl implements ProjectReadService {
     @Autowired
     private ApplicationRepository applicationRepository;
     @Autowired
-    private SubmissionRepository submissionRepository;
+    private SideFileCache sideFileCache;
     @Autowired
-    private StorageClient storageClient;
+    private WorkspaceDashboardCounters dashboardCounters;
 
     @Override
     public Optional<ProjectResponse> findById(String workspaceId, String id) {
@@ -53,7 +50,8 @@ public class ProjectReadServiceImpl implements ProjectReadService {
 
     @Override
 	public Page<ProjectListResponse> findProjectList(String name, ProjectStatus status, Pageable pageable) {
-		return projectRepository.findProjectList(ContextUtils.getWorkspaceId(), name, status, pageable);
+		return projectRepository.findProjectList(ContextUtils.getWorkspaceId(), LikePatterns.contains(name), status,
+				pageable);
     }
 
     @Override
@@ -92,7 +90,7 @@ public class ProjectReadServiceImpl implements ProjectReadService {
     public Page<ProjectRoleStatisticsResponse> getProjectRolesStatistics(String projectId, String name,
             Pageable pageable) {
         Page<ProjectRoleStatisticsResponse> statisticsPage = applicationRepository.getProjectRolesStatistics(projectId,
-                name, pageable);
+                LikePatterns.contains(name), pageable);
 
         List<String> allSideFileIds = statisticsPage.getContent().stream()
                 .filter(stat -> stat.getSideFileIds() != null)
@@ -100,20 +98,8 @@ public class ProjectReadServiceImpl implements ProjectReadService {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        Map<String, CloudFileResponse> sideFilesMap = Collections.emptyMap();
-        if (!allSideFileIds.isEmpty()) {
-            try {
-                ResponseEntity<List<CloudFileResponse>> response = storageClient.getFileDetails(allSideFileIds);
-                if (response.getBody() != null) {
-                    sideFilesMap = response.getBody().stream()
-                            .collect(Collectors.toMap(CloudFileResponse::getId, Function.identity()));
-                }
-            } catch (Exception e) {
-                log.error("Error fetching side files: {}", e.getMessage());
-            }
-        }
-
-        Map<String, CloudFileResponse> finalSideFilesMap = sideFilesMap;
+        Map<String, CloudFileResponse> finalSideFilesMap = allSideFileIds.isEmpty() ? Collections.emptyMap()
+                : sideFileCache.getAll(allSideFileIds);
         statisticsPage.getContent().forEach(stat -> {
             if (stat.getSideFileIds() != null) {
                 List<CloudFileResponse> sideFiles = Arrays.stream(stat.getSideFileIds())
@@ -147,33 +133,7 @@ public class ProjectReadServiceImpl implements ProjectReadService {
 
     @Override
     public ProjectStatisticsResponse getProjectsStatistics() {
-        String workspaceId = ContextUtils.getWorkspaceId();
-
-        long activeProjects = projectRepository.countByWorkspaceIdAndStatusIn(
-            workspaceId,
-            List.of(ProjectStatus.DRAFTING, ProjectStatus.IN_PROGRESS)
-        );
-
-        long rolesToFill = projectRoleRepository.countByWorkspaceIdAndStatusNot(
-            workspaceId,
-            RoleStatus.CAST
-        );
-
-        long pendingReviews = applicationRepository.countByWorkspaceIdAndStatus(
-            workspaceId,
-            ApplicationStatus.SUBMITTED
-        );
-
-        long unviewedVideos = submissionRepository.countUnviewedSubmissions(
-            workspaceId
-        );
-
-        return new ProjectStatisticsResponse(
-            activeProjects,
-            rolesToFill,
-            pendingReviews,
-            unviewedVideos
-        );
+        return dashboardCounters.get(ContextUtils.getWorkspaceId());
     }
 
 
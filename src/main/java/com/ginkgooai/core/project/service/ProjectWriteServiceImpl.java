@@ -5,7 +5,7 @@ import com.ginkgooai.core.common.exception.ConflictException;
 import com.ginkgooai.core.common.exception.ResourceNotFoundException;
 import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.project.aspect.lock.annotation.DistributedLock;
-import com.ginkgooai.core.project.client.storage.StorageClient;
+import com.ginkgooai.core.project.client.storage.SideFileCache;
 import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
 import com.ginkgooai.core.project.domain.application.Application;
 import com.ginkgooai.core.project.domain.project.Project;
@@ -29,8 +29,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -46,7 +44,7 @@ public class ProjectWriteServiceImpl implements ProjectWriteService {
     private ActivityLoggerService activityLogger;
 
     @Autowired
-    private StorageClient storageClient;
+    private SideFileCache sideFileCache;
 
     @Autowired
     private ApplicationRepository applicationRepository;
@@ -80,8 +78,7 @@ public class ProjectWriteServiceImpl implements ProjectWriteService {
 
 			List<String> sideFileIds = request.getRoles().stream().flatMap(roles -> roles.getSides().stream()).toList();
 			if (!sideFileIds.isEmpty()) {
-				roleSideFiles = ObjectUtils.isEmpty(sideFileIds) ? new ArrayList<>()
-						: storageClient.getFileDetails(sideFileIds).getBody();
+				roleSideFiles = new ArrayList<>(sideFileCache.getAll(sideFileIds).values());
 			}
             log.debug("Roles sides files: {}", roleSideFiles);
         }
@@ -181,9 +178,7 @@ public class ProjectWriteServiceImpl implements ProjectWriteService {
         ProjectRole savedRole = projectRoleRepository.save(role);
         Map<String, CloudFileResponse> roleSideFilesMap = new HashMap<>();
         if (!ObjectUtils.isEmpty(savedRole.getSides())) {
-            roleSideFilesMap = storageClient
-                .getFileDetails(Arrays.stream(savedRole.getSides()).toList()).getBody().stream()
-                .collect(Collectors.toMap(file -> file.getId(), Function.identity()));
+            roleSideFilesMap = sideFileCache.getAll(Arrays.asList(savedRole.getSides()));
         }
 
 		activityLogger.log(project.getWorkspaceId(), project.getId(), null, ActivityType.ROLE_CREATED,
@@ -3,10 +3,13 @@ package com.ginkgooai.core.project.service.application;
 import com.ginkgooai.core.common.exception.ResourceDuplicatedException;
 import com.ginkgooai.core.common.exception.ResourceNotFoundException;
 import com.ginkgooai.core.common.utils.ContextUtils;
-import com.ginkgooai.core.project.client.identity.IdentityClient;
+import com.ginkgooai.core.project.client.identity.UserDirectory;
 import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
 import com.ginkgooai.core.project.client.storage.StorageClient;
+import com.ginkgooai.core.project.client.storage.SideFileCache;
 import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
+import com.ginkgooai.core.project.component.concurrent.FanOutScope;
+import com.ginkgooai.core.project.config.properties.ApplicationDetailProperties;
 import com.ginkgooai.core.project.domain.application.*;
 import com.ginkgooai.core.project.domain.project.Project;
 import com.ginkgooai.core.project.domain.role.ProjectRole;
@@ -18,18 +21,23 @@ import com.ginkgooai.core.project.dto.response.ApplicationCommentResponse;
 import com.ginkgooai.core.project.dto.response.ApplicationNoteResponse;
 import com.ginkgooai.core.project.dto.response.ApplicationResponse;
 import com.ginkgooai.core.project.dto.response.ApplicationStatisticsResponse;
+import com.ginkgooai.core.project.dto.response.CursorPageResponse;
+import com.ginkgooai.core.project.dto.response.SubmissionResponse;
 import com.ginkgooai.core.project.repository.*;
+import com.ginkgooai.core.project.repository.projection.ApplicationListRow;
+import com.ginkgooai.core.project.repository.projection.ApplicationRemarkRow;
+import com.ginkgooai.core.project.repository.projection.SubmissionListRow;
+import com.ginkgooai.core.project.repository.specification.ApplicationSpecification;
+import com.ginkgooai.core.project.repository.support.IdPageQuery;
+import com.ginkgooai.core.project.repository.support.ScrollCursorCodec;
 import com.ginkgooai.core.project.service.ActivityLoggerService;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
@@ -39,12 +47,17 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ApplicationService {
 
+    private static final String VIEW_MODE_READING_LIST = "readingList";
+
+    private static final String VIEW_MODE_SUBMISSIONS = "submissions";
+
     private final ApplicationRepository applicationRepository;
     private final ApplicationNoteRepository applicationNoteRepository;
     private final ProjectRepository projectRepository;
@@ -53,8 +66,12 @@ public class ApplicationService {
     private final SubmissionRepository submissionRepository;
     private final TalentService talentService;
     private final StorageClient storageClient;
-    private final IdentityClient identityClient;
+    private final SideFileCache sideFileCache;
+    private final UserDirectory userDirectory;
     private final ActivityLoggerService activityLogger;
+    private final IdPageQuery idPageQuery;
+    private final ScrollCursorCodec scrollCursorCodec;
+    private final ApplicationDetailProperties applicationDetailProperties;
 
     @Transactional
     public List<ApplicationResponse> createApplications(ApplicationCreateRequest request,
@@ -163,42 +180,139 @@ public class ApplicationService {
         application.getSubmissions().forEach(submission -> submission.getComments()
 			.forEach(comment -> userIds.add(comment.getCreatedBy())));
 
-		// Get role sides files
-		Map<String, CloudFileResponse> roleSideFilesMap = Collections.emptyMap();
-		if (application.getRole() != null && application.getRole().getSides() != null) {
-			try {
-				ResponseEntity<List<CloudFileResponse>> response = storageClient
-					.getFileDetails(Arrays.asList(application.getRole().getSides()));
-				if (response.getBody() != null) {
-					roleSideFilesMap = response.getBody()
-						.stream()
-						.collect(Collectors.toMap(CloudFileResponse::getId, Function.identity()));
-				}
-			}
-			catch (Exception e) {
-				log.error("Error fetching side files for role {}: {}", application.getRole().getId(), e.getMessage());
-			}
-		}
+		List<String> sideFileIds = application.getRole() != null && application.getRole().getSides() != null
+				? Arrays.asList(application.getRole().getSides()) : Collections.emptyList();
 
-        final List<UserInfoResponse> finalUsers = getUserInfoByIds(userIds);
-		final Map<String, CloudFileResponse> finalRoleSideFilesMap = roleSideFilesMap;
+		// Role sides and comment/note authors come from different services, fetch them
+		// concurrently
+		try (FanOutScope scope = FanOutScope.open(applicationDetailProperties.getDeadline())) {
+			FanOutScope.Subtask<Map<String, CloudFileResponse>> roleSideFiles = scope
+				.fork(() -> sideFileCache.getAll(sideFileIds));
+			FanOutScope.Subtask<List<UserInfoResponse>> users = scope.fork(() -> userDirectory.getUsers(userIds));
+			scope.join();
 
-		return ApplicationResponse.from(application, finalUsers, userId, finalRoleSideFilesMap);
+			return ApplicationResponse.from(application, users.getOrDefault(Collections.emptyList()), userId,
+					roleSideFiles.getOrDefault(Collections.emptyMap()));
+		}
     }
 
     @Transactional(readOnly = true)
     public Page<ApplicationResponse> listApplications(String workspaceId, String userId,
 			String projectId, String roleId, String talentId, LocalDateTime startDateTime, LocalDateTime endDateTime,
 			String viewMode, String keyword, ApplicationStatus status, Pageable pageable) {
-		Page<Application> applicationPage = applicationRepository.findAll(
-                buildSpecification(workspaceId, projectId, roleId, viewMode, talentId,
-						startDateTime, endDateTime, keyword, status, pageable.getSort()),
-                pageable);
+		Page<String> idPage = idPageQuery.findIds(Application.class,
+				ApplicationSpecification.findAllWithFilters(workspaceId, projectId, roleId, talentId, startDateTime,
+						endDateTime, keyword, status),
+				pageable);
+		if (idPage.isEmpty()) {
+			return new PageImpl<>(Collections.emptyList(), pageable, idPage.getTotalElements());
+		}
+
+		List<ApplicationResponse> responses;
+		if (VIEW_MODE_READING_LIST.equals(viewMode) || VIEW_MODE_SUBMISSIONS.equals(viewMode)) {
+			responses = toProjectedListResponses(idPage.getContent(), userId, viewMode, startDateTime, endDateTime);
+		}
+		else {
+			List<Application> applications = IdPageQuery.inIdOrder(idPage.getContent(),
+					applicationRepository.findWithDetailsByIdIn(idPage.getContent()), Application::getId);
+			responses = toListResponses(applications, userId, viewMode, startDateTime, endDateTime);
+		}
+		return new PageImpl<>(responses, pageable, idPage.getTotalElements());
+    }
+
+	/**
+	 * Build the list responses of the reading list and submissions views from
+	 * projections, reading only the columns these views render. The reading list also
+	 * carries notes and comments; the submissions view keeps only the submissions
+	 * created within the given range.
+	 */
+	private List<ApplicationResponse> toProjectedListResponses(List<String> ids, String userId, String viewMode,
+			LocalDateTime startDateTime, LocalDateTime endDateTime) {
+		boolean readingList = VIEW_MODE_READING_LIST.equals(viewMode);
+
+		List<ApplicationListRow> rows = IdPageQuery.inIdOrder(ids, applicationRepository.findListRowsByIdIn(ids),
+				ApplicationListRow::getId);
+		Map<String, List<SubmissionListRow>> submissionsByApplication = submissionRepository
+			.findListRowsByApplicationIdIn(ids, userId)
+			.stream()
+			.filter(submission -> readingList || isWithin(submission.getCreatedAt(), startDateTime, endDateTime))
+			.collect(Collectors.groupingBy(SubmissionListRow::getApplicationId));
+
+		Map<String, List<ApplicationRemarkRow>> notesByApplication = Collections.emptyMap();
+		Map<String, List<ApplicationRemarkRow>> commentsByApplication = Collections.emptyMap();
+		Map<String, UserInfoResponse> users = Collections.emptyMap();
+		if (readingList) {
+			List<ApplicationRemarkRow> notes = applicationRepository.findNoteRowsByApplicationIdIn(ids);
+			List<ApplicationRemarkRow> comments = applicationRepository.findCommentRowsByApplicationIdIn(ids);
+			notesByApplication = notes.stream().collect(Collectors.groupingBy(ApplicationRemarkRow::getApplicationId));
+			commentsByApplication = comments.stream()
+				.collect(Collectors.groupingBy(ApplicationRemarkRow::getApplicationId));
+			users = userDirectory.getUserMap(Stream.concat(notes.stream(), comments.stream())
+				.map(ApplicationRemarkRow::getCreatedBy)
+				.filter(StringUtils::hasText)
+				.distinct()
+				.toList());
+		}
 
+		List<ApplicationResponse> responses = new ArrayList<>(rows.size());
+		for (ApplicationListRow row : rows) {
+			Map<String, UserInfoResponse> userMap = users;
+			List<SubmissionResponse> submissions = submissionsByApplication.getOrDefault(row.getId(), List.of())
+				.stream()
+				.map(submission -> SubmissionResponse.from(submission, row))
+				.toList();
+			List<ApplicationNoteResponse> notes = readingList ? notesByApplication.getOrDefault(row.getId(), List.of())
+				.stream()
+				.map(note -> ApplicationNoteResponse.from(note, userMap.get(note.getCreatedBy())))
+				.toList() : null;
+			List<ApplicationCommentResponse> comments = readingList
+					? commentsByApplication.getOrDefault(row.getId(), List.of())
+						.stream()
+						.map(comment -> ApplicationCommentResponse.from(comment, userMap.get(comment.getCreatedBy())))
+						.toList()
+					: null;
+			responses.add(ApplicationResponse.from(row, submissions, notes, comments));
+		}
+		return responses;
+	}
+
+	private static boolean isWithin(LocalDateTime createdAt, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+		if (startDateTime == null && endDateTime == null) {
+			return true;
+		}
+		if (createdAt == null) {
+			return false;
+		}
+		return (startDateTime == null || !createdAt.isBefore(startDateTime))
+				&& (endDateTime == null || !createdAt.isAfter(endDateTime));
+	}
+
+    /**
+	 * Cursor-based alternative to {@link #listApplications}: returns the applications
+	 * following the position encoded in {@code cursor}, without counting the total.
+	 * @param cursor token from the previous window, or null for the first window
+	 * @return the window of applications and the token for the next one
+	 */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ApplicationResponse> scrollApplications(String workspaceId, String userId,
+			String projectId, String roleId, String talentId, LocalDateTime startDateTime, LocalDateTime endDateTime,
+			String viewMode, String keyword, ApplicationStatus status, Sort sort, int size, String cursor) {
+		Window<Application> window = scrollCursorCodec.scroll(applicationRepository, Application.class,
+				ApplicationSpecification.findAllWithFilters(workspaceId, projectId, roleId, talentId, startDateTime,
+						endDateTime, keyword, status),
+				sort, size, cursor);
+
+		return CursorPageResponse.of(
+				toListResponses(window.getContent(), userId, viewMode, startDateTime, endDateTime),
+				scrollCursorCodec.encode(window));
+    }
+
+    private List<ApplicationResponse> toListResponses(List<Application> applications, String userId,
+			String viewMode, LocalDateTime startDateTime, LocalDateTime endDateTime) {
 		// If we're in submissions view mode and have date filters, filter the
 		// submissions in memory
         if ("submissions".equals(viewMode) && (startDateTime != null || endDateTime != null)) {
-            applicationPage.forEach(app -> {
+            applications.forEach(app -> {
                 if (Objects.nonNull(app.getSubmissions())) {
                     // Filter submissions by date range
 					List<Submission> filteredSubmissions = app.getSubmissions().stream().filter(submission -> {
@@ -219,7 +333,7 @@ public class ApplicationService {
         }
 
         List<String> userIds = new ArrayList<>();
-        applicationPage.forEach(app -> {
+        applications.forEach(app -> {
             if (Objects.nonNull(app.getComments())) {
                 app.getComments().forEach(comment -> userIds.add(comment.getCreatedBy()));
             }
@@ -236,88 +350,11 @@ public class ApplicationService {
             }
         });
 
-        final List<UserInfoResponse> finalUsers = getUserInfoByIds(userIds);
+        final List<UserInfoResponse> finalUsers = userDirectory.getUsers(userIds);
 
-        return applicationPage
-			.map(application -> ApplicationResponse.from(application, finalUsers, userId));
-    }
-
-    private Specification<Application> buildSpecification(String workspaceId, String projectId,
-			String roleId, String viewMode, String talentId, LocalDateTime startDateTime, LocalDateTime endDateTime,
-			String keyword, ApplicationStatus status, Sort sort) {
-
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            Join<Application, Talent> talentJoin = root.join("talent", JoinType.LEFT);
-			Join<Application, ProjectRole> roleJoin = root.join("role", JoinType.LEFT);
-
-			// Workspace filter (required)
-            predicates.add(cb.equal(root.get("workspaceId"), workspaceId));
-
-            // Project filter
-            if (StringUtils.hasText(projectId)) {
-                predicates.add(cb.equal(root.get("project").get("id"), projectId));
-            }
-
-            // Role filter
-            if (StringUtils.hasText(roleId)) {
-                predicates.add(cb.equal(root.get("role").get("id"), roleId));
-            }
-
-            // Talent filter
-            if (StringUtils.hasText(talentId)) {
-                predicates.add(cb.equal(root.get("talent").get("id"), talentId));
-            }
-
-            // Status filter
-            if (status != null) {
-                predicates.add(cb.equal(root.get("status"), status));
-            }
-
-			// Date filter
-			if (startDateTime != null && endDateTime != null) {
-				predicates.add(cb.between(root.get("createdAt"), startDateTime, endDateTime));
-			}
-			else if (startDateTime != null) {
-				predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDateTime));
-			}
-			else if (endDateTime != null) {
-				predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDateTime));
-			}
-
-            // Keyword search on talent name or email
-            if (StringUtils.hasText(keyword)) {
-                String likePattern = "%" + keyword.toLowerCase() + "%";
-
-				Predicate talentNamePredicate = cb.like(
-						cb.lower(cb.concat(cb.concat(talentJoin.get("firstName"), " "), talentJoin.get("lastName"))),
-						likePattern);
-				Predicate talentEmailPredicate = cb.like(cb.lower(talentJoin.get("email")), likePattern);
-                Predicate roleNamePredicate = cb.like(cb.lower(roleJoin.get("name")), likePattern);
-
-                predicates.add(cb.or(talentNamePredicate, talentEmailPredicate, roleNamePredicate));
-            }
-
-            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
-                // Add groupBy on the Application ID
-                query.groupBy(root.get("id"));
-
-				// Add sort fields to groupBy if needed
-				if (sort != null && sort.isSorted()) {
-					for (Sort.Order order : sort) {
-						if ("talent.firstName".equals(order.getProperty())) {
-							query.groupBy(root.get("id"), talentJoin.get("firstName"));
-						}
-						else if ("role.name".equals(order.getProperty())) {
-							query.groupBy(root.get("id"), roleJoin.get("name"));
-						}
-					}
-				}
-            }
-
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+        return applications.stream()
+			.map(application -> ApplicationResponse.from(application, finalUsers, userId))
+			.toList();
     }
 
     @Transactional
@@ -332,8 +369,7 @@ public class ApplicationService {
 			.filter(t -> !ObjectUtils.isEmpty(t.getCreatedBy()))
                 .map(ApplicationNote::getCreatedBy).distinct().toList();
 
-		Map<String, UserInfoResponse> userInfoResponses = getUserInfoByIds(userIds).stream()
-			.collect(Collectors.toMap(UserInfoResponse::getId, userInfoResponse -> userInfoResponse));
+		Map<String, UserInfoResponse> userInfoResponses = userDirectory.getUserMap(userIds);
 
         application.getComments().add(comment);
         application.setStatus(ApplicationStatus.REVIEWED);
@@ -358,8 +394,7 @@ public class ApplicationService {
 			.filter(t -> !ObjectUtils.isEmpty(t.getCreatedBy()))
                 .map(ApplicationNote::getCreatedBy).distinct().toList();
 
-		Map<String, UserInfoResponse> userInfoResponses = getUserInfoByIds(userIds).stream()
-			.collect(Collectors.toMap(UserInfoResponse::getId, userInfoResponse -> userInfoResponse));
+		Map<String, UserInfoResponse> userInfoResponses = userDirectory.getUserMap(userIds);
 
         return application.getNotes().stream()
 			.map(t -> ApplicationNoteResponse.from(t, userInfoResponses.get(t.getCreatedBy())))
@@ -372,27 +407,6 @@ public class ApplicationService {
 					String.join("-", workspaceId, id)));
     }
 
-    private List<UserInfoResponse> getUserInfoByIds(List<String> userIds) {
-        List<String> distinctUserIds = userIds.stream().filter(id -> id != null && !id.isEmpty())
-			.distinct()
-			.collect(Collectors.toList());
-
-        List<UserInfoResponse> users = new ArrayList<>();
-        if (!distinctUserIds.isEmpty()) {
-            try {
-                users = identityClient.getUsersByIds(distinctUserIds).getBody();
-                if (users == null) {
-                    users = new ArrayList<>();
-                    log.warn("Failed to get user information from identity service");
-                }
-            } catch (Exception e) {
-                log.error("Error fetching user information: {}", e.getMessage());
-            }
-        }
-
-        return users;
-    }
-
     public void deleteApplication(String applicationId) {
         Application application = applicationRepository
 			.findByIdAndWorkspaceId(applicationId, ContextUtils.getWorkspaceId())
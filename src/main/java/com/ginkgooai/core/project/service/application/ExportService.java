@@ -0,0 +1,107 @@
+package com.ginkgooai.core.project.service.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ginkgooai.core.project.component.export.ExportFormat;
+import com.ginkgooai.core.project.component.export.TabularExportWriter;
+import com.ginkgooai.core.project.domain.application.Application;
+import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.domain.application.Shortlist;
+import com.ginkgooai.core.project.domain.application.ShortlistItem;
+import com.ginkgooai.core.project.domain.project.Project;
+import com.ginkgooai.core.project.domain.role.ProjectRole;
+import com.ginkgooai.core.project.domain.talent.Talent;
+import com.ginkgooai.core.project.repository.ShortlistRepository;
+import com.ginkgooai.core.project.repository.specification.ApplicationSpecification;
+import com.ginkgooai.core.project.repository.specification.ShortlistItemSpecification;
+import com.ginkgooai.core.project.repository.support.RowScrollQuery;
+import jakarta.persistence.criteria.Join;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Streams applications and shortlist items matching the list filters to a file, one
+ * row at a time through a database cursor, instead of page by page.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExportService {
+
+	private static final List<String> APPLICATION_COLUMNS = List.of("id", "projectName", "roleName",
+			"talentFirstName", "talentLastName", "talentEmail", "status", "createdAt", "updatedAt");
+
+	private static final List<String> SHORTLIST_ITEM_COLUMNS = List.of("id", "applicationId", "roleName",
+			"talentFirstName", "talentLastName", "talentEmail", "applicationStatus", "createdAt");
+
+	private final RowScrollQuery rowScrollQuery;
+
+	private final ShortlistRepository shortlistRepository;
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Write the applications matching the filters of the application list.
+	 * @return number of applications written
+	 */
+	@Transactional(readOnly = true)
+	public long exportApplications(String workspaceId, String projectId, String roleId, String talentId,
+			LocalDateTime startDateTime, LocalDateTime endDateTime, String keyword, ApplicationStatus status, Sort sort,
+			ExportFormat format, OutputStream out) throws IOException {
+		TabularExportWriter writer = new TabularExportWriter(format, APPLICATION_COLUMNS, out, objectMapper);
+		long rows = rowScrollQuery.scroll(Application.class,
+				ApplicationSpecification.findAllWithFilters(workspaceId, projectId, roleId, talentId, startDateTime,
+						endDateTime, keyword, status),
+				sort, (root, cb) -> {
+					Join<Application, Project> project = RowScrollQuery.leftJoin(root, "project");
+					Join<Application, ProjectRole> role = RowScrollQuery.leftJoin(root, "role");
+					Join<Application, Talent> talent = RowScrollQuery.leftJoin(root, "talent");
+					return List.of(root.get("id"), project.get("name"), role.get("name"), talent.get("firstName"),
+							talent.get("lastName"), talent.get("email"), root.get("status"), root.get("createdAt"),
+							root.get("updatedAt"));
+				}, writer::write);
+		writer.finish();
+		log.info("Exported {} applications of workspace {}", rows, workspaceId);
+		return rows;
+	}
+
+	/**
+	 * Write the items of the user's shortlist of a project matching the filters of the
+	 * shortlist item list. A user without a shortlist gets an empty file.
+	 * @return number of items written
+	 */
+	@Transactional(readOnly = true)
+	public long exportShortlistItems(String workspaceId, String userId, String projectId, String keyword,
+			String roleId, String talentId, LocalDateTime startDateTime, LocalDateTime endDateTime, Sort sort,
+			ExportFormat format, OutputStream out) throws IOException {
+		TabularExportWriter writer = new TabularExportWriter(format, SHORTLIST_ITEM_COLUMNS, out, objectMapper);
+		Optional<Shortlist> shortlist = shortlistRepository.findByWorkspaceIdAndProjectIdAndOwnerId(workspaceId,
+				projectId, userId);
+		long rows = 0;
+		if (shortlist.isPresent()) {
+			rows = rowScrollQuery.scroll(ShortlistItem.class,
+					ShortlistItemSpecification.matchingFilters(workspaceId, shortlist.get().getId(), keyword, roleId,
+							startDateTime, endDateTime, talentId),
+					sort, (root, cb) -> {
+						Join<ShortlistItem, Application> application = RowScrollQuery.leftJoin(root, "application");
+						Join<Application, ProjectRole> role = RowScrollQuery.leftJoin(application, "role");
+						Join<Application, Talent> talent = RowScrollQuery.leftJoin(application, "talent");
+						return List.of(root.get("id"), application.get("id"), role.get("name"),
+								talent.get("firstName"), talent.get("lastName"), talent.get("email"),
+								application.get("status"), root.get("createdAt"));
+					}, writer::write);
+		}
+		writer.finish();
+		log.info("Exported {} shortlist items of project {}", rows, projectId);
+		return rows;
+	}
+
+}
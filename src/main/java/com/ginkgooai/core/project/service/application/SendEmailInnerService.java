@@ -18,7 +18,14 @@ public class SendEmailInnerService {
     private final QueueInterface queueInterface;
     private final EmailRateLimitService emailRateLimitService;
 
-    public void email(InnerMailSendMessage message) {
+    /**
+     * Queue an email for every recipient that is not rate limited for the message's
+     * template type.
+     *
+     * @param message The email message
+     * @return The receipts that were queued
+     */
+    public List<InnerMailSendMessage.Receipt> email(InnerMailSendMessage message) {
         List<InnerMailSendMessage.Receipt> filteredReceipts = new ArrayList<>();
         String emailType = message.getEmailTemplateType();
 
@@ -48,5 +55,6 @@ public class SendEmailInnerService {
         } else {
             log.warn("All recipients were rate-limited for email type: {}", emailType);
         }
+        return filteredReceipts;
     }
 }
@@ -7,30 +7,33 @@ import com.ginkgooai.core.common.exception.ResourceNotFoundException;
 import com.ginkgooai.core.common.message.InnerMailSendMessage;
 import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.common.utils.UrlUtils;
+import com.ginkgooai.core.project.client.identity.GuestProfileUpdater;
 import com.ginkgooai.core.project.client.identity.IdentityClient;
+import com.ginkgooai.core.project.client.identity.UserDirectory;
 import com.ginkgooai.core.project.client.identity.dto.PatchUserRequest;
 import com.ginkgooai.core.project.client.identity.dto.ShareCodeRequest;
 import com.ginkgooai.core.project.client.identity.dto.ShareCodeResponse;
 import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
+import com.ginkgooai.core.project.component.concurrent.BoundedParallel;
 import com.ginkgooai.core.project.domain.application.*;
 import com.ginkgooai.core.project.domain.project.Project;
-import com.ginkgooai.core.project.domain.role.ProjectRole;
 import com.ginkgooai.core.project.domain.role.RoleStatus;
-import com.ginkgooai.core.project.domain.talent.Talent;
 import com.ginkgooai.core.project.dto.request.ShareShortlistRequest;
+import com.ginkgooai.core.project.dto.response.CursorPageResponse;
 import com.ginkgooai.core.project.dto.response.ShortlistItemResponse;
 import com.ginkgooai.core.project.dto.response.ShortlistShareResponse;
 import com.ginkgooai.core.project.repository.*;
 import com.ginkgooai.core.project.repository.specification.ShortlistItemSpecification;
+import com.ginkgooai.core.project.repository.support.IdPageQuery;
+import com.ginkgooai.core.project.repository.support.ScrollCursorCodec;
 import com.ginkgooai.core.project.service.ActivityLoggerService;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -55,8 +58,18 @@ public class ShortlistService {
 
 	private final IdentityClient identityClient;
 
+	private final UserDirectory userDirectory;
+
+	private final GuestProfileUpdater guestProfileUpdater;
+
 	private final String appBaseUrl;
 
+	private final int shareCodeConcurrency;
+
+	private final ScrollCursorCodec scrollCursorCodec;
+
+	private final IdPageQuery idPageQuery;
+
 	private final ActivityLoggerService activityLogger;
 
 	private final SendEmailInnerService sendEmailInnerService;
@@ -64,17 +77,24 @@ public class ShortlistService {
 	public ShortlistService(ProjectRepository projectRepository, ShortlistRepository shortlistRepository,
 			ShortlistItemRepository shortlistItemRepository,
 			SubmissionRepository submissionRepository, ShortlistShareRepository shortlistShareRepository,
-			IdentityClient identityClient, ActivityLoggerService activityLogger,
-			SendEmailInnerService sendEmailInnerService,
+			IdentityClient identityClient, UserDirectory userDirectory, GuestProfileUpdater guestProfileUpdater,
+			ActivityLoggerService activityLogger, SendEmailInnerService sendEmailInnerService,
+			ScrollCursorCodec scrollCursorCodec, IdPageQuery idPageQuery,
 			@Value("${spring.security.oauth2.guest_login_uri}") String guestLoginUri,
-			@Value("${app.base-uri}") String appBaseUrl) {
+			@Value("${app.base-uri}") String appBaseUrl,
+			@Value("${app.shortlist-share.share-code-concurrency:8}") int shareCodeConcurrency) {
 		this.projectRepository = projectRepository;
 		this.shortlistRepository = shortlistRepository;
 		this.shortlistItemRepository = shortlistItemRepository;
 		this.submissionRepository = submissionRepository;
 		this.shortlistShareRepository = shortlistShareRepository;
 		this.identityClient = identityClient;
+		this.userDirectory = userDirectory;
+		this.guestProfileUpdater = guestProfileUpdater;
 		this.appBaseUrl = appBaseUrl;
+		this.shareCodeConcurrency = shareCodeConcurrency;
+		this.scrollCursorCodec = scrollCursorCodec;
+		this.idPageQuery = idPageQuery;
 		this.activityLogger = activityLogger;
 		this.sendEmailInnerService = sendEmailInnerService;
 	}
@@ -198,68 +218,72 @@ public class ShortlistService {
 			return Page.empty(pageable);
 		}
 
-		return shortlistItemRepository.findAll(
-				ShortlistItemSpecification.findAllWithFilters(
-					shortlist.getId(),
-					keyword,
-					roleId,
-					startDateTime,
-					endDateTime,
-					talentId),
-				pageable)
-			.map(t -> ShortlistItemResponse.from(t, userId));
+		return pageShortlistItems(shortlist, keyword, roleId, talentId, startDateTime, endDateTime, pageable, userId);
 	}
 
+	/**
+	 * Cursor-based alternative to {@link #listShortlistItems}: returns the items of the
+	 * user's shortlist following the position encoded in {@code cursor}, without
+	 * counting the total.
+	 * @param cursor token from the previous window, or null for the first window
+	 * @return the window of items and the token for the next one
+	 */
 	@Transactional(readOnly = true)
-	public Page<ShortlistItemResponse> listShortlistItemsByShortlistId(String shortlistId, String keyword, String roleId, String talentId,
-	                                                                   LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable) {
-
-		return shortlistItemRepository.findAll(
-			ShortlistItemSpecification.findAllWithFilters(
-				shortlistId,
-				keyword,
-				roleId,
-				startDateTime,
-				endDateTime,
-				talentId
-			),
-			pageable
-		).map(t -> ShortlistItemResponse.from(t, ContextUtils.getUserId()));
-	}
-
-	private Specification<ShortlistItem> buildShortlistItemSpecification(String shortlistId, String keyword) {
-		return (root, query, cb) -> {
-			List<Predicate> predicates = new ArrayList<>();
-
-			predicates.add(cb.equal(root.get("shortlist").get("id"), shortlistId));
-
-			if (keyword != null && !keyword.trim().isEmpty()) {
-				String likePattern = "%" + keyword.toLowerCase() + "%";
-
-				List<Predicate> keywordPredicates = new ArrayList<>();
+	public CursorPageResponse<ShortlistItemResponse> scrollShortlistItems(String projectId, String keyword,
+			String roleId, String talentId, LocalDateTime startDateTime, LocalDateTime endDateTime, Sort sort, int size,
+			String cursor) {
+		String workspaceId = ContextUtils.get().getWorkspaceId();
+		String userId = ContextUtils.get(ContextsConstant.USER_ID, String.class, null);
 
-				Join<ShortlistItem, Application> applicationJoin = root.join("application", JoinType.LEFT);
+		Shortlist shortlist = shortlistRepository
+			.findByWorkspaceIdAndProjectIdAndOwnerId(workspaceId, projectId, userId)
+			.orElse(null);
 
-				Join<Application, ProjectRole> roleJoin = applicationJoin.join("role", JoinType.LEFT);
-				keywordPredicates.add(cb.like(cb.lower(roleJoin.get("name")), likePattern));
+		if (shortlist == null) {
+			return CursorPageResponse.of(Collections.emptyList(), null);
+		}
 
-				Join<Application, Talent> talentJoin = applicationJoin.join("talent", JoinType.LEFT);
-				keywordPredicates.add(cb.like(cb.lower(talentJoin.get("firstName")), likePattern));
-				keywordPredicates.add(cb.like(cb.lower(talentJoin.get("lastName")), likePattern));
-				keywordPredicates.add(cb.like(cb.lower(talentJoin.get("email")), likePattern));
+		Window<ShortlistItem> window = scrollCursorCodec.scroll(shortlistItemRepository, ShortlistItem.class,
+				ShortlistItemSpecification.matchingFilters(workspaceId, shortlist.getId(), keyword, roleId,
+						startDateTime, endDateTime, talentId),
+				sort, size, cursor);
 
-				Join<ShortlistItem, Submission> submissionsJoin = root.join("submissions", JoinType.LEFT);
-				keywordPredicates.add(cb.like(cb.lower(submissionsJoin.get("videoName")), likePattern));
+		return CursorPageResponse.of(
+				window.getContent().stream().map(item -> ShortlistItemResponse.from(item, userId)).toList(),
+				scrollCursorCodec.encode(window));
+	}
 
-				predicates.add(cb.or(keywordPredicates.toArray(new Predicate[0])));
-			}
+	@Transactional(readOnly = true)
+	public Page<ShortlistItemResponse> listShortlistItemsByShortlistId(String shortlistId, String keyword, String roleId, String talentId,
+	                                                                   LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable) {
+		Shortlist shortlist = shortlistRepository.findById(shortlistId).orElse(null);
+		if (shortlist == null) {
+			return Page.empty(pageable);
+		}
 
-			query.distinct(true);
+		return pageShortlistItems(shortlist, keyword, roleId, talentId, startDateTime, endDateTime, pageable,
+				ContextUtils.getUserId());
+	}
 
-			query.orderBy(cb.asc(root.get("sortOrder")));
+	/**
+	 * Page the ids of the matching items in SQL, then load only the items of that page
+	 * with their associations. Fetch-joining the submissions collection in a paged
+	 * query would make Hibernate load every matching item and paginate in memory.
+	 */
+	private Page<ShortlistItemResponse> pageShortlistItems(Shortlist shortlist, String keyword, String roleId,
+			String talentId, LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable, String userId) {
+		Page<String> idPage = idPageQuery.findIds(ShortlistItem.class,
+				ShortlistItemSpecification.matchingFilters(shortlist.getWorkspaceId(), shortlist.getId(), keyword,
+						roleId, startDateTime, endDateTime, talentId),
+				pageable);
+		if (idPage.isEmpty()) {
+			return new PageImpl<>(Collections.emptyList(), pageable, idPage.getTotalElements());
+		}
 
-			return cb.and(predicates.toArray(new Predicate[0]));
-		};
+		List<ShortlistItem> items = IdPageQuery.inIdOrder(idPage.getContent(),
+				shortlistItemRepository.findWithDetailsByIdIn(idPage.getContent()), ShortlistItem::getId);
+		return new PageImpl<>(items.stream().map(item -> ShortlistItemResponse.from(item, userId)).toList(), pageable,
+				idPage.getTotalElements());
 	}
 
 	@Transactional
@@ -287,18 +311,20 @@ public class ShortlistService {
 		}
 
 		String shortlistId = shortlist.getId();
-		for (ShareShortlistRequest.Recipient recipient : request.getRecipients()) {
-			Integer expiryHours = request.getExpiresInDays() != null ? request.getExpiresInDays() * 24 : 7 * 24;
-
-			Optional<ShortlistShare> existingShare = shortlistShareRepository
-				.findActiveShareByShortlistIdAndEmail(shortlistId, recipient.getEmail());
-
-			ShareCodeResponse response;
-			if (existingShare.isPresent()) {
-				shareLinks.put(recipient.getEmail(), existingShare.get().getShareLink());
-			}
-			else {
-				response = identityClient
+		Integer expiryHours = request.getExpiresInDays() != null ? request.getExpiresInDays() * 24 : 7 * 24;
+		Map<String, ShareShortlistRequest.Recipient> recipients = new LinkedHashMap<>();
+		request.getRecipients().forEach(recipient -> recipients.putIfAbsent(recipient.getEmail(), recipient));
+
+		shortlistShareRepository
+			.findActiveSharesByShortlistIdAndEmails(shortlistId, recipients.keySet(), LocalDateTime.now().plusHours(1))
+			.forEach(share -> shareLinks.putIfAbsent(share.getRecipientEmail(), share.getShareLink()));
+
+		List<ShareShortlistRequest.Recipient> newRecipients = recipients.values()
+			.stream()
+			.filter(recipient -> !shareLinks.containsKey(recipient.getEmail()))
+			.toList();
+		List<BoundedParallel.Outcome<ShareCodeResponse>> shareCodes = BoundedParallel.map(newRecipients,
+				shareCodeConcurrency, recipient -> identityClient
 					.generateShareCode(ShareCodeRequest.builder()
 						.workspaceId(workspaceId)
 						.resource("shortlist")
@@ -309,52 +335,65 @@ public class ShortlistService {
 						.write(true)
 						.expiryHours(expiryHours)
 						.build())
-					.getBody();
-
-				String baseUrl = request.getRedirectUrl().replace("{id}", shortlistId);
-				String shareLink = UrlUtils.appendQueryParam(baseUrl, "share_code", response.getShareCode());
-				shareLinks.put(recipient.getEmail(), shareLink);
-
-				LocalDateTime expiresAt = LocalDateTime.now().plusHours(expiryHours);
-				ShortlistShare share = ShortlistShare.builder()
-					.shortlist(shortlist)
-					.shareLink(shareLink)
-					.recipientId(response.getUserId())
-					.recipientEmail(recipient.getEmail())
-					.recipientName(String.join(" ", recipient.getFirstName(), recipient.getLastName()))
-					.shareCode(response.getShareCode())
-					.expiresAt(expiresAt)
-					.active(true)
-					.build();
-				shortlistShareRepository.save(share);
-
-				UserInfoResponse userInfoResponse = identityClient.getUserById(response.getUserId()).getBody();
-				if ((!Objects.equals(userInfoResponse.getFirstName(), recipient.getFirstName())
-						|| !Objects.equals(userInfoResponse.getLastName(), recipient.getLastName()))
-						&& !userInfoResponse.getRoles().contains(Role.ROLE_USER.name())) {
-					identityClient.patchUserInfo(userInfoResponse.getId(),
-							PatchUserRequest.builder()
-								.firstName(recipient.getFirstName())
-								.lastName(recipient.getLastName())
-								.build());
-				}
+					.getBody());
+
+		String baseUrl = request.getRedirectUrl().replace("{id}", shortlistId);
+		LocalDateTime expiresAt = LocalDateTime.now().plusHours(expiryHours);
+		List<ShortlistShare> shares = new ArrayList<>();
+		Map<String, PatchUserRequest> guestNames = new HashMap<>();
+		for (int i = 0; i < newRecipients.size(); i++) {
+			ShareShortlistRequest.Recipient recipient = newRecipients.get(i);
+			ShareCodeResponse response = shareCodes.get(i).getValue();
+			if (response == null) {
+				log.warn("Failed to generate share code for recipient: {}, shortlistId: {}", recipient.getEmail(),
+						shortlistId);
+				continue;
 			}
 
+			String shareLink = UrlUtils.appendQueryParam(baseUrl, "share_code", response.getShareCode());
+			shareLinks.put(recipient.getEmail(), shareLink);
+			shares.add(ShortlistShare.builder()
+				.shortlist(shortlist)
+				.shareLink(shareLink)
+				.recipientId(response.getUserId())
+				.recipientEmail(recipient.getEmail())
+				.recipientName(String.join(" ", recipient.getFirstName(), recipient.getLastName()))
+				.shareCode(response.getShareCode())
+				.expiresAt(expiresAt)
+				.active(true)
+				.build());
+			guestNames.put(response.getUserId(),
+					PatchUserRequest.builder()
+						.firstName(recipient.getFirstName())
+						.lastName(recipient.getLastName())
+						.build());
 			log.info("Created shared shortlist for recipient: {}, shortlistId: {}", recipient.getEmail(), shortlistId);
 		}
+		shortlistShareRepository.saveAll(shares);
+		guestProfileUpdater.updateNames(guestNames);
 
 		// FIRST_NAME,PROJECT_NAME,SENDER_NAME,SHARE_LINK
-		UserInfoResponse userInfoResponse = identityClient.getUserById(userId).getBody();
-		List<InnerMailSendMessage.Receipt> list = request.getRecipients().stream().map(recipient -> {
-			Map<String, String> placeholders = Map.of("PROJECT_NAME", project.getName(), "FIRST_NAME",
-					recipient.getFirstName(), "SENDER_NAME",
-					userInfoResponse.getFirstName() + " " + userInfoResponse.getLastName(), "SHARE_LINK",
-					shareLinks.get(recipient.getEmail()));
-			return InnerMailSendMessage.Receipt.builder().placeholders(placeholders).to(recipient.getEmail()).build();
-		}).toList();
-
-		sendEmailInnerService
-			.email(InnerMailSendMessage.builder().emailTemplateType("SHARE_SHORTLIST").receipts(list).build());
+		UserInfoResponse userInfoResponse = userDirectory.getUser(userId)
+			.orElseGet(() -> identityClient.getUserById(userId).getBody());
+		List<InnerMailSendMessage.Receipt> list = recipients.values()
+			.stream()
+			.filter(recipient -> shareLinks.containsKey(recipient.getEmail()))
+			.map(recipient -> {
+				Map<String, String> placeholders = Map.of("PROJECT_NAME", project.getName(), "FIRST_NAME",
+						recipient.getFirstName(), "SENDER_NAME",
+						userInfoResponse.getFirstName() + " " + userInfoResponse.getLastName(), "SHARE_LINK",
+						shareLinks.get(recipient.getEmail()));
+				return InnerMailSendMessage.Receipt.builder()
+					.placeholders(placeholders)
+					.to(recipient.getEmail())
+					.build();
+			})
+			.toList();
+
+		if (!list.isEmpty()) {
+			sendEmailInnerService
+				.email(InnerMailSendMessage.builder().emailTemplateType("SHARE_SHORTLIST").receipts(list).build());
+		}
 
 		return shareLinks;
 	}
@@ -400,31 +439,8 @@ public class ShortlistService {
 		shortlistItem.getSubmissions()
 			.forEach(submission -> submission.getComments().forEach(comment -> userIds.add(comment.getCreatedBy())));
 
-		final List<UserInfoResponse> commentUsers = getUserInfoByIds(userIds);
+		final List<UserInfoResponse> commentUsers = userDirectory.getUsers(userIds);
 		Shortlist shortlist = shortlistItem.getShortlist();
 		return ShortlistItemResponse.from(shortlistItem, commentUsers, shortlist.getOwnerId());
 	}
-
-	private List<UserInfoResponse> getUserInfoByIds(List<String> userIds) {
-		List<String> distinctUserIds = userIds.stream()
-			.filter(id -> id != null && !id.isEmpty())
-			.distinct()
-			.collect(Collectors.toList());
-
-		List<UserInfoResponse> users = new ArrayList<>();
-		if (!distinctUserIds.isEmpty()) {
-			try {
-				users = identityClient.getUsersByIds(distinctUserIds).getBody();
-				if (users == null) {
-					users = new ArrayList<>();
-					log.warn("Failed to get user information from identity service");
-				}
-			}
-			catch (Exception e) {
-				log.error("Error fetching user information: {}", e.getMessage());
-			}
-		}
-
-		return users;
-	}
 }
@@ -8,18 +8,22 @@ import com.ginkgooai.core.common.message.InnerMailSendMessage;
 import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.common.utils.UrlUtils;
 import com.ginkgooai.core.project.client.identity.IdentityClient;
+import com.ginkgooai.core.project.client.identity.UserDirectory;
 import com.ginkgooai.core.project.client.identity.dto.ShareCodeRequest;
 import com.ginkgooai.core.project.client.identity.dto.ShareCodeResponse;
 import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
 import com.ginkgooai.core.project.client.storage.StorageClient;
 import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
+import com.ginkgooai.core.project.component.concurrent.BoundedParallel;
+import com.ginkgooai.core.project.component.view.SubmissionViewBuffer;
+import com.ginkgooai.core.project.component.view.SubmissionViewDeduplicator;
 import com.ginkgooai.core.project.domain.application.*;
 import com.ginkgooai.core.project.domain.role.ProjectRole;
 import com.ginkgooai.core.project.domain.role.RoleStatus;
-import com.ginkgooai.core.project.domain.talent.Talent;
 import com.ginkgooai.core.project.dto.request.CommentCreateRequest;
 import com.ginkgooai.core.project.dto.request.InvitationEmailRequest;
 import com.ginkgooai.core.project.dto.request.SubmissionCreateRequest;
+import com.ginkgooai.core.project.dto.response.InvitationEmailResponse;
 import com.ginkgooai.core.project.dto.response.SubmissionCommentResponse;
 import com.ginkgooai.core.project.dto.response.SubmissionResponse;
 import com.ginkgooai.core.project.repository.*;
@@ -48,6 +52,9 @@ public class SubmissionService {
     @Value(("${SLATE_URI:}"))
     private String slateUri;
 
+    @Value("${app.invitation.share-code-concurrency:8}")
+    private int shareCodeConcurrency;
+
     private final ApplicationRepository applicationRepository;
 
     private final SubmissionRepository submissionRepository;
@@ -56,18 +63,22 @@ public class SubmissionService {
 
     private final SubmissionCommentRepository submissionCommentRepository;
 
-    private final SubmissionViewRecordRepository viewRecordRepository;
-
     private final StorageClient storageClient;
 
     private final IdentityClient identityClient;
 
+    private final UserDirectory userDirectory;
+
     private final ActivityLoggerService activityLogger;
 
     private final SendEmailInnerService sendEmailInnerService;
 
 	private final TalentRepository talentRepository;
 
+	private final SubmissionViewBuffer submissionViewBuffer;
+
+	private final SubmissionViewDeduplicator submissionViewDeduplicator;
+
     @Transactional
 	public SubmissionResponse createSubmission(String workspaceId, SubmissionCreateRequest request,
             String userId) {
@@ -131,13 +142,7 @@ public class SubmissionService {
 			.distinct()
 			.toList();
 
-        List<UserInfoResponse> commentUsers = new ArrayList<>();
-        if (!CollectionUtils.isEmpty(commentUserIds)) {
-			commentUsers = identityClient
-				.getUsersByIds(
-						submission.getComments().stream().map(SubmissionComment::getCreatedBy).distinct().toList())
-				.getBody();
-        }
+        List<UserInfoResponse> commentUsers = userDirectory.getUsers(commentUserIds);
 		return SubmissionResponse.from(submission, commentUsers, ContextUtils.get(USER_ID, String.class, null));
     }
 
@@ -167,6 +172,7 @@ public class SubmissionService {
         log.info("Deleted submission: {}", submissionId);
     }
 
+    @Transactional
     public SubmissionResponse addComment(String submissionId, String workspaceId,
             CommentCreateRequest request, String userId) {
         Submission submission = findSubmissionById(submissionId);
@@ -183,8 +189,9 @@ public class SubmissionService {
             comment.setParentComment(parentComment);
         }
 
-        submission.getComments().add(comment);
-        submissionRepository.save(submission);
+        submissionCommentRepository.save(comment);
+        submissionRepository.adjustCommentCount(submissionId, comment.getType().name(), 1);
+        submission = findSubmissionById(submissionId);
 
         List<String> role = ContextUtils.get().get(ContextsConstant.USER_ROLE, List.class);
         if (role.size() == 1 && role.get(0).equals("ROLE_PRODUCER")) {
@@ -198,31 +205,28 @@ public class SubmissionService {
 					null, userId);
         }
 
-		List<UserInfoResponse> users = identityClient
-			.getUsersByIds(submission.getComments().stream().map(SubmissionComment::getCreatedBy).distinct().toList())
-			.getBody();
+		List<UserInfoResponse> users = userDirectory
+			.getUsers(submission.getComments().stream().map(SubmissionComment::getCreatedBy).toList());
         return SubmissionResponse.from(submission, users, ContextUtils.getUserId());
     }
 
     @Transactional
     public void deleteComment(String submissionId, String commentId, String userId) {
-        Submission submission = findSubmissionById(submissionId);
+        findSubmissionById(submissionId);
 
-		submission.getComments()
-			.removeIf(comment -> comment.getId().equals(commentId) && comment.getCreatedBy().equals(userId));
-
-        submissionRepository.save(submission);
+		submissionCommentRepository.findByIdAndSubmissionIdAndCreatedBy(commentId, submissionId, userId)
+			.ifPresent(comment -> {
+				submissionCommentRepository.delete(comment);
+				submissionRepository.adjustCommentCount(submissionId, comment.getType().name(), -1);
+			});
     }
 
     @Transactional(readOnly = true)
     public List<SubmissionCommentResponse> listComments(String submissionId) {
         Submission submission = findSubmissionById(submissionId);
 
-        Map<String, UserInfoResponse> usersMap = identityClient
-			.getUsersByIds(submission.getComments().stream().map(SubmissionComment::getCreatedBy).distinct().toList())
-			.getBody()
-			.stream()
-			.collect(Collectors.toMap(UserInfoResponse::getId, user -> user));
+        Map<String, UserInfoResponse> usersMap = userDirectory
+			.getUserMap(submission.getComments().stream().map(SubmissionComment::getCreatedBy).toList());
 
         return submission.getComments().stream()
                 .sorted(Comparator.comparing(SubmissionComment::getCreatedAt))
@@ -230,52 +234,48 @@ public class SubmissionService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    /**
+	 * Record a view of a submission. The view is buffered in memory and written to the
+	 * database by {@link SubmissionViewBuffer}, so the submission is only checked for
+	 * existence here, before any de-duplication state is created for it. Every play
+	 * feeds the view analytics; only a viewer's first play increments the view count.
+	 */
     public void incrementViewCount(String submissionId, String userId, String ipAddress) {
-        Submission submission = findSubmissionById(submissionId);
-
-        if (shouldCountView(submission, userId, ipAddress)) {
-			SubmissionViewRecord viewRecord = SubmissionViewRecord.builder()
-				.submission(submission)
-				.workspaceId(submission.getWorkspaceId())
-				.userId(userId)
-				.ipAddress(ipAddress)
-                    .build();
-
-            viewRecordRepository.save(viewRecord);
-
-            // Atomically increment view count
-            if (submission.getViewCount() == null) {
-                submission.setViewCount(1L);
-            } else {
-                submission.setViewCount(submission.getViewCount() + 1);
-            }
-
-            submissionRepository.save(submission);
-            log.debug("Recorded video view: submissionId={}, newCount={}, user={}, ip={}",
-                    submissionId, submission.getViewCount(), userId, ipAddress);
-        } else {
-            log.debug("Skipped view count: submissionId={}, user={}, ip={} (already viewed)",
-                    submissionId, userId, ipAddress);
+        String workspaceId = ContextUtils.getWorkspaceId();
+        if (!submissionRepository.existsByIdAndWorkspaceId(submissionId, workspaceId)) {
+            throw new ResourceNotFoundException("Submission", "id", submissionId);
         }
+
+        boolean firstView = shouldCountView(submissionId, userId, ipAddress);
+		submissionViewBuffer.record(workspaceId, submissionId, userId, ipAddress, firstView);
+        log.debug("Recorded video view: submissionId={}, user={}, ip={}, firstView={}", submissionId, userId,
+                ipAddress, firstView);
     }
 
     /**
-	 * Determines if a view should be counted. Simple deduplication logic - each user only
-	 * counts once per video
+	 * Determines if a view should be counted: each user, or each IP address for
+	 * anonymous viewers, only counts once per video
 	 */
-    private boolean shouldCountView(Submission submission, String userId, String ipAddress) {
-        // If both are empty, default to count
-        if ((userId == null || userId.isEmpty()) && (ipAddress == null || ipAddress.isEmpty())) {
-            return true;
-        }
+    private boolean shouldCountView(String submissionId, String userId, String ipAddress) {
+        return submissionViewDeduplicator.isFirstView(submissionId, userId, ipAddress);
+    }
 
-        // Check if this user/IP has already viewed this submission
-		boolean hasExistingView = viewRecordRepository.existsBySubmissionIdAndUserIdOrIpAddress(submission.getId(),
-				userId);
+    /**
+	 * Rebuild the viewer de-duplication state of a submission from its stored view
+	 * records.
+	 * @return the number of distinct viewers found
+	 */
+    public int rebuildViewDeduplication(String submissionId) {
+        findSubmissionById(submissionId);
+        return submissionViewDeduplicator.rebuild(submissionId);
+    }
 
-        // Only count if no previous view record exists
-        return !hasExistingView;
+    /**
+	 * Estimated number of distinct viewers of a submission.
+	 */
+    public long countUniqueViewers(String submissionId) {
+        findSubmissionById(submissionId);
+        return submissionViewDeduplicator.countUniqueViewers(submissionId);
     }
 
     private Submission findSubmissionById(String id) {
@@ -291,6 +291,12 @@ public class SubmissionService {
 	 * processes a batch of applications and sends personalized invitation emails to each
 	 * applicant using the specified email template.
 	 *
+	 * Share codes are generated in parallel, bounded by
+	 * {@code app.invitation.share-code-concurrency}. Talents whose share code was
+	 * generated get their user ID set in a single statement, and all their emails are
+	 * queued as one message. Applicants whose share code could not be generated are
+	 * reported as failed and keep their current status.
+	 *
 	 * The email template will be populated with the following placeholders: - ROLE_NAME:
 	 * The name of the role the applicant is applying for - PROJECT_NAME: The name of the
 	 * project - FIRST_NAME: The applicant's first name - SENDER_NAME: The name of the
@@ -298,48 +304,69 @@ public class SubmissionService {
 	 * @param request The invitation email request containing: - emailTemplateType: The
 	 * type of email template to use - applicationIds: List of application IDs to send
 	 * invitations for
+	 * @return The result of the invitation for each requested application
 	 * @throws ResourceNotFoundException if any of the specified applications are not
 	 * found
 	 */
-    public void sendInvitationEmail(InvitationEmailRequest request) {
+	public InvitationEmailResponse sendInvitationEmail(InvitationEmailRequest request) {
 		List<Application> applications = applicationRepository.findAllById(request.getApplicationIds());
 
         if (CollectionUtils.isEmpty(applications)) {
             throw new ResourceNotFoundException("Application", "ids", request.getApplicationIds());
         }
 
-		applications
-			.forEach(application -> application.setStatus(application.getStatus() == ApplicationStatus.SHORTLISTED
-					? ApplicationStatus.RETAPE : ApplicationStatus.REQUESTED));
-        applicationRepository.saveAll(applications);
-
-		UserInfoResponse userInfoResponse = identityClient.getUserById(ContextUtils.getUserId()).getBody();
+		UserInfoResponse userInfoResponse = userDirectory.getUser(ContextUtils.getUserId()).orElse(null);
 
         if (userInfoResponse == null) {
             throw new ResourceNotFoundException("User", "id", ContextUtils.getUserId());
         }
 
-        String baseUrl = slateUri + "/shares/application";
-        List<InnerMailSendMessage.Receipt> list = applications.stream().map(application -> {
-
-			ShareCodeResponse response = identityClient
-				.generateShareCode(ShareCodeRequest.builder()
-					.workspaceId(ContextUtils.getWorkspaceId())
-					.resource("application")
-					.resourceId(application.getId())
-					.guestName(String.join(" ", application.getTalent().getFirstName(),
-							application.getTalent().getLastName()))
-					.guestEmail(application.getTalent().getEmail())
-					.roles(List.of(Role.ROLE_TALENT))
-					.write(true)
-					.expiryHours(shareLinkExpirationTimes)
-					.build())
-				.getBody();
-
-			// Update talent's userId
-			Talent talent = application.getTalent();
-			talent.setUserId(response.getUserId());
-			talentRepository.save(talent);
+		String workspaceId = ContextUtils.getWorkspaceId();
+		List<BoundedParallel.Outcome<ShareCodeResponse>> shareCodes = BoundedParallel.map(applications,
+				shareCodeConcurrency, application -> identityClient
+					.generateShareCode(ShareCodeRequest.builder()
+						.workspaceId(workspaceId)
+						.resource("application")
+						.resourceId(application.getId())
+						.guestName(String.join(" ", application.getTalent().getFirstName(),
+								application.getTalent().getLastName()))
+						.guestEmail(application.getTalent().getEmail())
+						.roles(List.of(Role.ROLE_TALENT))
+						.write(true)
+						.expiryHours(shareLinkExpirationTimes)
+						.build())
+					.getBody());
+
+		Map<String, InvitationEmailResponse.RecipientResult> results = new LinkedHashMap<>();
+		request.getApplicationIds()
+			.forEach(id -> results.put(id,
+					InvitationEmailResponse.RecipientResult.builder()
+						.applicationId(id)
+						.status(InvitationEmailResponse.Status.FAILED)
+						.error("Application not found")
+						.build()));
+
+		String baseUrl = slateUri + "/shares/application";
+		String senderName = userInfoResponse.getFirstName() + " " + userInfoResponse.getLastName();
+		List<Application> invited = new ArrayList<>();
+		List<String[]> talentUserIds = new ArrayList<>();
+		List<InnerMailSendMessage.Receipt> receipts = new ArrayList<>();
+		Map<String, List<String>> applicationIdsByEmail = new HashMap<>();
+		for (int i = 0; i < applications.size(); i++) {
+			Application application = applications.get(i);
+			BoundedParallel.Outcome<ShareCodeResponse> outcome = shareCodes.get(i);
+			InvitationEmailResponse.RecipientResult result = results.computeIfAbsent(application.getId(),
+					id -> InvitationEmailResponse.RecipientResult.builder().applicationId(id).build());
+			result.setEmail(application.getTalent().getEmail());
+
+			ShareCodeResponse response = outcome.getValue();
+			if (!outcome.isSuccess() || response == null) {
+				result.setStatus(InvitationEmailResponse.Status.FAILED);
+				result.setError("Failed to generate share code");
+				continue;
+			}
+
+			talentUserIds.add(new String[] { application.getTalent().getId(), response.getUserId() });
 
 			String shareLink = UrlUtils.appendQueryParam(baseUrl + "/" + application.getId(), "share_code",
 					response.getShareCode());
@@ -349,19 +376,42 @@ public class SubmissionService {
 
 			Map<String, String> placeholders = Map.of("ROLE_NAME", application.getRole().getName(), "PROJECT_NAME",
 					application.getProject().getName(), "FIRST_NAME", application.getTalent().getFirstName(),
-					"SENDER_NAME", userInfoResponse.getFirstName() + " " + userInfoResponse.getLastName(), "SHARE_LINK",
-					shareLink);
-			return InnerMailSendMessage.Receipt.builder()
+					"SENDER_NAME", senderName, "SHARE_LINK", shareLink);
+			receipts.add(InnerMailSendMessage.Receipt.builder()
 				.placeholders(placeholders)
-                    .to(application.getTalent().getEmail()).build();
-        }).toList();
-
-		ProjectRole role = applications.get(0).getRole();
-		role.setStatus(RoleStatus.SUBMITTING);
-
-        sendEmailInnerService.email(InnerMailSendMessage.builder()
-			.emailTemplateType(request.getEmailTemplateType())
-			.receipts(list)
-			.build());
+				.to(application.getTalent().getEmail())
+				.build());
+			applicationIdsByEmail.computeIfAbsent(application.getTalent().getEmail(), email -> new ArrayList<>())
+				.add(application.getId());
+			invited.add(application);
+		}
+
+		if (!invited.isEmpty()) {
+			talentRepository.updateUserIds(talentUserIds.stream().map(pair -> pair[0]).toArray(String[]::new),
+					talentUserIds.stream().map(pair -> pair[1]).toArray(String[]::new), ContextUtils.getUserId());
+
+			invited.forEach(application -> application.setStatus(application.getStatus() == ApplicationStatus.SHORTLISTED
+					? ApplicationStatus.RETAPE : ApplicationStatus.REQUESTED));
+			invited.get(0).getRole().setStatus(RoleStatus.SUBMITTING);
+			applicationRepository.saveAll(invited);
+
+			List<InnerMailSendMessage.Receipt> sent = sendEmailInnerService.email(InnerMailSendMessage.builder()
+				.emailTemplateType(request.getEmailTemplateType())
+				.receipts(receipts)
+				.build());
+			Set<String> sentEmails = sent.stream().map(InnerMailSendMessage.Receipt::getTo).collect(Collectors.toSet());
+			applicationIdsByEmail.forEach((email, applicationIds) -> applicationIds.forEach(id -> {
+				InvitationEmailResponse.RecipientResult result = results.get(id);
+				if (sentEmails.contains(email)) {
+					result.setStatus(InvitationEmailResponse.Status.SENT);
+				}
+				else {
+					result.setStatus(InvitationEmailResponse.Status.RATE_LIMITED);
+					result.setError("Recipient was emailed recently");
+				}
+			}));
+		}
+
+		return InvitationEmailResponse.from(new ArrayList<>(results.values()));
     }
 }
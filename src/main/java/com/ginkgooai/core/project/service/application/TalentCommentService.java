@@ -1,7 +1,7 @@
 package com.ginkgooai.core.project.service.application;
 
 import com.ginkgooai.core.common.exception.ResourceNotFoundException;
-import com.ginkgooai.core.project.client.identity.IdentityClient;
+import com.ginkgooai.core.project.client.identity.UserDirectory;
 import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
 import com.ginkgooai.core.project.domain.talent.Talent;
 import com.ginkgooai.core.project.domain.talent.TalentComment;
@@ -30,7 +30,7 @@ public class TalentCommentService {
     private final TalentRepository talentRepository;
     private final TalentCommentRepository talentCommentRepository;
     private final ActivityLoggerService activityLogger;
-    private final IdentityClient identityClient;
+    private final UserDirectory userDirectory;
 
     /**
      * Add a comment to a talent
@@ -64,9 +64,7 @@ public class TalentCommentService {
         List<String> userIds = comments.stream().map(TalentComment::getCreatedBy).distinct()
             .collect(Collectors.toList());
 
-        Map<String, UserInfoResponse> userInfoMap = identityClient.getUsersByIds(userIds).getBody()
-            .stream().collect(Collectors.toMap(UserInfoResponse::getId, user -> user,
-                (existing, replacement) -> existing));
+        Map<String, UserInfoResponse> userInfoMap = userDirectory.getUserMap(userIds);
 
         return comments.stream()
             .map(c -> TalentCommentResponse.from(c, userInfoMap.get(c.getCreatedBy())))
@@ -95,8 +93,7 @@ public class TalentCommentService {
         List<String> userIds = comments.stream().map(TalentComment::getCreatedBy).distinct()
             .collect(Collectors.toList());
 
-        Map<String, UserInfoResponse> userInfoMap = identityClient.getUsersByIds(userIds).getBody()
-            .stream().collect(Collectors.toMap(UserInfoResponse::getId, user -> user));
+        Map<String, UserInfoResponse> userInfoMap = userDirectory.getUserMap(userIds);
 
         return comments.stream().map(comment -> TalentCommentResponse.from(comment,
             userInfoMap.get(comment.getCreatedBy()))).collect(Collectors.toList());
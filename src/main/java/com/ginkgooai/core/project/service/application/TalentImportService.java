@@ -0,0 +1,92 @@
+package com.ginkgooai.core.project.service.application;
+
+import com.ginkgooai.core.common.exception.ResourceNotFoundException;
+import com.ginkgooai.core.common.utils.ContextUtils;
+import com.ginkgooai.core.project.component.importer.TalentImportFormat;
+import com.ginkgooai.core.project.component.importer.TalentImportJob;
+import com.ginkgooai.core.project.component.importer.TalentImportProgress;
+import com.ginkgooai.core.project.component.importer.TalentImportStatus;
+import com.ginkgooai.core.project.dto.response.TalentImportResponse;
+import com.ginkgooai.core.project.repository.ProjectRoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TalentImportService {
+
+	private final ProjectRoleRepository projectRoleRepository;
+
+	private final TalentImportProgress progress;
+
+	private final TalentImportJob importJob;
+
+	/**
+	 * Queue the import of a CSV or NDJSON file of talents into the current workspace.
+	 * The upload is spooled to a temporary file and imported in the background; poll
+	 * {@link #getImport(String)} for its progress.
+	 * @param roleId role to add the imported talents to, or null
+	 */
+	public TalentImportResponse startImport(MultipartFile file, String roleId) {
+		String workspaceId = ContextUtils.getWorkspaceId();
+		TalentImportFormat format = TalentImportFormat.detect(file.getOriginalFilename(), file.getContentType());
+		if (roleId != null && projectRoleRepository.findById(roleId)
+			.filter(role -> workspaceId.equals(role.getWorkspaceId()))
+			.isEmpty()) {
+			throw new ResourceNotFoundException("ProjectRole", "id", roleId);
+		}
+
+		String importId = UUID.randomUUID().toString();
+		Path spooled;
+		try {
+			spooled = Files.createTempFile("talent-import-", "." + format.name().toLowerCase(Locale.ROOT));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Could not spool talent import " + importId, e);
+		}
+
+		try {
+			file.transferTo(spooled);
+			progress.queued(importId, workspaceId);
+			importJob.run(importId, spooled, format, workspaceId, ContextUtils.getUserId(), roleId);
+		}
+		catch (IOException e) {
+			deleteSpooled(importId, spooled);
+			throw new UncheckedIOException("Could not spool talent import " + importId, e);
+		}
+		catch (RuntimeException e) {
+			// The job deletes the file once it has run, but it was never handed over
+			deleteSpooled(importId, spooled);
+			throw e;
+		}
+		return TalentImportResponse.builder().id(importId).status(TalentImportStatus.QUEUED).build();
+	}
+
+	public TalentImportResponse getImport(String importId) {
+		TalentImportResponse response = progress.find(importId, ContextUtils.getWorkspaceId());
+		if (response == null) {
+			throw new ResourceNotFoundException("TalentImport", "id", importId);
+		}
+		return response;
+	}
+
+	private static void deleteSpooled(String importId, Path spooled) {
+		try {
+			Files.deleteIfExists(spooled);
+		}
+		catch (IOException e) {
+			log.warn("Could not delete upload {} of talent import {}", spooled, importId, e);
+		}
+	}
+
+}
@@ -4,9 +4,12 @@ import com.ginkgooai.core.common.enums.ActivityType;
 import com.ginkgooai.core.common.exception.ResourceNotFoundException;
 import com.ginkgooai.core.common.utils.ContextUtils;
 import com.ginkgooai.core.project.client.identity.IdentityClient;
+import com.ginkgooai.core.project.client.identity.UserDirectory;
 import com.ginkgooai.core.project.client.identity.dto.PatchUserRequest;
+import com.ginkgooai.core.project.component.typeahead.TalentTypeahead;
 import com.ginkgooai.core.project.domain.application.Application;
 import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.domain.event.TalentChangedEvent;
 import com.ginkgooai.core.project.domain.talent.ImdbMovieItem;
 import com.ginkgooai.core.project.domain.talent.Talent;
 import com.ginkgooai.core.project.domain.talent.TalentProfileMeta;
@@ -17,16 +20,22 @@ import com.ginkgooai.core.project.dto.request.TalentRequest;
 import com.ginkgooai.core.project.dto.request.TalentSearchRequest;
 import com.ginkgooai.core.project.dto.response.*;
 import com.ginkgooai.core.project.repository.ApplicationRepository;
-import com.ginkgooai.core.project.repository.ImdbMovieItemRepository;
 import com.ginkgooai.core.project.repository.SubmissionRepository;
 import com.ginkgooai.core.project.repository.TalentRepository;
+import com.ginkgooai.core.project.repository.support.CachedMultiLoad;
+import com.ginkgooai.core.project.repository.support.LikePatterns;
+import com.ginkgooai.core.project.repository.support.ScrollCursorCodec;
 import com.ginkgooai.core.project.service.ActivityLoggerService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
@@ -44,12 +53,21 @@ public class TalentService {
     private final TalentRepository talentRepository;
     private final ApplicationRepository applicationRepository;
     private final SubmissionRepository submissionRepository;
-    private final ImdbMovieItemRepository movieItemRepository;
     private final TalentProfileScraperService profileScraperService;
     private final ActivityLoggerService activityLogger;
 
 	private final IdentityClient identityClient;
 
+	private final UserDirectory userDirectory;
+
+	private final ScrollCursorCodec scrollCursorCodec;
+
+	private final CachedMultiLoad cachedMultiLoad;
+
+	private final TalentTypeahead talentTypeahead;
+
+	private final ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public Talent createTalentFromProfiles(TalentRequest request) {
         // Scrape profiles if URLs are provided
@@ -70,6 +88,7 @@ public class TalentService {
 		// spotlightProfile.getData());
         Talent talent = Talent.from(request);
         Talent saved = talentRepository.save(talent);
+		eventPublisher.publishEvent(new TalentChangedEvent(this, saved.getWorkspaceId(), saved.getId()));
 
         // Log activity
 		activityLogger.log(saved.getWorkspaceId(), null, saved.getId(), ActivityType.TALENT_IMPORTED,
@@ -92,6 +111,7 @@ public class TalentService {
 						.firstName(request.getFirstName())
 						.lastName(request.getLastName())
 						.build());
+			userDirectory.evict(talent.getUserId());
 		}
 
 		if (!ObjectUtils.isEmpty(request.getFirstName())) {
@@ -135,7 +155,9 @@ public class TalentService {
 		// spotlightProfile.getData());
 		// talent.setProfileMetaId(Optional.ofNullable(imdbProfile.getId()).orElse(null));
 
-        return talentRepository.save(talent);
+        Talent saved = talentRepository.save(talent);
+		eventPublisher.publishEvent(new TalentChangedEvent(this, saved.getWorkspaceId(), saved.getId()));
+		return saved;
     }
 
 	private void updateTalentFromProfiles(Talent talent, TalentProfileData imdbProfile,
@@ -204,21 +226,39 @@ public class TalentService {
     }
 
 	public Page<TalentResponse> searchTalents(String workspaceId, TalentSearchRequest request, Pageable pageable) {
-        return talentRepository.findAll((root, query, criteriaBuilder) -> {
+		return talentRepository.findAll(searchSpecification(workspaceId, request), pageable).map(TalentResponse::from);
+	}
+
+	/**
+	 * Cursor-based alternative to {@link #searchTalents}: returns the talents following
+	 * the position encoded in {@code cursor}, without counting the total.
+	 * @param cursor token from the previous window, or null for the first window
+	 * @return the window of talents and the token for the next one
+	 */
+	@Transactional(readOnly = true)
+	public CursorPageResponse<TalentResponse> scrollTalents(String workspaceId, TalentSearchRequest request, Sort sort,
+			int size, String cursor) {
+		Window<Talent> window = scrollCursorCodec.scroll(talentRepository, Talent.class,
+				searchSpecification(workspaceId, request), sort, size, cursor);
+		return CursorPageResponse.of(window.getContent().stream().map(TalentResponse::from).toList(),
+				scrollCursorCodec.encode(window));
+	}
+
+	private Specification<Talent> searchSpecification(String workspaceId, TalentSearchRequest request) {
+		return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(criteriaBuilder.equal(root.get("workspaceId"), workspaceId));
 
             if (StringUtils.hasText(request.getKeyword())) {
-                String keyword = "%" + request.getKeyword().toLowerCase() + "%";
+                String keyword = LikePatterns.contains(request.getKeyword());
                 predicates.add(criteriaBuilder.or(
-						criteriaBuilder.like(criteriaBuilder.lower(root.get("firstName")), keyword),
-						criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), keyword),
+						criteriaBuilder.like(root.get("searchName"), keyword),
 						criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), keyword)));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        }, pageable).map(TalentResponse::from);
-    }
+		};
+	}
 
     public List<ImdbMovieItem> getKnownForMovies(String talentId) {
         Talent talent = talentRepository.findById(talentId)
@@ -228,15 +268,27 @@ public class TalentService {
             return Collections.emptyList();
         }
 
-        return movieItemRepository.findAllById(Arrays.asList(talent.getKnownForMovieIds()));
+        return cachedMultiLoad.findAllById(ImdbMovieItem.class, Arrays.asList(talent.getKnownForMovieIds()));
     }
 
     public List<TalentBasicResponse> findAllTalentsBasicInfo() {
-        return talentRepository.findByWorkspaceId(ContextUtils.getWorkspaceId()).stream()
+        return talentRepository.findBasicRowsByWorkspaceId(ContextUtils.getWorkspaceId()).stream()
 			.map(TalentBasicResponse::from)
 			.collect(Collectors.toList());
     }
 
+	/**
+	 * Suggest talents of a workspace for an autocomplete box, from the in-memory
+	 * typeahead index.
+	 * @param workspaceId The workspace ID
+	 * @param query What the user typed so far
+	 * @param limit Maximum number of suggestions
+	 * @return Matching talents, best first
+	 */
+	public List<TalentBasicResponse> suggestTalents(String workspaceId, String query, int limit) {
+		return talentTypeahead.suggest(workspaceId, query, limit);
+	}
+
 
     /**
      * Get all talents with their application status for a specific role
@@ -252,7 +304,7 @@ public class TalentService {
         List<Talent> talents;
         if (StringUtils.hasText(name)) {
             // Use fuzzy matching for name
-            talents = talentRepository.findByWorkspaceIdAndNameMatching(workspaceId, name);
+            talents = talentRepository.findByWorkspaceIdAndNameMatching(workspaceId, LikePatterns.contains(name));
         } else {
             talents = talentRepository.findByWorkspaceId(workspaceId);
         }
@@ -0,0 +1,122 @@
+package com.ginkgooai.core.project.service.application;
+
+import com.ginkgooai.core.project.config.properties.SubmissionViewProperties;
+import com.ginkgooai.core.project.domain.application.ViewRollupGranularity;
+import com.ginkgooai.core.project.dto.response.TopSubmissionViewResponse;
+import com.ginkgooai.core.project.dto.response.ViewBucketResponse;
+import com.ginkgooai.core.project.dto.response.ViewTimeSeriesResponse;
+import com.ginkgooai.core.project.exception.InvalidRequestException;
+import com.ginkgooai.core.project.repository.SubmissionViewRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Answers view analytics questions from the hourly and daily view rollups, and expires
+ * hourly rollups that are past their retention. Raw view records expire with their
+ * monthly partition, see {@code SubmissionViewPartitionMaintainer}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewAnalyticsService {
+
+    private static final int PURGE_BATCH_SIZE = 5000;
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private static final int MAX_TOP_SUBMISSIONS = 100;
+
+    private final SubmissionViewRollupRepository viewRollupRepository;
+
+    private final SubmissionViewProperties properties;
+
+    /**
+     * Views per hour or per day of a workspace, optionally narrowed to a project or a
+     * submission.
+     *
+     * @param start Inclusive start, truncated to the bucket size; defaults to 30 days before the end
+     * @param end   Exclusive end; defaults to now
+     * @throws InvalidRequestException if the range is empty
+     */
+    @Transactional(readOnly = true)
+    public ViewTimeSeriesResponse getViewTimeSeries(String workspaceId, String projectId, String submissionId,
+                                                    ViewRollupGranularity granularity, LocalDateTime start,
+                                                    LocalDateTime end) {
+        LocalDateTime rangeEnd = end != null ? end : LocalDateTime.now();
+        LocalDateTime rangeStart = truncate(start != null ? start : rangeEnd.minusDays(DEFAULT_RANGE_DAYS), granularity);
+        if (!rangeStart.isBefore(rangeEnd)) {
+            throw new InvalidRequestException("start must be before end");
+        }
+
+        List<ViewBucketResponse> buckets = viewRollupRepository
+            .findBuckets(workspaceId, granularity, rangeStart, rangeEnd, projectId, submissionId)
+            .stream()
+            .map(ViewBucketResponse::from)
+            .toList();
+
+        return ViewTimeSeriesResponse.builder()
+            .granularity(granularity)
+            .start(rangeStart)
+            .end(rangeEnd)
+            .totalViews(buckets.stream().mapToLong(ViewBucketResponse::getViews).sum())
+            .totalUniqueViews(buckets.stream().mapToLong(ViewBucketResponse::getUniqueViews).sum())
+            .buckets(buckets)
+            .build();
+    }
+
+    /**
+     * The most viewed submissions of a workspace, optionally within a project, counted
+     * over whole days.
+     */
+    @Transactional(readOnly = true)
+    public List<TopSubmissionViewResponse> getTopSubmissions(String workspaceId, String projectId,
+                                                             LocalDateTime start, LocalDateTime end, int limit) {
+        LocalDateTime rangeEnd = end != null ? end : LocalDateTime.now();
+        LocalDateTime rangeStart = truncate(start != null ? start : rangeEnd.minusDays(DEFAULT_RANGE_DAYS),
+            ViewRollupGranularity.DAY);
+
+        return viewRollupRepository
+            .findTopSubmissions(workspaceId, rangeStart, rangeEnd, projectId,
+                PageRequest.of(0, Math.clamp(limit, 1, MAX_TOP_SUBMISSIONS)))
+            .stream()
+            .map(TopSubmissionViewResponse::from)
+            .toList();
+    }
+
+    /**
+     * Delete hourly rollups older than their retention, in small batches. A retention
+     * of zero or less keeps them forever. Daily rollups are kept.
+     */
+    @Scheduled(cron = "${app.submission-view.retention-cron:0 30 3 * * *}")
+    public void purgeExpiredViewData() {
+        if (properties.getHourlyRetentionDays() > 0) {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getHourlyRetentionDays());
+            int deleted = deleteInBatches(() -> viewRollupRepository
+                .deleteOlderThan(ViewRollupGranularity.HOUR.name(), cutoff, PURGE_BATCH_SIZE));
+            log.info("Purged {} hourly view rollups older than {}", deleted, cutoff);
+        }
+    }
+
+    private static int deleteInBatches(IntSupplier deleteBatch) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = deleteBatch.getAsInt();
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        return total;
+    }
+
+    private static LocalDateTime truncate(LocalDateTime time, ViewRollupGranularity granularity) {
+        return time.truncatedTo(granularity == ViewRollupGranularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+    }
+}
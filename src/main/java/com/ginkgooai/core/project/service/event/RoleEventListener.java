@@ -1,6 +1,8 @@
 package com.ginkgooai.core.project.service.event;
 
 import com.ginkgooai.core.common.enums.ActivityType;
+import com.ginkgooai.core.project.client.storage.SideFileCache;
+import com.ginkgooai.core.project.domain.event.RoleSidesChangedEvent;
 import com.ginkgooai.core.project.domain.event.RoleStatusChangedEvent;
 import com.ginkgooai.core.project.service.ActivityLoggerService;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.Map;
 
 @Slf4j
@@ -17,6 +20,8 @@ public class RoleEventListener {
 
 	private final ActivityLoggerService activityLogger;
 
+	private final SideFileCache sideFileCache;
+
 	@EventListener
 	public void handleRoleStatusChangedEvent(RoleStatusChangedEvent event) {
 		log.debug("Role status changed: {} -> {}, roleId: {}", event.getOldStatus(), event.getNewStatus(),
@@ -28,4 +33,16 @@ public class RoleEventListener {
 				event.getUserId());
 	}
 
-}
\ No newline at end of file
+	@EventListener
+	public void handleRoleSidesChangedEvent(RoleSidesChangedEvent event) {
+		log.debug("Role sides changed, roleId: {}", event.getRole().getId());
+
+		if (event.getOldSides() != null) {
+			sideFileCache.invalidate(Arrays.asList(event.getOldSides()));
+		}
+		if (event.getNewSides() != null) {
+			sideFileCache.warm(Arrays.asList(event.getNewSides()));
+		}
+	}
+
+}
@@ -2,6 +2,7 @@ package com.ginkgooai.core.project.specification;
 
 import com.ginkgooai.core.project.domain.project.Project;
 import com.ginkgooai.core.project.domain.project.ProjectStatus;
+import com.ginkgooai.core.project.repository.support.LikePatterns;
 import org.springframework.data.jpa.domain.Specification;
 
 public class ProjectSpecification {
@@ -20,8 +21,7 @@ public class ProjectSpecification {
             if (name == null || name.trim().isEmpty()) {
                 return null; // No filtering if name is null or empty
             }
-            return criteriaBuilder.like(criteriaBuilder.lower(root.get("name")),
-                    "%" + name.toLowerCase() + "%");
+            return criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), LikePatterns.contains(name));
         };
     }
 
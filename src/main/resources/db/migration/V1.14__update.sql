@@ -0,0 +1,14 @@
+ALTER TABLE project.submission
+    ADD COLUMN IF NOT EXISTS public_comment_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS internal_comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE project.submission s
+SET public_comment_count   = c.public_count,
+    internal_comment_count = c.internal_count
+FROM (SELECT submission_id,
+             COUNT(*) FILTER (WHERE type = 'PUBLIC')   AS public_count,
+             COUNT(*) FILTER (WHERE type = 'INTERNAL') AS internal_count
+      FROM project.submission_comment
+      WHERE deleted IS NOT TRUE
+      GROUP BY submission_id) c
+WHERE s.id = c.submission_id;
@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS project.submission_view_rollup
+(
+    granularity   VARCHAR(8)   NOT NULL CHECK (granularity IN ('HOUR', 'DAY')),
+    bucket_start  TIMESTAMP(6) NOT NULL,
+    submission_id VARCHAR(36)  NOT NULL,
+    workspace_id  VARCHAR(36)  NOT NULL,
+    project_id    VARCHAR(36),
+    views         BIGINT       NOT NULL DEFAULT 0,
+    unique_views  BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, bucket_start, submission_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_submission_view_rollup_workspace
+    ON project.submission_view_rollup (workspace_id, granularity, bucket_start);
+CREATE INDEX IF NOT EXISTS idx_submission_view_rollup_project
+    ON project.submission_view_rollup (project_id, granularity, bucket_start);
+CREATE INDEX IF NOT EXISTS idx_submission_view_rollup_submission
+    ON project.submission_view_rollup (submission_id, granularity, bucket_start);
+
+CREATE INDEX IF NOT EXISTS idx_submission_view_record_viewed_at
+    ON project.submission_view_record (viewed_at);
+
+-- Seed the rollups from the raw records collected so far
+INSERT INTO project.submission_view_rollup (granularity, bucket_start, submission_id, workspace_id, project_id, views,
+                                            unique_views)
+SELECT g.granularity, date_trunc(g.unit, r.viewed_at), r.submission_id, s.workspace_id, a.project_id, COUNT(*), COUNT(*)
+FROM project.submission_view_record r
+         JOIN project.submission s ON s.id = r.submission_id
+         LEFT JOIN project.application a ON a.id = s.application_id
+         CROSS JOIN (VALUES ('HOUR', 'hour'), ('DAY', 'day')) AS g(granularity, unit)
+GROUP BY g.granularity, date_trunc(g.unit, r.viewed_at), r.submission_id, s.workspace_id, a.project_id
+ON CONFLICT DO NOTHING;
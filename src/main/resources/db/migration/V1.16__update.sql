@@ -0,0 +1,102 @@
+-- Partition submission_view_record by month of viewed_at. Expired months are detached
+-- and dropped whole instead of deleted row by row, and each month keeps its own small
+-- indexes so inserts and lookups do not slow down as history grows.
+ALTER TABLE project.submission_view_record RENAME TO submission_view_record_unpartitioned;
+
+CREATE TABLE project.submission_view_record
+(
+    id            VARCHAR(36)  NOT NULL,
+    workspace_id  VARCHAR(36)  NOT NULL,
+    submission_id VARCHAR(36)  NOT NULL,
+    user_id       VARCHAR(36),
+    ip_address    VARCHAR(45),
+    user_agent    TEXT,
+    viewed_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by    VARCHAR(255),
+    updated_at    TIMESTAMP,
+    updated_by    VARCHAR(255),
+    CONSTRAINT pk_submission_view_record PRIMARY KEY (id, viewed_at),
+    CONSTRAINT fk_submission_view_record_submission FOREIGN KEY (submission_id)
+        REFERENCES project.submission (id) ON DELETE CASCADE
+) PARTITION BY RANGE (viewed_at);
+
+-- Catches views outside every monthly partition, so inserts never fail if the
+-- maintenance job falls behind. It is expected to stay empty.
+CREATE TABLE project.submission_view_record_default PARTITION OF project.submission_view_record DEFAULT;
+
+-- Create the partition of the month containing p_month, if missing
+CREATE OR REPLACE FUNCTION project.create_submission_view_record_partition(p_month DATE)
+    RETURNS BOOLEAN
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_name  TEXT := 'submission_view_record_p' || to_char(v_start, 'YYYYMM');
+BEGIN
+    IF to_regclass('project.' || v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE project.%I PARTITION OF project.submission_view_record FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_start, (v_start + INTERVAL '1 month')::DATE);
+    RETURN TRUE;
+END;
+$$;
+
+-- Detach, and optionally drop, the monthly partitions that end on or before p_before
+CREATE OR REPLACE FUNCTION project.detach_submission_view_record_partitions(p_before DATE, p_drop BOOLEAN)
+    RETURNS SETOF TEXT
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_name TEXT;
+BEGIN
+    FOR v_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'project.submission_view_record'::REGCLASS
+          AND c.relname ~ '^submission_view_record_p[0-9]{6}$'
+          AND to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month' <= p_before
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE project.submission_view_record DETACH PARTITION project.%I', v_name);
+            IF p_drop THEN
+                EXECUTE format('DROP TABLE project.%I', v_name);
+            END IF;
+            RETURN NEXT v_name;
+        END LOOP;
+END;
+$$;
+
+-- Partitions for every month with recorded views, up to three months ahead
+DO
+$$
+DECLARE
+    v_month DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(viewed_at), CURRENT_TIMESTAMP))::DATE
+    INTO v_month
+    FROM project.submission_view_record_unpartitioned;
+
+    WHILE v_month <= date_trunc('month', CURRENT_TIMESTAMP + INTERVAL '3 months')::DATE
+        LOOP
+            PERFORM project.create_submission_view_record_partition(v_month);
+            v_month := (v_month + INTERVAL '1 month')::DATE;
+        END LOOP;
+END;
+$$;
+
+INSERT INTO project.submission_view_record (id, workspace_id, submission_id, user_id, ip_address, user_agent,
+                                            viewed_at, created_at, created_by, updated_at, updated_by)
+SELECT id, workspace_id, submission_id, user_id, ip_address, user_agent, viewed_at, created_at, created_by,
+       updated_at, updated_by
+FROM project.submission_view_record_unpartitioned;
+
+DROP TABLE project.submission_view_record_unpartitioned;
+
+-- Created on the parent, so every current and future partition gets its own copy
+CREATE INDEX IF NOT EXISTS idx_submission_view_record_submission_viewer
+    ON project.submission_view_record (submission_id, user_id, ip_address);
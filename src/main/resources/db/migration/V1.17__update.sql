@@ -0,0 +1,18 @@
+-- Trigram indexes for the keyword filters, which match '%keyword%' against lower(column)
+CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA public;
+
+-- Lower-cased "first last" name, so a name search is a single indexed expression
+ALTER TABLE project.talent
+    ADD COLUMN IF NOT EXISTS search_name TEXT
+        GENERATED ALWAYS AS (lower(COALESCE(first_name, '') || ' ' || COALESCE(last_name, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_talent_search_name_trgm
+    ON project.talent USING gin (search_name public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_talent_email_trgm
+    ON project.talent USING gin (lower(email) public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_project_role_name_trgm
+    ON project.project_role USING gin (lower(name) public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_project_name_trgm
+    ON project.project USING gin (lower(name) public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_submission_video_name_trgm
+    ON project.submission USING gin (lower(video_name) public.gin_trgm_ops);
@@ -0,0 +1,97 @@
+-- Per-role application counts, maintained by triggers on project.application so the
+-- role statistics endpoints no longer aggregate the application table. There is no
+-- foreign key to project_role, like project.application.role_id itself
+CREATE TABLE IF NOT EXISTS project.role_application_stats
+(
+    role_id     VARCHAR(36) PRIMARY KEY,
+    total       BIGINT NOT NULL DEFAULT 0,
+    added       BIGINT NOT NULL DEFAULT 0,
+    submitted   BIGINT NOT NULL DEFAULT 0,
+    shortlisted BIGINT NOT NULL DEFAULT 0,
+    declined    BIGINT NOT NULL DEFAULT 0
+);
+
+-- Add (p_sign = 1) or remove (p_sign = -1) one application of a role in a status
+CREATE OR REPLACE FUNCTION project.apply_role_application_stats(p_role_id VARCHAR, p_status VARCHAR, p_sign INTEGER)
+    RETURNS VOID
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF p_role_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO project.role_application_stats AS s (role_id, total, added, submitted, shortlisted, declined)
+    VALUES (p_role_id,
+            p_sign,
+            CASE WHEN p_status = 'ADDED' THEN p_sign ELSE 0 END,
+            CASE WHEN p_status = 'SUBMITTED' THEN p_sign ELSE 0 END,
+            CASE WHEN p_status = 'SHORTLISTED' THEN p_sign ELSE 0 END,
+            CASE WHEN p_status = 'DECLINED' THEN p_sign ELSE 0 END)
+    ON CONFLICT (role_id) DO UPDATE
+        SET total       = s.total + EXCLUDED.total,
+            added       = s.added + EXCLUDED.added,
+            submitted   = s.submitted + EXCLUDED.submitted,
+            shortlisted = s.shortlisted + EXCLUDED.shortlisted,
+            declined    = s.declined + EXCLUDED.declined;
+END;
+$$;
+
+-- Soft deleted applications are not counted, so setting the deleted flag removes the
+-- application from its role just like deleting the row
+CREATE OR REPLACE FUNCTION project.track_role_application_stats()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.deleted IS NOT TRUE THEN
+        PERFORM project.apply_role_application_stats(OLD.role_id, OLD.status, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.deleted IS NOT TRUE THEN
+        PERFORM project.apply_role_application_stats(NEW.role_id, NEW.status, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_application_role_stats_insert_delete ON project.application;
+CREATE TRIGGER trg_application_role_stats_insert_delete
+    AFTER INSERT OR DELETE
+    ON project.application
+    FOR EACH ROW
+EXECUTE FUNCTION project.track_role_application_stats();
+
+-- Hibernate writes every column on update, so only fire when a counted column changed
+DROP TRIGGER IF EXISTS trg_application_role_stats_update ON project.application;
+CREATE TRIGGER trg_application_role_stats_update
+    AFTER UPDATE OF role_id, status, deleted
+    ON project.application
+    FOR EACH ROW
+    WHEN (OLD.role_id IS DISTINCT FROM NEW.role_id
+        OR OLD.status IS DISTINCT FROM NEW.status
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+EXECUTE FUNCTION project.track_role_application_stats();
+
+-- Backfill from the existing applications; runs in the migration's transaction, so no
+-- application written concurrently is counted twice or missed
+LOCK TABLE project.application IN SHARE MODE;
+
+INSERT INTO project.role_application_stats (role_id, total, added, submitted, shortlisted, declined)
+SELECT a.role_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE a.status = 'ADDED'),
+       COUNT(*) FILTER (WHERE a.status = 'SUBMITTED'),
+       COUNT(*) FILTER (WHERE a.status = 'SHORTLISTED'),
+       COUNT(*) FILTER (WHERE a.status = 'DECLINED')
+FROM project.application a
+WHERE a.deleted IS NOT TRUE
+  AND a.role_id IS NOT NULL
+GROUP BY a.role_id
+ON CONFLICT (role_id) DO UPDATE
+    SET total       = EXCLUDED.total,
+        added       = EXCLUDED.added,
+        submitted   = EXCLUDED.submitted,
+        shortlisted = EXCLUDED.shortlisted,
+        declined    = EXCLUDED.declined;
@@ -0,0 +1,109 @@
+-- Role and pending review counts of a project, kept on the project row by triggers so
+-- the project list no longer runs a correlated count per project
+ALTER TABLE project.project
+    ADD COLUMN IF NOT EXISTS role_count           BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS pending_review_count BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION project.adjust_project_counts(p_project_id VARCHAR, p_roles INTEGER, p_pending INTEGER)
+    RETURNS VOID
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF p_project_id IS NULL OR (p_roles = 0 AND p_pending = 0) THEN
+        RETURN;
+    END IF;
+
+    UPDATE project.project
+    SET role_count           = role_count + p_roles,
+        pending_review_count = pending_review_count + p_pending
+    WHERE id = p_project_id;
+END;
+$$;
+
+-- Live roles of a project; soft deleted roles are not counted
+CREATE OR REPLACE FUNCTION project.track_project_role_count()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.deleted IS NOT TRUE THEN
+        PERFORM project.adjust_project_counts(OLD.project_id, -1, 0);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.deleted IS NOT TRUE THEN
+        PERFORM project.adjust_project_counts(NEW.project_id, 1, 0);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- Live SUBMITTED applications of a project
+CREATE OR REPLACE FUNCTION project.track_project_pending_review_count()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.deleted IS NOT TRUE AND OLD.status = 'SUBMITTED' THEN
+        PERFORM project.adjust_project_counts(OLD.project_id, 0, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.deleted IS NOT TRUE AND NEW.status = 'SUBMITTED' THEN
+        PERFORM project.adjust_project_counts(NEW.project_id, 0, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_project_role_project_counts_insert_delete ON project.project_role;
+CREATE TRIGGER trg_project_role_project_counts_insert_delete
+    AFTER INSERT OR DELETE
+    ON project.project_role
+    FOR EACH ROW
+EXECUTE FUNCTION project.track_project_role_count();
+
+DROP TRIGGER IF EXISTS trg_project_role_project_counts_update ON project.project_role;
+CREATE TRIGGER trg_project_role_project_counts_update
+    AFTER UPDATE OF project_id, deleted
+    ON project.project_role
+    FOR EACH ROW
+    WHEN (OLD.project_id IS DISTINCT FROM NEW.project_id
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+EXECUTE FUNCTION project.track_project_role_count();
+
+DROP TRIGGER IF EXISTS trg_application_project_counts_insert_delete ON project.application;
+CREATE TRIGGER trg_application_project_counts_insert_delete
+    AFTER INSERT OR DELETE
+    ON project.application
+    FOR EACH ROW
+EXECUTE FUNCTION project.track_project_pending_review_count();
+
+DROP TRIGGER IF EXISTS trg_application_project_counts_update ON project.application;
+CREATE TRIGGER trg_application_project_counts_update
+    AFTER UPDATE OF project_id, status, deleted
+    ON project.application
+    FOR EACH ROW
+    WHEN (OLD.project_id IS DISTINCT FROM NEW.project_id
+        OR OLD.status IS DISTINCT FROM NEW.status
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+EXECUTE FUNCTION project.track_project_pending_review_count();
+
+-- Backfill under locks, so no role or application written meanwhile is missed
+LOCK TABLE project.project_role, project.application IN SHARE MODE;
+
+UPDATE project.project p
+SET role_count           = COALESCE((SELECT COUNT(*)
+                                     FROM project.project_role r
+                                     WHERE r.project_id = p.id
+                                       AND r.deleted IS NOT TRUE), 0),
+    pending_review_count = COALESCE((SELECT COUNT(*)
+                                     FROM project.application a
+                                     WHERE a.project_id = p.id
+                                       AND a.status = 'SUBMITTED'
+                                       AND a.deleted IS NOT TRUE), 0);
+
+-- The project list filters by workspace and optionally status, sorted by updated_at
+CREATE INDEX IF NOT EXISTS idx_project_workspace_status_updated_at
+    ON project.project (workspace_id, status, updated_at);
+CREATE INDEX IF NOT EXISTS idx_project_workspace_updated_at
+    ON project.project (workspace_id, updated_at);
@@ -0,0 +1,3 @@
+-- Talent import matches rows to existing talents by case-insensitive email per workspace
+CREATE INDEX IF NOT EXISTS idx_talent_workspace_email_lower
+    ON project.talent (workspace_id, lower(email));
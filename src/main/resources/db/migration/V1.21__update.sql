@@ -0,0 +1,126 @@
+-- Hibernate filters soft deleted rows with "deleted = false", so indexes with the same
+-- predicate skip tombstones and stay the size of the live data
+CREATE INDEX IF NOT EXISTS idx_project_live_workspace_status_updated_at
+    ON project.project (workspace_id, status, updated_at) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_project_live_workspace_updated_at
+    ON project.project (workspace_id, updated_at) WHERE deleted = FALSE;
+DROP INDEX IF EXISTS project.idx_project_workspace_status_updated_at;
+DROP INDEX IF EXISTS project.idx_project_workspace_updated_at;
+
+CREATE INDEX IF NOT EXISTS idx_project_role_live_project_status
+    ON project.project_role (project_id, status) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_project_role_live_workspace_status
+    ON project.project_role (workspace_id, status) WHERE deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_application_live_role_status
+    ON project.application (role_id, status) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_application_live_project_status
+    ON project.application (project_id, status) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_application_live_workspace_status
+    ON project.application (workspace_id, status) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_application_live_talent_id
+    ON project.application (talent_id) WHERE deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_submission_live_application_id
+    ON project.submission (application_id) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_submission_live_workspace_id
+    ON project.submission (workspace_id) WHERE deleted = FALSE;
+
+-- deleted_at is also stamped on every change by the auditing listener, and Hibernate's
+-- soft delete bypasses the listener; record when the row was actually deleted
+CREATE OR REPLACE FUNCTION project.stamp_deleted_at()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF NEW.deleted AND OLD.deleted IS NOT TRUE THEN
+        NEW.deleted_at := now() AT TIME ZONE 'UTC';
+    END IF;
+    RETURN NEW;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_project_stamp_deleted_at ON project.project;
+CREATE TRIGGER trg_project_stamp_deleted_at
+    BEFORE UPDATE OF deleted
+    ON project.project
+    FOR EACH ROW
+EXECUTE FUNCTION project.stamp_deleted_at();
+
+DROP TRIGGER IF EXISTS trg_project_role_stamp_deleted_at ON project.project_role;
+CREATE TRIGGER trg_project_role_stamp_deleted_at
+    BEFORE UPDATE OF deleted
+    ON project.project_role
+    FOR EACH ROW
+EXECUTE FUNCTION project.stamp_deleted_at();
+
+DROP TRIGGER IF EXISTS trg_application_stamp_deleted_at ON project.application;
+CREATE TRIGGER trg_application_stamp_deleted_at
+    BEFORE UPDATE OF deleted
+    ON project.application
+    FOR EACH ROW
+EXECUTE FUNCTION project.stamp_deleted_at();
+
+DROP TRIGGER IF EXISTS trg_submission_stamp_deleted_at ON project.submission;
+CREATE TRIGGER trg_submission_stamp_deleted_at
+    BEFORE UPDATE OF deleted
+    ON project.submission
+    FOR EACH ROW
+EXECUTE FUNCTION project.stamp_deleted_at();
+
+-- The purge job finds expired tombstones by deletion time
+CREATE INDEX IF NOT EXISTS idx_project_deleted_at
+    ON project.project (deleted_at) WHERE deleted = TRUE;
+CREATE INDEX IF NOT EXISTS idx_project_role_deleted_at
+    ON project.project_role (deleted_at) WHERE deleted = TRUE;
+CREATE INDEX IF NOT EXISTS idx_application_deleted_at
+    ON project.application (deleted_at) WHERE deleted = TRUE;
+CREATE INDEX IF NOT EXISTS idx_submission_deleted_at
+    ON project.submission (deleted_at) WHERE deleted = TRUE;
+-- ...and keeps applications that a shortlist item still refers to
+CREATE INDEX IF NOT EXISTS idx_shortlist_item_application_id
+    ON project.shortlist_item (application_id);
+
+-- Purged rows are kept whole as JSON, so the archives need no change when the live
+-- tables gain columns
+CREATE TABLE IF NOT EXISTS project.project_archive
+(
+    id           VARCHAR(36) PRIMARY KEY,
+    workspace_id VARCHAR(36),
+    deleted_at   TIMESTAMP,
+    archived_at  TIMESTAMP NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    data         JSONB     NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS project.project_role_archive
+(
+    id           VARCHAR(36) PRIMARY KEY,
+    workspace_id VARCHAR(36),
+    deleted_at   TIMESTAMP,
+    archived_at  TIMESTAMP NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    data         JSONB     NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS project.application_archive
+(
+    id           VARCHAR(36) PRIMARY KEY,
+    workspace_id VARCHAR(36),
+    deleted_at   TIMESTAMP,
+    archived_at  TIMESTAMP NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    data         JSONB     NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS project.submission_archive
+(
+    id           VARCHAR(36) PRIMARY KEY,
+    workspace_id VARCHAR(36),
+    deleted_at   TIMESTAMP,
+    archived_at  TIMESTAMP NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    data         JSONB     NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_archive_workspace_id ON project.project_archive (workspace_id);
+CREATE INDEX IF NOT EXISTS idx_project_role_archive_workspace_id ON project.project_role_archive (workspace_id);
+CREATE INDEX IF NOT EXISTS idx_application_archive_workspace_id ON project.application_archive (workspace_id);
+CREATE INDEX IF NOT EXISTS idx_submission_archive_workspace_id ON project.submission_archive (workspace_id);
@@ -0,0 +1,6 @@
+-- Rows soft deleted before V1.21 have a deleted_at left by the auditing listener, not the
+-- time of deletion; restart their retention now so the purge job does not archive them early
+UPDATE project.project SET deleted_at = now() AT TIME ZONE 'UTC' WHERE deleted = TRUE;
+UPDATE project.project_role SET deleted_at = now() AT TIME ZONE 'UTC' WHERE deleted = TRUE;
+UPDATE project.application SET deleted_at = now() AT TIME ZONE 'UTC' WHERE deleted = TRUE;
+UPDATE project.submission SET deleted_at = now() AT TIME ZONE 'UTC' WHERE deleted = TRUE;
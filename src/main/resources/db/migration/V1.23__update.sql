@@ -0,0 +1,27 @@
+-- Attaching a month's partition fails while the default partition holds rows of that
+-- month, so the month's table is created on its own, the rows are moved into it from
+-- the default partition, and only then is it attached, all in one transaction
+CREATE OR REPLACE FUNCTION project.create_submission_view_record_partition(p_month DATE)
+    RETURNS BOOLEAN
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end   DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name  TEXT := 'submission_view_record_p' || to_char(v_start, 'YYYYMM');
+BEGIN
+    IF to_regclass('project.' || v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE project.%I (LIKE project.submission_view_record INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                   v_name);
+    EXECUTE format('WITH moved AS (DELETE FROM project.submission_view_record_default '
+                       || 'WHERE viewed_at >= %L AND viewed_at < %L RETURNING *) '
+                       || 'INSERT INTO project.%I SELECT * FROM moved',
+                   v_start, v_end, v_name);
+    EXECUTE format('ALTER TABLE project.submission_view_record ATTACH PARTITION project.%I FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_start, v_end);
+    RETURN TRUE;
+END;
+$$;
@@ -0,0 +1,131 @@
+package com.ginkgooai.core.project.client.identity;
+
+import com.ginkgooai.core.project.client.identity.dto.UserInfoResponse;
+import com.ginkgooai.core.project.component.batch.BatchLoader;
+import com.ginkgooai.core.project.config.properties.UserDirectoryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+
+    @Mock
+    private IdentityClient identityClient;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic evictionTopic;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDirectory userDirectory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        BatchLoader<String, UserInfoResponse> userBatchLoader = new BatchLoader<>("identity-users",
+            ids -> identityClient.getUsersByIds(ids).getBody().stream()
+                .collect(Collectors.toMap(UserInfoResponse::getId, user -> user)),
+            Duration.ZERO, 2, Duration.ofSeconds(1), meterRegistry);
+        userDirectory = new UserDirectory(userBatchLoader, redisTemplate, redissonClient,
+            new UserDirectoryProperties(), meterRegistry);
+    }
+
+    @Test
+    void testGetUserMap_WhenCachedInRedis_DoesNotCallIdentity() {
+        // Arrange
+        UserInfoResponse user = UserInfoResponse.builder().id("u1").firstName("Ann").build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("identity:user:u1"))).thenReturn(Arrays.asList(user));
+
+        // Act
+        Map<String, UserInfoResponse> result = userDirectory.getUserMap(List.of("u1", "u1", ""));
+
+        // Assert
+        assertEquals(Map.of("u1", user), result);
+        verifyNoInteractions(identityClient);
+        assertEquals(1.0, meterRegistry.counter("user.directory.lookups", "result", "redis_hit").count());
+    }
+
+    @Test
+    void testGetUserMap_WhenMissing_FetchesInChunksAndCachesLocally() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null, null));
+        when(identityClient.getUsersByIds(List.of("u1", "u2")))
+            .thenReturn(ResponseEntity.ok(List.of(UserInfoResponse.builder().id("u1").build(),
+                UserInfoResponse.builder().id("u2").build())));
+        when(identityClient.getUsersByIds(List.of("u3")))
+            .thenReturn(ResponseEntity.ok(List.of(UserInfoResponse.builder().id("u3").build())));
+
+        // Act
+        Map<String, UserInfoResponse> first = userDirectory.getUserMap(List.of("u1", "u2", "u3"));
+        Map<String, UserInfoResponse> second = userDirectory.getUserMap(List.of("u1", "u2", "u3"));
+
+        // Assert
+        assertEquals(3, first.size());
+        assertEquals(first, second);
+        verify(identityClient, times(1)).getUsersByIds(List.of("u1", "u2"));
+        verify(identityClient, times(1)).getUsersByIds(List.of("u3"));
+        assertEquals(3.0, meterRegistry.counter("user.directory.lookups", "result", "local_hit").count());
+    }
+
+    @Test
+    void testGetUserMap_WhenIdentityFails_ReturnsEmptyMap() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((Object) null));
+        when(identityClient.getUsersByIds(anyList())).thenThrow(new RuntimeException("identity down"));
+
+        // Act
+        Map<String, UserInfoResponse> result = userDirectory.getUserMap(List.of("u1"));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(1.0, meterRegistry.counter("batch.loader.errors", "loader", "identity-users").count());
+    }
+
+    @Test
+    void testEvict_BroadcastsToOtherInstances() {
+        // Arrange
+        when(redissonClient.getTopic(eq("identity:user:evictions"), any())).thenReturn(evictionTopic);
+
+        // Act
+        userDirectory.evict("u1");
+
+        // Assert
+        verify(redisTemplate).delete("identity:user:u1");
+        verify(evictionTopic).publish(endsWith("|u1"));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.ginkgooai.core.project.client.storage;
+
+import com.ginkgooai.core.project.client.storage.dto.CloudFileResponse;
+import com.ginkgooai.core.project.component.batch.BatchLoader;
+import com.ginkgooai.core.project.config.properties.SideFileCacheProperties;
+import com.ginkgooai.core.project.config.security.CallerCredentials;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SideFileCacheTest {
+
+    private SideFileCache sideFileCache;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (sideFileCache != null) {
+            sideFileCache.shutdown();
+        }
+    }
+
+    @Test
+    void testGetAll_LoadsInTheBackgroundWithCallersCredentials() {
+        // Arrange
+        List<String> loadCredentials = new CopyOnWriteArrayList<>();
+        BatchLoader<String, CloudFileResponse> fileBatchLoader = new BatchLoader<>("test", ids -> {
+            loadCredentials.add(CallerCredentials.authorization());
+            return ids.stream().collect(Collectors.toMap(Function.identity(), SideFileCacheTest::file));
+        }, Duration.ZERO, 10, Duration.ofSeconds(5), CallerCredentials::authorization, new SimpleMeterRegistry());
+        SideFileCacheProperties properties = new SideFileCacheProperties();
+        properties.setColdLoadWait(Duration.ofSeconds(5));
+        sideFileCache = new SideFileCache(fileBatchLoader, properties, new SimpleMeterRegistry());
+        Jwt jwt = Jwt.withTokenValue("token-1").header("alg", "none").subject("user").build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+        // Act
+        Map<String, CloudFileResponse> files = sideFileCache.getAll(List.of("file-1", "file-2"));
+
+        // Assert
+        assertEquals(2, files.size());
+        assertEquals(List.of("Bearer token-1"), loadCredentials);
+    }
+
+    private static CloudFileResponse file(String id) {
+        return CloudFileResponse.builder().id(id).build();
+    }
+
+}
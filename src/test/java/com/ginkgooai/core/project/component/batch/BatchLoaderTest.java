@@ -0,0 +1,118 @@
+package com.ginkgooai.core.project.component.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchLoaderTest {
+
+    @Test
+    void testLoadAll_ConcurrentCallersWithinWindow_ShareOneBatch() throws Exception {
+        // Arrange
+        List<List<String>> calls = new CopyOnWriteArrayList<>();
+        BatchLoader<String, String> loader = new BatchLoader<>("test", keys -> {
+            calls.add(keys);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> key.toUpperCase()));
+        }, Duration.ofSeconds(2), 2, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<Map<String, String>> first = executor.submit(() -> loader.loadAll(List.of("a")));
+        Future<Map<String, String>> second = executor.submit(() -> loader.loadAll(List.of("b")));
+
+        // Assert
+        assertEquals(Map.of("a", "A"), first.get(5, TimeUnit.SECONDS));
+        assertEquals(Map.of("b", "B"), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.size());
+        assertEquals(Set.of("a", "b"), new HashSet<>(calls.get(0)));
+        executor.shutdown();
+    }
+
+    @Test
+    void testLoadAll_CallersWithDifferentScopes_GetSeparateBatches() throws Exception {
+        // Arrange
+        List<List<String>> calls = new CopyOnWriteArrayList<>();
+        ThreadLocal<String> credentials = new ThreadLocal<>();
+        BatchLoader<String, String> loader = new BatchLoader<>("test", keys -> {
+            calls.add(keys);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> credentials.get()));
+        }, Duration.ofMillis(500), 10, Duration.ofSeconds(5), credentials::get, new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<Map<String, String>> first = executor.submit(() -> {
+            credentials.set("token-1");
+            return loader.loadAll(List.of("a"));
+        });
+        Future<Map<String, String>> second = executor.submit(() -> {
+            credentials.set("token-2");
+            return loader.loadAll(List.of("a"));
+        });
+
+        // Assert
+        assertEquals(Map.of("a", "token-1"), first.get(5, TimeUnit.SECONDS));
+        assertEquals(Map.of("a", "token-2"), second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, calls.size());
+        executor.shutdown();
+    }
+
+    @Test
+    void testLoadAll_KeyAlreadyInFlight_IsSingleFlighted() throws Exception {
+        // Arrange
+        List<List<String>> calls = new CopyOnWriteArrayList<>();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BatchLoader<String, String> loader = new BatchLoader<>("test", keys -> {
+            calls.add(keys);
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> key.toUpperCase()));
+        }, Duration.ZERO, 10, Duration.ofSeconds(5), meterRegistry);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<Map<String, String>> first = executor.submit(() -> loader.loadAll(List.of("a")));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        Future<Map<String, String>> second = executor.submit(() -> loader.loadAll(List.of("a")));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter("batch.loader.keys", "loader", "test", "result", "coalesced").count() < 1
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals(Map.of("a", "A"), first.get(5, TimeUnit.SECONDS));
+        assertEquals(Map.of("a", "A"), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.size());
+        executor.shutdown();
+    }
+
+    @Test
+    void testLoadAll_WhenBatchFunctionFails_ReturnsEmptyResult() {
+        // Arrange
+        BatchLoader<String, String> loader = new BatchLoader<>("test", keys -> {
+            throw new IllegalStateException("remote down");
+        }, Duration.ZERO, 10, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        // Act
+        Map<String, String> result = loader.loadAll(List.of("a", "b"));
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.ginkgooai.core.project.component.concurrent;
+
+import com.ginkgooai.core.project.config.security.CallerCredentials;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedParallelTest {
+
+    @Test
+    void testMap_ReturnsOutcomesInItemOrder() {
+        // Arrange
+        List<Integer> items = List.of(5, 1, 3);
+
+        // Act
+        List<BoundedParallel.Outcome<String>> outcomes = BoundedParallel.map(items, 2, item -> {
+            sleep(item * 10L);
+            return "item-" + item;
+        });
+
+        // Assert
+        assertEquals(List.of("item-5", "item-1", "item-3"),
+            outcomes.stream().map(BoundedParallel.Outcome::getValue).toList());
+    }
+
+    @Test
+    void testMap_NeverExceedsConcurrency() {
+        // Arrange
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // Act
+        BoundedParallel.map(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), 3, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+            return item;
+        });
+
+        // Assert
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    void testMap_WhenTaskFails_OtherTasksStillSucceed() {
+        // Act
+        List<BoundedParallel.Outcome<Integer>> outcomes = BoundedParallel.map(List.of(1, 2, 3), 2, item -> {
+            if (item == 2) {
+                throw new IllegalStateException("remote down");
+            }
+            return item;
+        });
+
+        // Assert
+        assertTrue(outcomes.get(0).isSuccess());
+        assertFalse(outcomes.get(1).isSuccess());
+        assertEquals("remote down", outcomes.get(1).getError().getMessage());
+        assertEquals(3, outcomes.get(2).getValue());
+    }
+
+    @Test
+    void testMap_TasksRunWithCallersCredentials() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("token-1").header("alg", "none").subject("user").build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+        // Act
+        List<BoundedParallel.Outcome<String>> outcomes;
+        try {
+            outcomes = BoundedParallel.map(List.of(1, 2, 3), 2, item -> CallerCredentials.authorization());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        // Assert
+        assertEquals(List.of("Bearer token-1", "Bearer token-1", "Bearer token-1"),
+            outcomes.stream().map(BoundedParallel.Outcome::getValue).toList());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.ginkgooai.core.project.component.concurrent;
+
+import com.ginkgooai.core.common.constant.ContextsConstant;
+import com.ginkgooai.core.common.utils.ContextUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextSnapshotTest {
+
+    @AfterEach
+    void tearDown() {
+        ContextUtils.set(ContextsConstant.WORKSPACE_ID, null);
+        ContextUtils.set(ContextsConstant.USER_ID, null);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testWrap_TwoTasksOnOnePooledThread_SecondTaskDoesNotSeeFirstTasksContext() throws Exception {
+        // Arrange
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Authentication poolAuthentication = new TestingAuthenticationToken("pool", null);
+        pool.submit(() -> {
+            ContextUtils.set(ContextsConstant.WORKSPACE_ID, "ws-pool");
+            SecurityContextHolder.getContext().setAuthentication(poolAuthentication);
+        }).get();
+
+        Authentication callerAuthentication = new TestingAuthenticationToken("caller", null);
+        ContextUtils.set(ContextsConstant.WORKSPACE_ID, "ws-caller");
+        ContextUtils.set(ContextsConstant.USER_ID, "user-caller");
+        SecurityContextHolder.getContext().setAuthentication(callerAuthentication);
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+
+        // Act
+        String[] firstTask = new String[3];
+        pool.submit(snapshot.wrap(() -> {
+            firstTask[0] = ContextUtils.get(ContextsConstant.WORKSPACE_ID, String.class, null);
+            firstTask[1] = ContextUtils.get(ContextsConstant.USER_ID, String.class, null);
+            firstTask[2] = SecurityContextHolder.getContext().getAuthentication().getName();
+        })).get();
+        Object[] secondTask = pool.submit(() -> new Object[] {
+            ContextUtils.get(ContextsConstant.WORKSPACE_ID, String.class, null),
+            ContextUtils.get(ContextsConstant.USER_ID, String.class, null),
+            SecurityContextHolder.getContext().getAuthentication() }).get();
+        pool.shutdown();
+
+        // Assert
+        assertArrayEquals(new String[] {"ws-caller", "user-caller", "caller"}, firstTask);
+        assertEquals("ws-pool", secondTask[0]);
+        assertNull(secondTask[1]);
+        assertSame(poolAuthentication, secondTask[2]);
+        assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.ginkgooai.core.project.component.concurrent;
+
+import com.ginkgooai.core.project.config.security.CallerCredentials;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FanOutScopeTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testFork_SubtasksRunWithCallersCredentials() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("token-1").header("alg", "none").subject("user").build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+        // Act
+        String first;
+        String second;
+        try (FanOutScope scope = FanOutScope.open(Duration.ofSeconds(5))) {
+            FanOutScope.Subtask<String> firstTask = scope.fork(CallerCredentials::authorization);
+            FanOutScope.Subtask<String> secondTask = scope.fork(CallerCredentials::authorization);
+            scope.join();
+            first = firstTask.getOrDefault(null);
+            second = secondTask.getOrDefault(null);
+        }
+
+        // Assert
+        assertEquals("Bearer token-1", first);
+        assertEquals("Bearer token-1", second);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.ginkgooai.core.project.component.dashboard;
+
+import com.ginkgooai.core.project.domain.application.Application;
+import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import com.ginkgooai.core.project.domain.application.Submission;
+import com.ginkgooai.core.project.domain.role.ProjectRole;
+import com.ginkgooai.core.project.domain.role.RoleStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardCounterListenerTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private WorkspaceDashboardCounters dashboardCounters;
+
+    @Mock
+    private EntityPersister persister;
+
+    private DashboardCounterListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new DashboardCounterListener(entityManagerFactory, dashboardCounters);
+    }
+
+    @Test
+    void testOnPostUpdate_ApplicationSubmitted_IncrementsPendingReviews() {
+        // Arrange
+        Application application = Application.builder().workspaceId("ws-1").status(ApplicationStatus.SUBMITTED).build();
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getEntity()).thenReturn(application);
+        when(event.getPersister()).thenReturn(persister);
+        when(persister.getPropertyNames()).thenReturn(new String[] {"workspaceId", "status"});
+        when(event.getOldState()).thenReturn(new Object[] {"ws-1", ApplicationStatus.ADDED});
+        when(event.getState()).thenReturn(new Object[] {"ws-1", ApplicationStatus.SUBMITTED});
+
+        // Act
+        listener.onPostUpdate(event);
+
+        // Assert
+        verify(dashboardCounters).adjust("ws-1", DashboardCounter.PENDING_REVIEWS, 1);
+    }
+
+    @Test
+    void testOnPostUpdate_UnrelatedChange_LeavesCountersAlone() {
+        // Arrange
+        ProjectRole role = ProjectRole.builder().workspaceId("ws-1").status(RoleStatus.CASTING).build();
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getEntity()).thenReturn(role);
+        when(event.getPersister()).thenReturn(persister);
+        when(persister.getPropertyNames()).thenReturn(new String[] {"name", "status"});
+        when(event.getOldState()).thenReturn(new Object[] {"Lead", RoleStatus.DRAFTING});
+        when(event.getState()).thenReturn(new Object[] {"Lead", RoleStatus.CASTING});
+
+        // Act
+        listener.onPostUpdate(event);
+
+        // Assert
+        verify(dashboardCounters, never()).adjust(any(), any(), anyLong());
+    }
+
+    @Test
+    void testOnPostDelete_RoleToFill_DecrementsRolesToFill() {
+        // Arrange
+        ProjectRole role = ProjectRole.builder().workspaceId("ws-1").status(RoleStatus.CASTING).build();
+        PostDeleteEvent event = mock(PostDeleteEvent.class);
+        when(event.getEntity()).thenReturn(role);
+        when(event.getPersister()).thenReturn(persister);
+        when(persister.getPropertyNames()).thenReturn(new String[] {"status"});
+        when(event.getDeletedState()).thenReturn(new Object[] {RoleStatus.CASTING});
+
+        // Act
+        listener.onPostDelete(event);
+
+        // Assert
+        verify(dashboardCounters).adjust("ws-1", DashboardCounter.ROLES_TO_FILL, -1);
+    }
+
+    @Test
+    void testOnPostInsert_NewSubmission_IncrementsUnviewedVideos() {
+        // Arrange
+        PostInsertEvent event = mock(PostInsertEvent.class);
+        when(event.getEntity()).thenReturn(Submission.builder().workspaceId("ws-1").build());
+
+        // Act
+        listener.onPostInsert(event);
+
+        // Assert
+        verify(dashboardCounters).adjust("ws-1", DashboardCounter.UNVIEWED_VIDEOS, 1);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.ginkgooai.core.project.component.datasource;
+
+import com.ginkgooai.core.project.config.properties.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(replicaDataSource, new ReplicaDataSourceProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testCheck_LagWithinLimit_ReplicaAvailable() throws SQLException {
+        // Arrange
+        replicaReturnsLag(1.5);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertTrue(monitor.isAvailable());
+        assertEquals(1.5, monitor.getLagSeconds());
+        assertNull(monitor.getLastError());
+    }
+
+    @Test
+    void testCheck_LagAboveLimit_ReplicaUnavailable() throws SQLException {
+        // Arrange
+        replicaReturnsLag(30);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertFalse(monitor.isAvailable());
+        assertEquals(30, monitor.getLagSeconds());
+    }
+
+    @Test
+    void testCheck_ReplicaDown_ReplicaUnavailable() throws SQLException {
+        // Arrange
+        replicaReturnsLag(0);
+        monitor.check();
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertFalse(monitor.isAvailable());
+        assertTrue(Double.isNaN(monitor.getLagSeconds()));
+        assertEquals("Connection refused", monitor.getLastError());
+    }
+
+    @Test
+    void testIsAvailable_BeforeFirstCheck_ReturnsFalse() {
+        // Act & Assert
+        assertFalse(monitor.isAvailable());
+    }
+
+    private void replicaReturnsLag(double lagSeconds) throws SQLException {
+        when(replicaDataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.ginkgooai.core.project.component.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ginkgooai.core.project.domain.application.ApplicationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabularExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void testWrite_Csv_QuotesAndNeutralizesFormulas() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TabularExportWriter writer = new TabularExportWriter(ExportFormat.CSV, List.of("name", "status", "createdAt"),
+            out, objectMapper);
+
+        // Act
+        writer.write(new Object[] {"Doe, \"Jane\"", ApplicationStatus.ADDED, LocalDateTime.of(2025, 3, 1, 9, 30)});
+        writer.write(new Object[] {"=HYPERLINK(\"x\")", null, null});
+        writer.finish();
+
+        // Assert
+        assertEquals("name,status,createdAt\r\n"
+                + "\"Doe, \"\"Jane\"\"\",ADDED,2025-03-01T09:30:00\r\n"
+                + "\"'=HYPERLINK(\"\"x\"\")\",,\r\n",
+            out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWrite_Ndjson_WritesOneObjectPerLine() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TabularExportWriter writer = new TabularExportWriter(ExportFormat.NDJSON, List.of("id", "status"), out,
+            objectMapper);
+
+        // Act
+        writer.write(new Object[] {"a-1", ApplicationStatus.SUBMITTED});
+        writer.write(new Object[] {"a-2", null});
+        writer.finish();
+
+        // Assert
+        assertEquals("{\"id\":\"a-1\",\"status\":\"SUBMITTED\"}\n{\"id\":\"a-2\",\"status\":null}\n",
+            out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFinish_EmptyNdjson_WritesNothing() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TabularExportWriter writer = new TabularExportWriter(ExportFormat.NDJSON, List.of("id"), out, objectMapper);
+
+        // Act
+        writer.finish();
+
+        // Assert
+        assertEquals("", out.toString(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.ginkgooai.core.project.component.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTalentRowReaderTest {
+
+    @Test
+    void testNext_MapsHeaderAliasesAndIgnoresUnknownColumns() throws IOException {
+        // Arrange
+        CsvTalentRowReader reader = new CsvTalentRowReader(new StringReader(
+            "\uFEFFFirst Name,last_name,Agency,Email Address\r\nJane,Doe,Acme,jane@example.com\r\n"));
+
+        // Act
+        TalentImportRow row = reader.next();
+
+        // Assert
+        assertEquals("Jane", row.getFirstName());
+        assertEquals("Doe", row.getLastName());
+        assertEquals("jane@example.com", row.getEmail());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_ParsesQuotedFieldsAcrossLines() throws IOException {
+        // Arrange
+        CsvTalentRowReader reader = new CsvTalentRowReader(new StringReader(
+            "firstName,lastName\n\"Mary, Jr\",\"O\"\"Neil\nSmith\"\n\nJohn,Doe"));
+
+        // Act
+        TalentImportRow first = reader.next();
+        long firstLine = reader.line();
+        TalentImportRow second = reader.next();
+
+        // Assert
+        assertEquals("Mary, Jr", first.getFirstName());
+        assertEquals("O\"Neil\nSmith", first.getLastName());
+        assertEquals(3, firstLine);
+        assertEquals("John", second.getFirstName());
+        assertEquals(5, reader.line());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testConstructor_HeaderWithoutNameColumns_Throws() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new CsvTalentRowReader(new StringReader("email,agency\njane@example.com,Acme\n")));
+    }
+
+    @Test
+    void testNext_UnterminatedQuote_Throws() throws IOException {
+        // Arrange
+        CsvTalentRowReader reader = new CsvTalentRowReader(new StringReader("firstName\n\"Jane\n"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, reader::next);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.ginkgooai.core.project.component.importer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TalentBulkImporterTest {
+
+    @Test
+    void testAppendRow_EscapesValuesForCopy() {
+        // Arrange
+        StringBuilder buffer = new StringBuilder();
+        TalentImportRow row = TalentImportRow.builder()
+            .firstName(" Jane ")
+            .lastName("Doe\tSmith\\Jr")
+            .email("  ")
+            .build();
+
+        // Act
+        boolean appended = TalentBulkImporter.appendRow(buffer, 7, row);
+
+        // Assert
+        assertTrue(appended);
+        assertEquals("7\tJane\tDoe\\tSmith\\\\Jr\t\\N\t\\N\t\\N\t\\N\t\\N\n", buffer.toString());
+    }
+
+    @Test
+    void testAppendRow_SkipsRowsWithoutNameOrWithOverlongValues() {
+        // Arrange
+        StringBuilder buffer = new StringBuilder();
+
+        // Act & Assert
+        assertFalse(TalentBulkImporter.appendRow(buffer, 1,
+            TalentImportRow.builder().email("jane@example.com").build()));
+        assertFalse(TalentBulkImporter.appendRow(buffer, 2,
+            TalentImportRow.builder().firstName("Jane").email("a".repeat(256)).build()));
+        assertTrue(buffer.isEmpty());
+    }
+
+}
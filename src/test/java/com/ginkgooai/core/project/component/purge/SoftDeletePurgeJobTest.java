@@ -0,0 +1,96 @@
+package com.ginkgooai.core.project.component.purge;
+
+import com.ginkgooai.core.project.aspect.lock.DistributedLockService;
+import com.ginkgooai.core.project.config.properties.SoftDeletePurgeProperties;
+import com.ginkgooai.core.project.repository.ApplicationRepository;
+import com.ginkgooai.core.project.repository.ProjectRepository;
+import com.ginkgooai.core.project.repository.ProjectRoleRepository;
+import com.ginkgooai.core.project.repository.SubmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SoftDeletePurgeJobTest {
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ProjectRoleRepository projectRoleRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    private SoftDeletePurgeProperties properties;
+
+    private SoftDeletePurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SoftDeletePurgeProperties();
+        properties.setBatchSize(2);
+        job = new SoftDeletePurgeJob(submissionRepository, applicationRepository, projectRoleRepository,
+            projectRepository, distributedLockService, properties);
+    }
+
+    @Test
+    void testPurge_ArchivesChildrenBeforeParentsInBatches() {
+        // Arrange
+        when(distributedLockService.tryLock(anyString(), anyLong(), anyLong(), any())).thenReturn(true);
+        when(submissionRepository.archiveDeletedBefore(any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+
+        // Act
+        job.purge();
+
+        // Assert
+        InOrder inOrder = inOrder(submissionRepository, applicationRepository, projectRoleRepository,
+            projectRepository, distributedLockService);
+        inOrder.verify(submissionRepository, times(3)).archiveDeletedBefore(any(LocalDateTime.class), eq(2));
+        inOrder.verify(applicationRepository).archiveDeletedBefore(any(LocalDateTime.class), eq(2));
+        inOrder.verify(projectRoleRepository).archiveDeletedBefore(any(LocalDateTime.class), eq(2));
+        inOrder.verify(projectRepository).archiveDeletedBefore(any(LocalDateTime.class), eq(2));
+        inOrder.verify(distributedLockService).unlock(anyString());
+    }
+
+    @Test
+    void testPurge_LockHeldElsewhere_ArchivesNothing() {
+        // Arrange
+        when(distributedLockService.tryLock(anyString(), anyLong(), anyLong(), any())).thenReturn(false);
+
+        // Act
+        job.purge();
+
+        // Assert
+        verifyNoInteractions(submissionRepository, applicationRepository, projectRoleRepository, projectRepository);
+        verify(distributedLockService, never()).unlock(anyString());
+    }
+
+    @Test
+    void testPurge_NoRetention_KeepsEverything() {
+        // Arrange
+        properties.setRetention(Duration.ZERO);
+
+        // Act
+        job.purge();
+
+        // Assert
+        verifyNoInteractions(distributedLockService, submissionRepository, projectRepository);
+    }
+
+}
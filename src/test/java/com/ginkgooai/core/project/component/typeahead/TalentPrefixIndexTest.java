@@ -0,0 +1,78 @@
+package com.ginkgooai.core.project.component.typeahead;
+
+import com.ginkgooai.core.project.dto.response.TalentBasicResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TalentPrefixIndexTest {
+
+    private TalentPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TalentPrefixIndex(List.of(
+            talent("t-1", "Jane", "Doe-Smith", "jane.doe@example.com"),
+            talent("t-2", "John", "Doe", "jdoe@example.com"),
+            talent("t-3", "Mary", "Jones", null)));
+    }
+
+    @Test
+    void testSearch_MatchesPrefixOfAnyWord() {
+        assertEquals(List.of("t-1"), ids(index.search("smi", 10)));
+        assertEquals(List.of("t-3"), ids(index.search("JON", 10)));
+    }
+
+    @Test
+    void testSearch_EveryTermMustMatch() {
+        // Act
+        List<TalentBasicResponse> result = index.search("doe ja", 10);
+
+        // Assert
+        assertEquals(List.of("t-1"), ids(result));
+    }
+
+    @Test
+    void testSearch_MatchesWholeEmail() {
+        assertEquals(List.of("t-1"), ids(index.search("jane.doe@", 10)));
+    }
+
+    @Test
+    void testSearch_StopsAtLimit() {
+        assertEquals(1, index.search("doe", 1).size());
+        assertEquals(2, index.search("doe", 10).size());
+    }
+
+    @Test
+    void testPut_ReplacesPreviousTokens() {
+        // Act
+        index.put(talent("t-2", "Johnny", "Walker", "jdoe@example.com"));
+
+        // Assert
+        assertEquals(List.of("t-1"), ids(index.search("doe-", 10)));
+        assertEquals(List.of("t-2"), ids(index.search("walk", 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testRemove_DropsTalent() {
+        // Act
+        index.remove("t-3");
+
+        // Assert
+        assertTrue(index.search("mary", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    private static TalentBasicResponse talent(String id, String firstName, String lastName, String email) {
+        return TalentBasicResponse.builder().id(id).firstName(firstName).lastName(lastName).email(email).build();
+    }
+
+    private static List<String> ids(List<TalentBasicResponse> talents) {
+        return talents.stream().map(TalentBasicResponse::getId).toList();
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.ginkgooai.core.project.component.view;
+
+import com.ginkgooai.core.project.component.dashboard.DashboardCounter;
+import com.ginkgooai.core.project.component.dashboard.WorkspaceDashboardCounters;
+import com.ginkgooai.core.project.config.properties.SubmissionViewProperties;
+import com.ginkgooai.core.project.repository.SubmissionRepository;
+import com.ginkgooai.core.project.repository.projection.WorkspaceCountRow;
+import com.ginkgooai.core.project.repository.SubmissionViewRecordRepository;
+import com.ginkgooai.core.project.repository.SubmissionViewRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionViewBufferTest {
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private SubmissionViewRecordRepository viewRecordRepository;
+
+    @Mock
+    private SubmissionViewRollupRepository viewRollupRepository;
+
+    @Mock
+    private WorkspaceDashboardCounters dashboardCounters;
+
+    private SubmissionViewProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SubmissionViewBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SubmissionViewProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new SubmissionViewBuffer(submissionRepository, viewRecordRepository, viewRollupRepository,
+            dashboardCounters, properties, meterRegistry);
+    }
+
+    @Test
+    void testFlush_WritesAccumulatedCountsInOneStatement() throws InterruptedException {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            String submissionId = i % 2 == 0 ? "sub-1" : "sub-2";
+            executor.execute(() -> buffer.record("ws-1", submissionId, null, "10.0.0.1", true));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Act
+        buffer.flush();
+
+        // Assert
+        ArgumentCaptor<String[]> ids = ArgumentCaptor.forClass(String[].class);
+        ArgumentCaptor<String[]> workspaceIds = ArgumentCaptor.forClass(String[].class);
+        ArgumentCaptor<Long[]> deltas = ArgumentCaptor.forClass(Long[].class);
+        verify(submissionRepository).addViewCounts(ids.capture(), workspaceIds.capture(), deltas.capture());
+
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < ids.getValue().length; i++) {
+            counts.put(ids.getValue()[i], deltas.getValue()[i]);
+        }
+        assertEquals(Map.of("sub-1", 500L, "sub-2", 500L), counts);
+        assertArrayEquals(new String[] {"ws-1", "ws-1"}, workspaceIds.getValue());
+        verify(viewRecordRepository).insertAll(any(), any(), any(), any(), any());
+        verify(viewRollupRepository).addViews(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFlush_RepeatViewsOnlyFeedTheRollups() {
+        // Arrange
+        buffer.record("ws-1", "sub-1", "user-1", null, true);
+        buffer.record("ws-1", "sub-1", "user-1", null, false);
+        buffer.record("ws-1", "sub-1", "user-1", null, false);
+
+        // Act
+        buffer.flush();
+
+        // Assert
+        ArgumentCaptor<Long[]> views = ArgumentCaptor.forClass(Long[].class);
+        ArgumentCaptor<Long[]> uniqueViews = ArgumentCaptor.forClass(Long[].class);
+        verify(viewRollupRepository).addViews(any(), any(), any(), views.capture(), uniqueViews.capture());
+        assertArrayEquals(new Long[] {3L}, views.getValue());
+        assertArrayEquals(new Long[] {1L}, uniqueViews.getValue());
+
+        ArgumentCaptor<Long[]> deltas = ArgumentCaptor.forClass(Long[].class);
+        verify(submissionRepository).addViewCounts(any(), any(), deltas.capture());
+        assertArrayEquals(new Long[] {1L}, deltas.getValue());
+    }
+
+    @Test
+    void testFlush_FirstViewedSubmissions_DecrementUnviewedCounter() {
+        // Arrange
+        WorkspaceCountRow firstViewed = mock(WorkspaceCountRow.class);
+        when(firstViewed.getWorkspaceId()).thenReturn("ws-1");
+        when(firstViewed.getCount()).thenReturn(2L);
+        when(submissionRepository.addViewCounts(any(), any(), any())).thenReturn(List.of(firstViewed));
+        buffer.record("ws-1", "sub-1", "user-1", null, true);
+        buffer.record("ws-1", "sub-2", "user-1", null, true);
+
+        // Act
+        buffer.flush();
+
+        // Assert
+        verify(dashboardCounters).adjust("ws-1", DashboardCounter.UNVIEWED_VIDEOS, -2);
+    }
+
+    @Test
+    void testFlush_NothingBuffered_DoesNotTouchDatabase() {
+        // Act
+        buffer.flush();
+
+        // Assert
+        verifyNoInteractions(submissionRepository, viewRecordRepository, viewRollupRepository);
+    }
+
+    @Test
+    void testFlush_FailedUpdate_KeepsCountsForNextFlush() {
+        // Arrange
+        buffer.record("ws-1", "sub-1", null, null, true);
+        buffer.record("ws-1", "sub-1", null, null, true);
+        when(submissionRepository.addViewCounts(any(), any(), any()))
+            .thenThrow(new IllegalStateException("database down"))
+            .thenReturn(List.of());
+
+        // Act
+        buffer.flush();
+        buffer.record("ws-1", "sub-1", null, null, true);
+        buffer.flush();
+
+        // Assert
+        ArgumentCaptor<Long[]> deltas = ArgumentCaptor.forClass(Long[].class);
+        verify(submissionRepository, times(2)).addViewCounts(any(), any(), deltas.capture());
+        assertEquals(List.of(3L), List.of(deltas.getAllValues().get(1)));
+    }
+
+    @Test
+    void testRecord_FullBuffer_DropsViewRecordsButKeepsCounts() {
+        // Arrange
+        properties.setMaxPendingRecords(2);
+        buffer.record("ws-1", "sub-1", null, null, true);
+        buffer.record("ws-1", "sub-1", null, null, true);
+        buffer.record("ws-1", "sub-1", null, null, true);
+
+        // Act
+        buffer.flush();
+
+        // Assert
+        ArgumentCaptor<String[]> recordedIds = ArgumentCaptor.forClass(String[].class);
+        verify(viewRecordRepository).insertAll(recordedIds.capture(), any(), any(), any(), any());
+        assertEquals(2, recordedIds.getValue().length);
+        ArgumentCaptor<Long[]> deltas = ArgumentCaptor.forClass(Long[].class);
+        verify(submissionRepository).addViewCounts(any(), any(), deltas.capture());
+        assertArrayEquals(new Long[] {3L}, deltas.getValue());
+        assertEquals(1.0, meterRegistry.counter("submission.views.dropped", "reason", "overflow").count());
+    }
+
+    @Test
+    void testFlush_RepeatedlyFailingInsert_DropsViewRecordsAfterMaxAttempts() {
+        // Arrange
+        properties.setMaxRecordAttempts(2);
+        when(viewRecordRepository.insertAll(any(), any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("database down"));
+        buffer.record("ws-1", "sub-1", null, null, true);
+
+        // Act
+        buffer.flush();
+        buffer.flush();
+        buffer.flush();
+
+        // Assert
+        verify(viewRecordRepository, times(2)).insertAll(any(), any(), any(), any(), any());
+        assertEquals(1.0, meterRegistry.counter("submission.views.dropped", "reason", "attempts").count());
+    }
+
+    @Test
+    void testFlush_DroppedViewRecords_FreeRoomInTheBuffer() {
+        // Arrange
+        properties.setMaxPendingRecords(1);
+        properties.setMaxRecordAttempts(1);
+        when(viewRecordRepository.insertAll(any(), any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("database down"))
+            .thenReturn(1);
+        buffer.record("ws-1", "sub-1", null, null, true);
+        buffer.flush();
+
+        // Act
+        buffer.record("ws-1", "sub-2", null, null, true);
+        buffer.flush();
+
+        // Assert
+        ArgumentCaptor<String[]> recordedIds = ArgumentCaptor.forClass(String[].class);
+        verify(viewRecordRepository, times(2)).insertAll(recordedIds.capture(), any(), any(), any(), any());
+        assertArrayEquals(new String[] {"sub-2"}, recordedIds.getAllValues().get(1));
+        assertEquals(0.0, meterRegistry.counter("submission.views.dropped", "reason", "overflow").count());
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.ginkgooai.core.project.component.view;
+
+import com.ginkgooai.core.project.config.properties.SubmissionViewProperties;
+import com.ginkgooai.core.project.repository.SubmissionViewRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RHyperLogLog;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionViewDeduplicatorTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private SubmissionViewRecordRepository viewRecordRepository;
+
+    @Mock
+    private RBloomFilter<Object> bloomFilter;
+
+    @Mock
+    private RHyperLogLog<Object> hyperLogLog;
+
+    private SubmissionViewDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        SubmissionViewProperties properties = new SubmissionViewProperties();
+        properties.setExpectedViewers(1000);
+        deduplicator = new SubmissionViewDeduplicator(redissonClient, viewRecordRepository, properties);
+    }
+
+    @Test
+    void testIsFirstView_NewViewer_CountsWithoutDatabase() {
+        // Arrange
+        when(redissonClient.getBloomFilter(anyString())).thenReturn(bloomFilter);
+        when(redissonClient.getHyperLogLog(anyString())).thenReturn(hyperLogLog);
+        when(bloomFilter.add("u:user-1")).thenReturn(true);
+
+        // Act
+        boolean counted = deduplicator.isFirstView("sub-1", "user-1", "10.0.0.1");
+
+        // Assert
+        assertTrue(counted);
+        verify(hyperLogLog).add("u:user-1");
+        verifyNoInteractions(viewRecordRepository);
+    }
+
+    @Test
+    void testIsFirstView_NewFilter_SeededWithStoredViewers() {
+        // Arrange
+        List<String> viewers = List.of("u:user-1");
+        when(redissonClient.getBloomFilter(anyString())).thenReturn(bloomFilter);
+        when(redissonClient.getHyperLogLog(anyString())).thenReturn(hyperLogLog);
+        when(bloomFilter.tryInit(anyLong(), anyDouble())).thenReturn(true);
+        when(viewRecordRepository.findDistinctViewerKeys("sub-1")).thenReturn(viewers);
+        when(bloomFilter.add("u:user-1")).thenReturn(true, false);
+
+        // Act
+        boolean counted = deduplicator.isFirstView("sub-1", "user-1", null);
+
+        // Assert
+        assertFalse(counted);
+        verify(hyperLogLog).addAll(viewers);
+        verify(bloomFilter).expire(Duration.ofDays(30));
+        verify(hyperLogLog).expire(Duration.ofDays(30));
+    }
+
+    @Test
+    void testIsFirstView_AnonymousViewer_KeyedByIpAddress() {
+        // Arrange
+        when(redissonClient.getBloomFilter(anyString())).thenReturn(bloomFilter);
+        when(bloomFilter.add("ip:10.0.0.1")).thenReturn(false);
+
+        // Act
+        boolean counted = deduplicator.isFirstView("sub-1", null, "10.0.0.1");
+
+        // Assert
+        assertFalse(counted);
+        verify(redissonClient, never()).getHyperLogLog(anyString());
+    }
+
+    @Test
+    void testIsFirstView_RedisUnavailable_CountsTheView() {
+        // Arrange
+        when(redissonClient.getBloomFilter(anyString())).thenThrow(new IllegalArgumentException("connection refused"));
+
+        // Act & Assert
+        assertTrue(deduplicator.isFirstView("sub-1", "user-1", null));
+    }
+
+    @Test
+    void testRebuild_LoadsViewersFromRecords() {
+        // Arrange
+        List<String> viewers = List.of("u:user-1", "ip:10.0.0.1");
+        when(viewRecordRepository.findDistinctViewerKeys("sub-1")).thenReturn(viewers);
+        when(redissonClient.getBloomFilter(anyString())).thenReturn(bloomFilter);
+        when(redissonClient.getHyperLogLog(anyString())).thenReturn(hyperLogLog);
+
+        // Act
+        int loaded = deduplicator.rebuild("sub-1");
+
+        // Assert
+        assertEquals(2, loaded);
+        verify(bloomFilter).delete();
+        verify(bloomFilter).add("u:user-1");
+        verify(bloomFilter).add("ip:10.0.0.1");
+        verify(hyperLogLog).addAll(viewers);
+    }
+
+    @Test
+    void testViewerKey_PrefersUserOverIpAddress() {
+        assertEquals("u:user-1", SubmissionViewDeduplicator.viewerKey("user-1", "10.0.0.1"));
+        assertEquals("ip:10.0.0.1", SubmissionViewDeduplicator.viewerKey("", "10.0.0.1"));
+        assertNull(SubmissionViewDeduplicator.viewerKey(null, null));
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.ginkgooai.core.project.component.view;
+
+import com.ginkgooai.core.project.aspect.lock.DistributedLockService;
+import com.ginkgooai.core.project.config.properties.SubmissionViewProperties;
+import com.ginkgooai.core.project.repository.SubmissionViewRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionViewPartitionMaintainerTest {
+
+    @Mock
+    private SubmissionViewRecordRepository viewRecordRepository;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    private SubmissionViewPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new SubmissionViewPartitionMaintainer(viewRecordRepository, distributedLockService,
+            new SubmissionViewProperties());
+    }
+
+    @Test
+    void testMaintainPartitions_CreatesUpcomingMonthsAndDropsExpiredOnes() {
+        // Arrange
+        when(distributedLockService.tryLock(anyString(), eq(0L), anyLong(), eq(TimeUnit.MINUTES))).thenReturn(true);
+        when(viewRecordRepository.createPartition(any())).thenReturn(false);
+        when(viewRecordRepository.detachPartitionsBefore(any(), anyBoolean()))
+            .thenReturn(List.of("submission_view_record_p202401"));
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+
+        // Act
+        maintainer.maintainPartitions();
+
+        // Assert
+        for (int i = 0; i <= 3; i++) {
+            verify(viewRecordRepository).createPartition(month.plusMonths(i));
+        }
+        verify(viewRecordRepository).detachPartitionsBefore(LocalDate.now().minusDays(90), true);
+        verify(distributedLockService).unlock(anyString());
+    }
+
+    @Test
+    void testMaintainPartitions_MonthFailsToAttach_OtherMonthsAndExpiryStillRun() {
+        // Arrange
+        when(distributedLockService.tryLock(anyString(), eq(0L), anyLong(), eq(TimeUnit.MINUTES))).thenReturn(true);
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        when(viewRecordRepository.createPartition(any())).thenReturn(true);
+        when(viewRecordRepository.createPartition(month.plusMonths(1)))
+            .thenThrow(new DataIntegrityViolationException("default partition has rows for this month"));
+        when(viewRecordRepository.detachPartitionsBefore(any(), anyBoolean())).thenReturn(List.of());
+
+        // Act
+        maintainer.maintainPartitions();
+
+        // Assert
+        verify(viewRecordRepository).createPartition(month.plusMonths(2));
+        verify(viewRecordRepository).createPartition(month.plusMonths(3));
+        verify(viewRecordRepository).detachPartitionsBefore(LocalDate.now().minusDays(90), true);
+        verify(distributedLockService).unlock(anyString());
+    }
+
+    @Test
+    void testMaintainPartitions_LockHeldElsewhere_DoesNothing() {
+        // Arrange
+        when(distributedLockService.tryLock(anyString(), anyLong(), anyLong(), any())).thenReturn(false);
+
+        // Act
+        maintainer.maintainPartitions();
+
+        // Assert
+        verifyNoInteractions(viewRecordRepository);
+        verify(distributedLockService, never()).unlock(anyString());
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.ginkgooai.core.project.config.datasource;
+
+import com.ginkgooai.core.project.component.datasource.ReplicaLagMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaDataSourceConfigTest {
+
+    @Mock
+    private DataSource primaryDataSource;
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReplicaDataSourceConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new ReplicaDataSourceConfig();
+    }
+
+    /**
+     * The path of ProjectWriteServiceImpl.patchRole: a repository lookup in its own
+     * read-only transaction, then a save in a read-write one, within the same request.
+     */
+    @Test
+    void testReadOnlyLookupThenWrite_WriteGoesToPrimary() throws SQLException {
+        // Arrange
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        DataSource dataSource = config.dataSource(primaryDataSource, replicaDataSource, lagMonitor,
+            new SimpleMeterRegistry());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // Act
+        readOnly.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Object>) Connection::createStatement));
+        readWrite.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Object>) Connection::createStatement));
+
+        // Assert
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection).createStatement();
+    }
+
+    @Test
+    void testConnectionReleaseCustomizer_ReleasesConnectionsAfterEachTransaction() {
+        // Arrange
+        Map<String, Object> properties = new HashMap<>();
+
+        // Act
+        config.connectionReleaseCustomizer().customize(properties);
+
+        // Assert
+        assertEquals(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION,
+            properties.get(AvailableSettings.CONNECTION_HANDLING));
+    }
+
+}
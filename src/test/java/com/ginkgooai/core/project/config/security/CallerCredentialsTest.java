@@ -0,0 +1,70 @@
+package com.ginkgooai.core.project.config.security;
+
+import com.ginkgooai.core.project.component.batch.BatchLoader;
+import com.ginkgooai.core.project.component.concurrent.ContextSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CallerCredentialsTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testAuthorization_NoAuthenticatedCaller_ReturnsNull() {
+        // Act & Assert
+        assertNull(CallerCredentials.authorization());
+    }
+
+    @Test
+    void testLoadAll_LookupsFromForkedThreads_KeepTheirCallersScopeAndCredentials() throws Exception {
+        // Arrange
+        Map<String, Set<String>> batchesByCredentials = new ConcurrentHashMap<>();
+        BatchLoader<String, String> loader = new BatchLoader<>("test", keys -> {
+            batchesByCredentials.put(CallerCredentials.authorization(), new HashSet<>(keys));
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> key.toUpperCase()));
+        }, Duration.ofMillis(500), 10, Duration.ofSeconds(5), CallerCredentials::authorization,
+                new SimpleMeterRegistry());
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        Executor forked = ContextSnapshot.wrap(pool);
+
+        // Act
+        authenticate("token-1");
+        CompletableFuture<Map<String, String>> first = CompletableFuture.supplyAsync(() -> loader.loadAll(List.of("a")),
+                forked);
+        CompletableFuture<Map<String, String>> second = CompletableFuture.supplyAsync(() -> loader.loadAll(List.of("b")),
+                forked);
+        authenticate("token-2");
+        CompletableFuture<Map<String, String>> third = CompletableFuture.supplyAsync(() -> loader.loadAll(List.of("c")),
+                forked);
+
+        // Assert
+        assertEquals(Map.of("a", "A"), first.get(5, TimeUnit.SECONDS));
+        assertEquals(Map.of("b", "B"), second.get(5, TimeUnit.SECONDS));
+        assertEquals(Map.of("c", "C"), third.get(5, TimeUnit.SECONDS));
+        assertEquals(Map.of("Bearer token-1", Set.of("a", "b"), "Bearer token-2", Set.of("c")), batchesByCredentials);
+        pool.shutdown();
+    }
+
+    private static void authenticate(String tokenValue) {
+        Jwt jwt = Jwt.withTokenValue(tokenValue).header("alg", "none").subject("user").build();
+        SecurityContextHolder.clearContext();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.ginkgooai.core.project.repository;
+
+import com.ginkgooai.core.project.domain.application.SubmissionViewRollup;
+import com.ginkgooai.core.project.domain.project.Project;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.jpa.repository.Query;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A soft deleted project may only be archived once nothing in the live tables refers to
+ * it any more, so its archive query has to check every table holding a project id.
+ */
+class ArchiveQueryGuardsTest {
+
+    /**
+     * View rollups keep the project id for reporting only and expire with their own
+     * retention.
+     */
+    private static final Set<Class<?>> UNGUARDED = Set.of(SubmissionViewRollup.class);
+
+    @Test
+    void testProjectArchive_GuardsEveryTableReferringToProjects() throws Exception {
+        // Arrange
+        String archiveQuery = ProjectRepository.class
+            .getMethod("archiveDeletedBefore", LocalDateTime.class, int.class)
+            .getAnnotation(Query.class)
+            .value();
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+
+        // Act & Assert
+        int referringTables = 0;
+        for (BeanDefinition candidate : scanner.findCandidateComponents("com.ginkgooai.core.project.domain")) {
+            Class<?> entity = Class.forName(candidate.getBeanClassName());
+            if (!refersToProject(entity) || UNGUARDED.contains(entity)) {
+                continue;
+            }
+            referringTables++;
+            String table = entity.getAnnotation(Table.class).name();
+            assertTrue(archiveQuery.contains("FROM project." + table + " c WHERE c.project_id = t.id"),
+                "archiving projects does not check " + table);
+        }
+        assertTrue(referringTables > 0);
+    }
+
+    private static boolean refersToProject(Class<?> entity) {
+        return Arrays.stream(entity.getDeclaredFields())
+            .anyMatch(field -> field.getType() == Project.class || isProjectId(field));
+    }
+
+    private static boolean isProjectId(Field field) {
+        return field.getType() == String.class && field.getName().equals("projectId");
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.ginkgooai.core.project.repository;
+
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hibernate evicts every second-level cache region when a native statement runs
+ * without query spaces, so each native modifying query has to name the tables it
+ * writes.
+ */
+class NativeQuerySpacesTest {
+
+    private static final String SCHEMA = "project.";
+
+    @Test
+    void testNativeModifyingQueries_DeclareTheirQuerySpaces() throws ClassNotFoundException {
+        // Arrange
+        List<Method> nativeModifyingQueries = new ArrayList<>();
+        for (Class<?> repository : scan(repositoryScanner(), NativeQuerySpacesTest.class.getPackageName())) {
+            for (Method method : repository.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query != null && query.nativeQuery() && method.isAnnotationPresent(Modifying.class)) {
+                    nativeModifyingQueries.add(method);
+                }
+            }
+        }
+
+        // Act & Assert
+        assertFalse(nativeModifyingQueries.isEmpty());
+        for (Method method : nativeModifyingQueries) {
+            assertFalse(querySpaces(method).isEmpty(),
+                method.getDeclaringClass().getSimpleName() + "." + method.getName() + " has no query spaces");
+        }
+    }
+
+    @Test
+    void testViewFlushQueries_LeaveCachedRegionsAlone() throws ClassNotFoundException {
+        // Arrange
+        Set<String> cachedTables = scan(cachedEntityScanner(), "com.ginkgooai.core.project.domain").stream()
+            .map(entity -> SCHEMA + entity.getAnnotation(Table.class).name())
+            .collect(Collectors.toSet());
+
+        // Act
+        Set<String> flushSpaces = new HashSet<>();
+        flushSpaces.addAll(querySpaces(method(SubmissionViewRecordRepository.class, "insertAll")));
+        flushSpaces.addAll(querySpaces(method(SubmissionViewRollupRepository.class, "addViews")));
+
+        // Assert
+        assertTrue(cachedTables.contains(SCHEMA + "project"));
+        assertFalse(flushSpaces.isEmpty());
+        flushSpaces.forEach(space -> assertFalse(cachedTables.contains(space), space + " is a cached entity table"));
+    }
+
+    private static Set<String> querySpaces(Method method) {
+        QueryHints hints = method.getAnnotation(QueryHints.class);
+        if (hints == null) {
+            return Set.of();
+        }
+        return Arrays.stream(hints.value())
+            .filter(hint -> HibernateHints.HINT_NATIVE_SPACES.equals(hint.name()))
+            .map(QueryHint::value)
+            .collect(Collectors.toSet());
+    }
+
+    private static Method method(Class<?> repository, String name) {
+        return Arrays.stream(repository.getDeclaredMethods())
+            .filter(method -> method.getName().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static List<Class<?>> scan(ClassPathScanningCandidateComponentProvider scanner, String basePackage)
+        throws ClassNotFoundException {
+        List<Class<?>> classes = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            classes.add(Class.forName(candidate.getBeanClassName()));
+        }
+        return classes;
+    }
+
+    private static ClassPathScanningCandidateComponentProvider repositoryScanner() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+        return scanner;
+    }
+
+    private static ClassPathScanningCandidateComponentProvider cachedEntityScanner() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Cache.class));
+        return scanner;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.ginkgooai.core.project.repository;
+
+import com.ginkgooai.core.project.domain.application.ShortlistItem;
+import com.ginkgooai.core.project.repository.specification.ShortlistItemSpecification;
+import com.ginkgooai.core.project.repository.support.IdPageQuery;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the two-phase shortlist item paging against the database, recording the SQL
+ * Hibernate issues, to check that the page is cut in SQL rather than in memory.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.ginkgooai.core.project.repository.ShortlistItemPagingJpaTest$RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class ShortlistItemPagingJpaTest {
+
+    /**
+     * Logged by Hibernate when it applies firstResult/maxResults in memory because the
+     * query fetches a collection.
+     */
+    private static final String IN_MEMORY_PAGINATION_WARNING = "HHH90003004";
+
+    @Autowired
+    private IdPageQuery idPageQuery;
+
+    @Autowired
+    private ShortlistItemRepository shortlistItemRepository;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void testIdPage_IsLimitedInSqlAndHydratedWithoutInMemoryPagination(CapturedOutput output) {
+        // Arrange
+        PageRequest pageable = PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // Act
+        Page<String> idPage = idPageQuery.findIds(ShortlistItem.class,
+            ShortlistItemSpecification.matchingFilters("ws-1", "shortlist-1", "take", null, null, null, null),
+            pageable);
+        shortlistItemRepository.findWithDetailsByIdIn(List.of("item-1", "item-2"));
+
+        // Assert
+        assertTrue(idPage.isEmpty());
+        String idQuery = RecordingStatementInspector.STATEMENTS.stream()
+            .map(sql -> sql.toLowerCase(Locale.ROOT))
+            .filter(sql -> sql.contains("shortlist_item") && sql.contains("order by"))
+            .findFirst()
+            .orElseThrow();
+        assertTrue(idQuery.contains("offset"), idQuery);
+        assertTrue(idQuery.contains("fetch first") || idQuery.contains("limit"), idQuery);
+        assertFalse(output.getAll().contains(IN_MEMORY_PAGINATION_WARNING));
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+    /**
+     * The application class also enables Feign clients, which this slice does not
+     * provide, so only the entities, repositories and the id page query are set up.
+     */
+    @Configuration
+    @EntityScan("com.ginkgooai.core.project.domain")
+    @EnableJpaRepositories("com.ginkgooai.core.project.repository")
+    @Import(IdPageQuery.class)
+    static class JpaConfig {
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.ginkgooai.core.project.repository.support;
+
+import com.ginkgooai.core.project.domain.application.Application;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IdPageQueryTest {
+
+    @Test
+    void testInIdOrder_RestoresPageOrderAndSkipsMissing() {
+        // Arrange
+        List<Application> loaded = List.of(application("b"), application("c"), application("a"));
+
+        // Act
+        List<Application> result = IdPageQuery.inIdOrder(List.of("c", "x", "a", "b"), loaded, Application::getId);
+
+        // Assert
+        assertEquals(List.of("c", "a", "b"), result.stream().map(Application::getId).toList());
+    }
+
+    private static Application application(String id) {
+        return Application.builder().id(id).build();
+    }
+
+}
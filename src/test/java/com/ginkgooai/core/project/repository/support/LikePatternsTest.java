@@ -0,0 +1,25 @@
+package com.ginkgooai.core.project.repository.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LikePatternsTest {
+
+    @Test
+    void testContains_LowerCasesAndTrimsKeyword() {
+        assertEquals("%jane doe%", LikePatterns.contains("  Jane Doe "));
+    }
+
+    @Test
+    void testContains_EscapesWildcards() {
+        assertEquals("%50\\%\\_off\\\\%", LikePatterns.contains("50%_off\\"));
+    }
+
+    @Test
+    void testContains_BlankKeyword_ReturnsNull() {
+        assertNull(LikePatterns.contains(null));
+        assertNull(LikePatterns.contains("   "));
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.ginkgooai.core.project.repository.support;
+
+import com.ginkgooai.core.project.domain.application.Application;
+import com.ginkgooai.core.project.exception.InvalidRequestException;
+import com.ginkgooai.core.project.repository.ApplicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScrollCursorCodecTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Metamodel metamodel;
+
+    @Mock
+    private ManagedType<Application> applicationType;
+
+    @Mock
+    private Attribute<Application, LocalDateTime> createdAtAttribute;
+
+    @Mock
+    private Attribute<Application, String> idAttribute;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    private ScrollCursorCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new ScrollCursorCodec(entityManager);
+    }
+
+    @Test
+    void testEncodeDecode_RoundTripsKeysWithFullPrecision() {
+        // Arrange
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        doReturn(applicationType).when(metamodel).managedType(Application.class);
+        doReturn(createdAtAttribute).when(applicationType).getAttribute("createdAt");
+        doReturn(idAttribute).when(applicationType).getAttribute("id");
+        doReturn(LocalDateTime.class).when(createdAtAttribute).getJavaType();
+        doReturn(String.class).when(idAttribute).getJavaType();
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123456000));
+        keys.put("id", "a&b=c");
+        Window<String> window = Window.from(List.of("first", "last"), index -> ScrollPosition.forward(keys), true);
+
+        // Act
+        String token = codec.encode(window);
+        ScrollPosition position = codec.decode(token, Application.class, Sort.by("createdAt", "id"));
+
+        // Assert
+        assertInstanceOf(KeysetScrollPosition.class, position);
+        assertEquals(keys, ((KeysetScrollPosition) position).getKeys());
+    }
+
+    @Test
+    void testEncodeDecode_RoundTripsNullKeys() {
+        // Arrange
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        doReturn(applicationType).when(metamodel).managedType(Application.class);
+        doReturn(idAttribute).when(applicationType).getAttribute("id");
+        doReturn(String.class).when(idAttribute).getJavaType();
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("role.name", null);
+        keys.put("id", "app-1");
+        Window<String> window = Window.from(List.of("first", "last"), index -> ScrollPosition.forward(keys), true);
+
+        // Act
+        String token = codec.encode(window);
+        ScrollPosition position = codec.decode(token, Application.class, Sort.by("role.name", "id"));
+
+        // Assert
+        assertEquals(keys, ((KeysetScrollPosition) position).getKeys());
+    }
+
+    @Test
+    void testDecode_TokenOfAnotherSort_Throws() {
+        // Arrange
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        doReturn(applicationType).when(metamodel).managedType(Application.class);
+        doReturn(createdAtAttribute).when(applicationType).getAttribute("createdAt");
+        doReturn(idAttribute).when(applicationType).getAttribute("id");
+        doReturn(LocalDateTime.class).when(createdAtAttribute).getJavaType();
+        doReturn(String.class).when(idAttribute).getJavaType();
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", LocalDateTime.of(2025, 3, 1, 10, 15));
+        keys.put("id", "app-1");
+        String token = codec.encode(Window.from(List.of("first", "last"), index -> ScrollPosition.forward(keys), true));
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class,
+            () -> codec.decode(token, Application.class, Sort.by("role.name", "id")));
+    }
+
+    @Test
+    void testScroll_LastEntityWithoutRole_PositionHoldsNullKey() {
+        // Arrange
+        Application first = Application.builder().id("app-1").build();
+        Application second = Application.builder().id("app-2").build();
+        Application extra = Application.builder().id("app-3").build();
+        when(applicationRepository.findBy(any(Specification.class), any())).thenReturn(List.of(first, second, extra));
+
+        // Act
+        Window<Application> window = codec.scroll(applicationRepository, Application.class, null,
+            Sort.by("role.name"), 2, null);
+
+        // Assert
+        assertEquals(List.of(first, second), window.getContent());
+        assertTrue(window.hasNext());
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("role.name", null);
+        keys.put("id", "app-2");
+        assertEquals(keys, ((KeysetScrollPosition) window.positionAt(1)).getKeys());
+    }
+
+    @Test
+    void testEncode_LastWindow_ReturnsNull() {
+        // Arrange
+        Window<String> window = Window.from(List.of("only"), index -> ScrollPosition.forward(Map.of("id", "x")), false);
+
+        // Act & Assert
+        assertNull(codec.encode(window));
+    }
+
+    @Test
+    void testDecode_BlankToken_StartsFromBeginning() {
+        // Act
+        ScrollPosition position = codec.decode(null, Application.class, Sort.by("id"));
+
+        // Assert
+        assertTrue(position.isInitial());
+    }
+
+    @Test
+    void testDecode_MalformedToken_Throws() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> codec.decode("not a cursor!", Application.class, Sort.by("id")));
+    }
+
+    @Test
+    void testWindowSize_ClampsRequestedSize() {
+        // Act & Assert
+        assertEquals(1, codec.windowSize(0));
+        assertEquals(10, codec.windowSize(10));
+        assertEquals(ScrollCursorCodec.MAX_WINDOW_SIZE, codec.windowSize(100_000));
+    }
+
+}
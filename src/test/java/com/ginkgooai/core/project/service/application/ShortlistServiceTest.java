@@ -0,0 +1,180 @@
+package com.ginkgooai.core.project.service.application;
+
+import com.ginkgooai.core.common.utils.ContextUtils;
+import com.ginkgooai.core.project.client.identity.GuestProfileUpdater;
+import com.ginkgooai.core.project.client.identity.IdentityClient;
+import com.ginkgooai.core.project.client.identity.UserDirectory;
+import com.ginkgooai.core.project.domain.application.Shortlist;
+import com.ginkgooai.core.project.domain.application.ShortlistItem;
+import com.ginkgooai.core.project.dto.response.ShortlistItemResponse;
+import com.ginkgooai.core.project.repository.*;
+import com.ginkgooai.core.project.repository.specification.ShortlistItemSpecification;
+import com.ginkgooai.core.project.repository.support.IdPageQuery;
+import com.ginkgooai.core.project.repository.support.ScrollCursorCodec;
+import com.ginkgooai.core.project.service.ActivityLoggerService;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShortlistServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ShortlistRepository shortlistRepository;
+
+    @Mock
+    private ShortlistItemRepository shortlistItemRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private ShortlistShareRepository shortlistShareRepository;
+
+    @Mock
+    private IdentityClient identityClient;
+
+    @Mock
+    private UserDirectory userDirectory;
+
+    @Mock
+    private GuestProfileUpdater guestProfileUpdater;
+
+    @Mock
+    private ActivityLoggerService activityLogger;
+
+    @Mock
+    private SendEmailInnerService sendEmailInnerService;
+
+    @Mock
+    private ScrollCursorCodec scrollCursorCodec;
+
+    @Mock
+    private IdPageQuery idPageQuery;
+
+    private MockedStatic<ContextUtils> contextUtilsMockedStatic;
+
+    private ShortlistService shortlistService;
+
+    @BeforeEach
+    void setUp() {
+        contextUtilsMockedStatic = mockStatic(ContextUtils.class);
+
+        shortlistService = new ShortlistService(projectRepository, shortlistRepository, shortlistItemRepository,
+            submissionRepository, shortlistShareRepository, identityClient, userDirectory, guestProfileUpdater,
+            activityLogger, sendEmailInnerService, scrollCursorCodec, idPageQuery, "http://guest",
+            "http://app", 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contextUtilsMockedStatic.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testListShortlistItemsByShortlistId_PagesIdsInSqlAndHydratesOnlyThatPage() {
+        // Arrange
+        contextUtilsMockedStatic.when(ContextUtils::getUserId).thenReturn("user-1");
+        Pageable pageable = PageRequest.of(3, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        List<String> pageIds = List.of("item-7", "item-8");
+        when(shortlistRepository.findById("shortlist-1")).thenReturn(Optional.of(shortlist()));
+        when(idPageQuery.findIds(eq(ShortlistItem.class), any(Specification.class), eq(pageable)))
+            .thenReturn(new PageImpl<>(pageIds, pageable, 500));
+        when(shortlistItemRepository.findWithDetailsByIdIn(pageIds)).thenReturn(List.of());
+
+        // Act
+        Page<ShortlistItemResponse> result = shortlistService.listShortlistItemsByShortlistId("shortlist-1",
+            "take", null, null, null, null, pageable);
+
+        // Assert
+        assertEquals(500, result.getTotalElements());
+        verify(shortlistItemRepository).findWithDetailsByIdIn(pageIds);
+        verify(shortlistItemRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verify(shortlistItemRepository, never()).findAll(any(Specification.class));
+    }
+
+    @Test
+    void testListShortlistItemsByShortlistId_EmptyIdPage_LoadsNothing() {
+        // Arrange
+        contextUtilsMockedStatic.when(ContextUtils::getUserId).thenReturn("user-1");
+        Pageable pageable = PageRequest.of(0, 10);
+        when(shortlistRepository.findById("shortlist-1")).thenReturn(Optional.of(shortlist()));
+        when(idPageQuery.findIds(eq(ShortlistItem.class), any(), eq(pageable)))
+            .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        // Act
+        Page<ShortlistItemResponse> result = shortlistService.listShortlistItemsByShortlistId("shortlist-1",
+            null, null, null, null, null, pageable);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(shortlistItemRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMatchingFilters_DoesNotFetchJoinOrDeduplicate() {
+        // Arrange
+        Root<ShortlistItem> root = mock(Root.class, RETURNS_DEEP_STUBS);
+        CriteriaQuery<Object> query = mock(CriteriaQuery.class, RETURNS_DEEP_STUBS);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_DEEP_STUBS);
+
+        // Act
+        ShortlistItemSpecification.matchingFilters("ws-1", "shortlist-1", "take", "role-1", null, null, "talent-1")
+            .toPredicate(root, query, cb);
+
+        // Assert
+        verify(root, never()).fetch(anyString());
+        verify(root, never()).fetch(anyString(), any(JoinType.class));
+        verify(root, never()).join(eq("submissions"));
+        verify(root, never()).join(eq("submissions"), any(JoinType.class));
+        verify(query, never()).distinct(anyBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMatchingFilters_KeywordSubqueriesAreLimitedToTheWorkspace() {
+        // Arrange
+        Root<ShortlistItem> root = mock(Root.class, RETURNS_DEEP_STUBS);
+        CriteriaQuery<Object> query = mock(CriteriaQuery.class, RETURNS_DEEP_STUBS);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_DEEP_STUBS);
+
+        // Act
+        ShortlistItemSpecification.matchingFilters("ws-1", "shortlist-1", "take", null, null, null, null)
+            .toPredicate(root, query, cb);
+
+        // Assert
+        verify(cb, times(2)).equal(any(), eq("ws-1"));
+    }
+
+    private static Shortlist shortlist() {
+        return Shortlist.builder().id("shortlist-1").workspaceId("ws-1").build();
+    }
+
+}
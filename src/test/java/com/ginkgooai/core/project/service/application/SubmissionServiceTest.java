@@ -0,0 +1,105 @@
+package com.ginkgooai.core.project.service.application;
+
+import com.ginkgooai.core.common.exception.ResourceNotFoundException;
+import com.ginkgooai.core.common.utils.ContextUtils;
+import com.ginkgooai.core.project.client.identity.IdentityClient;
+import com.ginkgooai.core.project.client.identity.UserDirectory;
+import com.ginkgooai.core.project.client.storage.StorageClient;
+import com.ginkgooai.core.project.component.view.SubmissionViewBuffer;
+import com.ginkgooai.core.project.component.view.SubmissionViewDeduplicator;
+import com.ginkgooai.core.project.repository.*;
+import com.ginkgooai.core.project.service.ActivityLoggerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private ShortlistItemRepository shortlistItemRepository;
+
+    @Mock
+    private SubmissionCommentRepository submissionCommentRepository;
+
+    @Mock
+    private StorageClient storageClient;
+
+    @Mock
+    private IdentityClient identityClient;
+
+    @Mock
+    private UserDirectory userDirectory;
+
+    @Mock
+    private ActivityLoggerService activityLogger;
+
+    @Mock
+    private SendEmailInnerService sendEmailInnerService;
+
+    @Mock
+    private TalentRepository talentRepository;
+
+    @Mock
+    private SubmissionViewBuffer submissionViewBuffer;
+
+    @Mock
+    private SubmissionViewDeduplicator submissionViewDeduplicator;
+
+    private MockedStatic<ContextUtils> contextUtilsMockedStatic;
+
+    private SubmissionService submissionService;
+
+    @BeforeEach
+    void setUp() {
+        contextUtilsMockedStatic = mockStatic(ContextUtils.class);
+        contextUtilsMockedStatic.when(ContextUtils::getWorkspaceId).thenReturn("ws-1");
+
+        submissionService = new SubmissionService(applicationRepository, submissionRepository, shortlistItemRepository,
+            submissionCommentRepository, storageClient, identityClient, userDirectory, activityLogger,
+            sendEmailInnerService, talentRepository, submissionViewBuffer, submissionViewDeduplicator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contextUtilsMockedStatic.close();
+    }
+
+    @Test
+    void testIncrementViewCount_UnknownSubmission_ThrowsWithoutTrackingTheViewer() {
+        // Arrange
+        when(submissionRepository.existsByIdAndWorkspaceId("missing", "ws-1")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+            () -> submissionService.incrementViewCount("missing", "user-1", "10.0.0.1"));
+        verifyNoInteractions(submissionViewDeduplicator, submissionViewBuffer);
+    }
+
+    @Test
+    void testIncrementViewCount_ExistingSubmission_BuffersTheView() {
+        // Arrange
+        when(submissionRepository.existsByIdAndWorkspaceId("sub-1", "ws-1")).thenReturn(true);
+        when(submissionViewDeduplicator.isFirstView("sub-1", "user-1", "10.0.0.1")).thenReturn(true);
+
+        // Act
+        submissionService.incrementViewCount("sub-1", "user-1", "10.0.0.1");
+
+        // Assert
+        verify(submissionViewBuffer).record("ws-1", "sub-1", "user-1", "10.0.0.1", true);
+    }
+
+}